@@ -0,0 +1,71 @@
+package com.amumal.community.domain.post.dto.response;
+
+import com.amumal.community.global.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 게시글 목록/상세 응답의 Jackson 직렬화 비용 (스프링 부트 기본 설정과 동일하게 날짜는 ISO 문자열)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseSerializationBenchmark {
+
+    @Param({"10"})
+    private int pageSize;
+
+    @Param({"20"})
+    private int commentCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PostResponse> postListResponse;
+    private ApiResponse<PostDetailResponse> postDetailResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PostResponse.PostSimpleInfo> simpleInfos = IntStream.range(0, pageSize)
+                .mapToObj(i -> new PostResponse.PostSimpleInfo((long) i, "게시글 제목 " + i, now,
+                        i * 3, i * 2, i * 10, "작성자" + i, "https://bucket.s3.ap-northeast-2.amazonaws.com/profile" + i + ".jpg"))
+                .toList();
+        postListResponse = new ApiResponse<>("fetch_posts_success",
+                PostResponse.builder().postSimpleInfos(simpleInfos).nextCursor("bmV3ZXN0OjA6MA").build());
+
+        PostDetailResponse.AuthorInfo author = new PostDetailResponse.AuthorInfo("작성자",
+                "https://bucket.s3.ap-northeast-2.amazonaws.com/profile.jpg");
+        List<PostDetailResponse.CommentResponse> comments = IntStream.range(0, commentCount)
+                .mapToObj(i -> new PostDetailResponse.CommentResponse((long) i, "댓글 내용 " + i, now, author))
+                .toList();
+        postDetailResponse = new ApiResponse<>("fetch_post_detail_success", PostDetailResponse.builder()
+                .postId(1L)
+                .title("게시글 제목")
+                .content("게시글 본문 ".repeat(50))
+                .image("https://bucket.s3.ap-northeast-2.amazonaws.com/image.jpg")
+                .createdAt(now)
+                .viewCount(100)
+                .likeCount(10)
+                .commentCount(commentCount)
+                .author(author)
+                .comments(comments)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serializePostList() throws Exception {
+        return objectMapper.writeValueAsBytes(postListResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePostDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(postDetailResponse);
+    }
+}
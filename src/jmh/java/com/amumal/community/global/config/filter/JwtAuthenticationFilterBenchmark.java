@@ -0,0 +1,55 @@
+package com.amumal.community.global.config.filter;
+
+import com.amumal.community.global.config.CacheConfig;
+import com.amumal.community.global.config.security.JwtUserDetails;
+import com.amumal.community.global.config.security.PrincipalCache;
+import com.amumal.community.global.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터 한 번 통과 비용 (토큰 파싱 + 캐시된 principal 조회 + SecurityContext 설정)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatNeedsToBeAtLeast256BitsLongForHs256";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L, 2_592_000_000L);
+        // principal을 미리 캐시해 두므로 저장소 없이 생성 (캐시 적중 경로만 측정)
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.PRINCIPAL_CACHE);
+        cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE).put(1L, new JwtUserDetails(1L, "bench@example.com"));
+        filter = new JwtAuthenticationFilter(jwtUtil, new PrincipalCache(cacheManager, null));
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(1L, "bench@example.com");
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        filter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
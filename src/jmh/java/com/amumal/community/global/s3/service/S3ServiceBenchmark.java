@@ -0,0 +1,46 @@
+package com.amumal.community.global.s3.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+// 이미지 URL에서 S3 키를 추출하는 비용 (게시글/프로필 이미지 교체·삭제 시 호출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class S3ServiceBenchmark {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String REGION = "ap-northeast-2";
+
+    private S3Service s3Service;
+    private String virtualHostedUrl;
+    private String pathStyleUrl;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 키 추출은 S3Client를 사용하지 않음
+        s3Service = new S3Service(null, null, null);
+        setField("bucket", BUCKET);
+        setField("region", REGION);
+        virtualHostedUrl = "https://" + BUCKET + ".s3." + REGION + ".amazonaws.com/0b6f1c2e-uuid_profile.jpg";
+        pathStyleUrl = "https://s3." + REGION + ".amazonaws.com/" + BUCKET + "/0b6f1c2e-uuid_profile.jpg";
+    }
+
+    private void setField(String name, String value) throws Exception {
+        Field field = S3Service.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(s3Service, value);
+    }
+
+    @Benchmark
+    public String extractKeyFromVirtualHostedUrl() {
+        return s3Service.extractKeyFromUrl(virtualHostedUrl);
+    }
+
+    @Benchmark
+    public String extractKeyFromPathStyleUrl() {
+        return s3Service.extractKeyFromUrl(pathStyleUrl);
+    }
+}
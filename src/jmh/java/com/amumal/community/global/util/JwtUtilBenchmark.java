@@ -0,0 +1,49 @@
+package com.amumal.community.global.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터의 토큰 처리 비용 비교: 개별 추출 메서드 호출(기존 방식) vs parse 한 번
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatNeedsToBeAtLeast256BitsLongForHs256";
+    private static final String EMAIL = "bench@example.com";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 2_592_000_000L);
+        token = jwtUtil.generateToken(1L, EMAIL);
+    }
+
+    // 기존 필터 흐름: extractUsername → validateToken → extractUserId (서명 검증 여러 번)
+    @Benchmark
+    public void separateExtractCalls(Blackhole blackhole) {
+        String email = jwtUtil.extractUsername(token);
+        blackhole.consume(jwtUtil.validateToken(token, email));
+        blackhole.consume(jwtUtil.extractUserId(token));
+    }
+
+    // 현재 필터 흐름: parse 한 번으로 검증과 클레임 추출
+    @Benchmark
+    public JwtUtil.JwtClaims singleParse() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, EMAIL);
+    }
+}
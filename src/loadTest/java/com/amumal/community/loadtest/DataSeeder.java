@@ -0,0 +1,126 @@
+package com.amumal.community.loadtest;
+
+import com.amumal.community.domain.post.entity.Comment;
+import com.amumal.community.domain.post.entity.Likes;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.repository.comment.CommentRepository;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+@Component
+@Profile("loadtest")
+public class DataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final String PASSWORD = "Loadtest1!";
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikesRepository likesRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    public DataSeeder(UserRepository userRepository, PostRepository postRepository,
+                      CommentRepository commentRepository, LikesRepository likesRepository,
+                      PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likesRepository = likesRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public SeedData seed(LoadTestSettings settings) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(settings.seed());
+
+        // 사용자: 비밀번호 인코딩은 한 번만 수행 (BCrypt 비용이 시드 시간을 지배하지 않도록)
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(User.builder()
+                    .email("loadtest" + i + "@example.com")
+                    .nickname("lt" + i) // 닉네임 컬럼 길이 10 제한
+                    .password(encodedPassword)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        // 댓글/좋아요 대상을 먼저 정해 게시글의 비정규화 카운트를 실제 행 수와 일치시킴
+        int postCount = settings.posts();
+        int[] commentPost = new int[settings.comments()];
+        int[] commentUser = new int[settings.comments()];
+        int[] commentCounts = new int[postCount];
+        for (int i = 0; i < commentPost.length; i++) {
+            commentPost[i] = random.nextInt(postCount);
+            commentUser[i] = random.nextInt(users.size());
+            commentCounts[commentPost[i]]++;
+        }
+
+        // 좋아요는 (게시글, 사용자) 쌍이 중복되지 않도록 생성
+        long maxLikes = (long) postCount * users.size();
+        int likeTarget = (int) Math.min(settings.likes(), maxLikes);
+        Set<Long> likePairs = new HashSet<>(likeTarget * 2);
+        int[] likeCounts = new int[postCount];
+        while (likePairs.size() < likeTarget) {
+            int postIndex = random.nextInt(postCount);
+            int userIndex = random.nextInt(users.size());
+            if (likePairs.add((long) postIndex * users.size() + userIndex)) {
+                likeCounts[postIndex]++;
+            }
+        }
+
+        List<Post> posts = new ArrayList<>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            posts.add(Post.builder()
+                    .user(users.get(random.nextInt(users.size())))
+                    .title("부하 테스트 게시글 " + i)
+                    .content("부하 테스트용 본문입니다. #" + i)
+                    .likeCount(likeCounts[i])
+                    .commentCount(commentCounts[i])
+                    .build());
+        }
+        posts = postRepository.saveAll(posts);
+
+        List<Comment> comments = new ArrayList<>(commentPost.length);
+        for (int i = 0; i < commentPost.length; i++) {
+            comments.add(Comment.builder()
+                    .post(posts.get(commentPost[i]))
+                    .user(users.get(commentUser[i]))
+                    .content("부하 테스트 댓글 " + i)
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+
+        List<Likes> likes = new ArrayList<>(likePairs.size());
+        for (Long pair : likePairs) {
+            likes.add(Likes.builder()
+                    .post(posts.get((int) (pair / users.size())))
+                    .user(users.get((int) (pair % users.size())))
+                    .build());
+        }
+        likesRepository.saveAll(likes);
+
+        log.info("시드 완료: users={}, posts={}, comments={}, likes={} ({}ms)",
+                users.size(), posts.size(), comments.size(), likes.size(),
+                System.currentTimeMillis() - start);
+
+        return new SeedData(
+                users.stream().map(User::getId).toList(),
+                users.stream().map(User::getEmail).toList(),
+                posts.stream().map(Post::getId).toList());
+    }
+}
@@ -0,0 +1,254 @@
+package com.amumal.community.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 고정 개수의 워커가 설정된 비율로 요청을 섞어 보내는 폐쇄형(closed-loop) 부하 생성기
+public class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    enum Operation {
+        LIST("GET /posts"),
+        DETAIL("GET /posts/{postId}"),
+        LIKE("POST /posts/{postId}/likes"),
+        COMMENT("POST /posts/{postId}/comments"),
+        UPLOAD("POST /posts (multipart)"),
+        STREAM_UPLOAD("POST /api/images/upload/stream"),
+        IMPORT("POST /posts/import");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final SeedData seedData;
+    private final List<String> tokens;
+    private final HttpClient httpClient;
+    private final Operation[] weightedOperations;
+    private final byte[] uploadBody;
+    private final byte[] imageBytes;
+    private final String importBody;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    public LoadDriver(String baseUrl, LoadTestSettings settings, SeedData seedData, List<String> tokens) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.seedData = seedData;
+        this.tokens = tokens;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.weightedOperations = buildWeightedOperations(settings);
+        this.imageBytes = randomBytes(settings.uploadBytes());
+        this.uploadBody = buildMultipartBody(imageBytes);
+        this.importBody = buildImportBody(settings.importPosts(), settings.importComments());
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.label));
+        }
+    }
+
+    public Map<String, Object> run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+
+        log.info("부하 시작: concurrency={}, warmup={}s, duration={}s, virtualThreads={}, s3LatencyMs={}",
+                settings.concurrency(), settings.warmup().toSeconds(), settings.duration().toSeconds(),
+                settings.virtualThreads(), settings.s3LatencyMillis());
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            futures.add(workers.submit(() -> work(warmupEnd, end)));
+        }
+        workers.shutdown();
+        workers.awaitTermination(settings.warmup().plus(settings.duration()).toSeconds() + 30, TimeUnit.SECONDS);
+        futures.forEach(future -> future.cancel(true));
+
+        return report(settings.duration().toNanos() / 1_000_000_000.0);
+    }
+
+    private void work(long warmupEnd, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            HttpRequest request = buildRequest(operation, random);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                success = false;
+            }
+            long finished = System.nanoTime();
+
+            // 워밍업 구간의 결과는 버림
+            if (start >= warmupEnd && finished <= end) {
+                stats.get(operation).record(finished - start, success);
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(Operation operation, ThreadLocalRandom random) {
+        List<Long> postIds = seedData.postIds();
+        Long postId = postIds.get(random.nextInt(postIds.size()));
+        String token = tokens.get(random.nextInt(tokens.size()));
+
+        return switch (operation) {
+            case LIST -> {
+                // 대부분 첫 페이지, 일부는 임의 커서로 깊은 페이지를 조회
+                String query = random.nextInt(10) < 8 ? "?pageSize=10" : "?pageSize=10&cursor=" + postId;
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/posts" + query)).GET().build();
+            }
+            case DETAIL -> HttpRequest.newBuilder(URI.create(baseUrl + "/posts/" + postId))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+            case LIKE -> jsonPost(baseUrl + "/posts/" + postId + "/likes", token,
+                    "{\"postId\":" + postId + "}");
+            case COMMENT -> jsonPost(baseUrl + "/posts/" + postId + "/comments", token,
+                    "{\"content\":\"부하 테스트 댓글\"}");
+            case UPLOAD -> HttpRequest.newBuilder(URI.create(baseUrl + "/posts"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBody))
+                    .build();
+            case STREAM_UPLOAD -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/images/upload/stream?filename=loadtest.png"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "image/png")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(imageBytes))
+                    .build();
+            case IMPORT -> jsonPost(baseUrl + "/posts/import", token, importBody);
+        };
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(0).nextBytes(bytes);
+        return bytes;
+    }
+
+    // 모든 업로드 요청이 공유하는 multipart 본문 (postInfo JSON + 임의 바이트 이미지)
+    private static byte[] buildMultipartBody(byte[] image) {
+
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"postInfo\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + "{\"title\":\"부하 테스트 업로드\",\"content\":\"이미지 포함 게시글\"}\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"image\"; filename=\"loadtest.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n";
+        String tail = "\r\n--" + BOUNDARY + "--\r\n";
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(image.length + 512);
+        body.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(image);
+        body.writeBytes(tail.getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    // 모든 일괄 등록 요청이 공유하는 본문 (게시글 posts건, 게시글마다 댓글 comments건)
+    private static String buildImportBody(int posts, int comments) {
+        StringBuilder body = new StringBuilder("{\"posts\":[");
+        for (int i = 0; i < posts; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"title\":\"일괄 등록 ").append(i)
+                    .append("\",\"content\":\"부하 테스트 일괄 등록 게시글\",\"comments\":[");
+            for (int j = 0; j < comments; j++) {
+                if (j > 0) {
+                    body.append(',');
+                }
+                body.append("\"일괄 등록 댓글 ").append(j).append('"');
+            }
+            body.append("]}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private static HttpRequest jsonPost(String url, String token, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Map<String, Object> report(double elapsedSeconds) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (EndpointStats endpointStats : stats.values()) {
+            endpoints.put(endpointStats.getName(), endpointStats.summarize(elapsedSeconds));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("concurrency", settings.concurrency());
+        result.put("virtualThreads", settings.virtualThreads());
+        result.put("s3LatencyMs", settings.s3LatencyMillis());
+        result.put("durationSeconds", settings.duration().toSeconds());
+        result.put("seed", Map.of(
+                "users", seedData.userIds().size(),
+                "posts", seedData.postIds().size(),
+                "comments", settings.comments(),
+                "likes", settings.likes()));
+        // 일괄 등록은 요청 하나가 여러 행을 쓰므로 처리량(rps)에 이 값을 곱해 초당 INSERT 행 수를 구함
+        if (settings.importWeight() > 0) {
+            result.put("import", Map.of(
+                    "postsPerRequest", settings.importPosts(),
+                    "rowsPerRequest", settings.importPosts() * (1 + settings.importComments()),
+                    "jdbcBatchSize", settings.jdbcBatchSize()));
+        }
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private static Operation[] buildWeightedOperations(LoadTestSettings settings) {
+        List<Operation> operations = new ArrayList<>();
+        addWeighted(operations, Operation.LIST, settings.listWeight());
+        addWeighted(operations, Operation.DETAIL, settings.detailWeight());
+        addWeighted(operations, Operation.LIKE, settings.likeWeight());
+        addWeighted(operations, Operation.COMMENT, settings.commentWeight());
+        addWeighted(operations, Operation.UPLOAD, settings.uploadWeight());
+        addWeighted(operations, Operation.STREAM_UPLOAD, settings.streamUploadWeight());
+        addWeighted(operations, Operation.IMPORT, settings.importWeight());
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix.* 중 하나 이상은 0보다 커야 합니다.");
+        }
+        return operations.toArray(Operation[]::new);
+    }
+
+    private static void addWeighted(List<Operation> operations, Operation operation, int weight) {
+        for (int i = 0; i < weight; i++) {
+            operations.add(operation);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.amumal.community.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    // 부하 테스트에서는 실제 S3 호출 대신 지연만 흉내내는 스텁을 사용
+    @Bean
+    @Primary
+    public S3Client stubS3Client(@Value("${loadtest.s3-latency-ms:0}") long latencyMillis) {
+        return new StubS3Client(latencyMillis);
+    }
+
+    @Bean
+    @Primary
+    public S3AsyncClient stubS3AsyncClient(@Value("${loadtest.s3-latency-ms:0}") long latencyMillis) {
+        return new StubS3AsyncClient(latencyMillis);
+    }
+}
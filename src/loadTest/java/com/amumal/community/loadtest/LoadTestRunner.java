@@ -0,0 +1,55 @@
+package com.amumal.community.loadtest;
+
+import com.amumal.community.KtbCommunityApplication;
+import com.amumal.community.global.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 부하 테스트 진입점: H2 프로필로 앱 기동 -> 시드 -> 혼합 부하 -> 결과 JSON 기록
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KtbCommunityApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+
+            Environment env = context.getEnvironment();
+            LoadTestSettings settings = LoadTestSettings.from(env);
+
+            SeedData seedData = context.getBean(DataSeeder.class).seed(settings);
+
+            // 시드된 사용자마다 토큰을 미리 발급해 요청 시 무작위로 사용
+            JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+            List<String> tokens = new ArrayList<>(seedData.userIds().size());
+            for (int i = 0; i < seedData.userIds().size(); i++) {
+                tokens.add(jwtUtil.generateToken(seedData.userIds().get(i), seedData.emails().get(i)));
+            }
+
+            String baseUrl = "http://localhost:" + env.getProperty("local.server.port");
+            Map<String, Object> result = new LoadDriver(baseUrl, settings, seedData, tokens).run();
+
+            Path output = Path.of(settings.output());
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(output.toString()), result);
+
+            log.info("결과 저장: {}", output.toAbsolutePath());
+            log.info("\n{}", objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result.get("endpoints")));
+        }
+    }
+}
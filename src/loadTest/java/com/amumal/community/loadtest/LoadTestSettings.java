@@ -0,0 +1,58 @@
+package com.amumal.community.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+// loadtest.* 설정값 (application-loadtest.properties 또는 -Ploadtest.* 로 덮어쓰기)
+public record LoadTestSettings(
+        int users,
+        int posts,
+        int comments,
+        int likes,
+        long seed,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        String output,
+        boolean virtualThreads,
+        long s3LatencyMillis,
+        int uploadBytes,
+        int importPosts,
+        int importComments,
+        int jdbcBatchSize,
+        int listWeight,
+        int detailWeight,
+        int likeWeight,
+        int commentWeight,
+        int uploadWeight,
+        int streamUploadWeight,
+        int importWeight
+) {
+
+    public static LoadTestSettings from(Environment env) {
+        return new LoadTestSettings(
+                env.getProperty("loadtest.users", Integer.class, 100),
+                env.getProperty("loadtest.posts", Integer.class, 1000),
+                env.getProperty("loadtest.comments", Integer.class, 5000),
+                env.getProperty("loadtest.likes", Integer.class, 5000),
+                env.getProperty("loadtest.seed", Long.class, 42L),
+                env.getProperty("loadtest.concurrency", Integer.class, 32),
+                Duration.ofSeconds(env.getProperty("loadtest.warmup-seconds", Long.class, 5L)),
+                Duration.ofSeconds(env.getProperty("loadtest.duration-seconds", Long.class, 30L)),
+                env.getProperty("loadtest.output", "build/reports/loadtest/results.json"),
+                env.getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                env.getProperty("loadtest.s3-latency-ms", Long.class, 0L),
+                env.getProperty("loadtest.upload-bytes", Integer.class, 65536),
+                env.getProperty("loadtest.import-posts", Integer.class, 50),
+                env.getProperty("loadtest.import-comments", Integer.class, 5),
+                env.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0),
+                env.getProperty("loadtest.mix.list", Integer.class, 50),
+                env.getProperty("loadtest.mix.detail", Integer.class, 30),
+                env.getProperty("loadtest.mix.like", Integer.class, 10),
+                env.getProperty("loadtest.mix.comment", Integer.class, 10),
+                env.getProperty("loadtest.mix.upload", Integer.class, 0),
+                env.getProperty("loadtest.mix.stream-upload", Integer.class, 0),
+                env.getProperty("loadtest.mix.import", Integer.class, 0));
+    }
+}
@@ -0,0 +1,7 @@
+package com.amumal.community.loadtest;
+
+import java.util.List;
+
+// 시드 결과: 부하 생성기가 요청 대상으로 사용할 사용자/게시글 식별자
+public record SeedData(List<Long> userIds, List<String> emails, List<Long> postIds) {
+}
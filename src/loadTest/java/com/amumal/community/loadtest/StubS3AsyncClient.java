@@ -0,0 +1,67 @@
+package com.amumal.community.loadtest;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// StubS3Client의 비동기 버전: 본문을 끝까지 구독한 뒤 설정된 지연 후 완료 (스레드를 막지 않음)
+public class StubS3AsyncClient implements S3AsyncClient {
+
+    private final Executor delayedExecutor;
+
+    public StubS3AsyncClient(long latencyMillis) {
+        this.delayedExecutor = CompletableFuture.delayedExecutor(Math.max(0, latencyMillis), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest,
+                                                          AsyncRequestBody requestBody) {
+        CompletableFuture<Void> consumed = new CompletableFuture<>();
+        requestBody.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                consumed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                consumed.complete(null);
+            }
+        });
+        return consumed.thenApplyAsync(ignored -> PutObjectResponse.builder().eTag("\"stub\"").build(),
+                delayedExecutor);
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        return CompletableFuture.supplyAsync(() -> DeleteObjectResponse.builder().build(), delayedExecutor);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
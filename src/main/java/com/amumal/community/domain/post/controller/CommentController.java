@@ -1,6 +1,7 @@
 package com.amumal.community.domain.post.controller;
 
 import com.amumal.community.domain.post.dto.request.CommentRequest;
+import com.amumal.community.domain.post.dto.response.CommentPageResponse;
 import com.amumal.community.domain.post.service.comment.CommentService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.global.config.security.JwtUserDetails;
@@ -21,6 +22,17 @@ public class CommentController {
     private final CommentService commentService;
     private final UserService userService;
 
+    // 댓글 목록 (오래된 순, cursor = 직전 페이지의 nextCursor)
+    @GetMapping
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int pageSize) {
+
+        CommentPageResponse response = commentService.getComments(postId, cursor, pageSize);
+        return ResponseEntity.ok(new ApiResponse<>("fetch_comments_success", response));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<Long>> createComment(
             @PathVariable Long postId,
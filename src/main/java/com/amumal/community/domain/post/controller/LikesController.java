@@ -1,7 +1,8 @@
 package com.amumal.community.domain.post.controller;
 
 import com.amumal.community.domain.post.dto.request.LikeRequest;
-import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.amumal.community.domain.post.dto.response.LikeResponse;
+import com.amumal.community.domain.post.service.likes.LikeStatusIndex;
 import com.amumal.community.domain.post.service.likes.LikesService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.domain.user.service.UserService;
@@ -16,17 +17,24 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
-@RequestMapping("/posts/{postId}/likes")
+@RequestMapping("/posts")
 @RequiredArgsConstructor
 public class LikesController {
 
+    // 한 번에 조회할 수 있는 게시글 수 (피드 한 페이지 크기 이상)
+    private static final int MAX_STATUS_BATCH = 100;
+
     private final LikesService likesService;
     private final UserService userService;
-    private final LikesRepository likesRepository;
+    private final LikeStatusIndex likeStatusIndex;
 
-    @PostMapping
-    public ResponseEntity<ApiResponse<Void>> addLike(
+    // 좋아요 토글, 변경 후 좋아요 여부와 좋아요 수를 반환
+    @PostMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<LikeResponse>> addLike(
             @PathVariable Long postId,
             @Validated @RequestBody LikeRequest request,
             @AuthenticationPrincipal JwtUserDetails userDetails) {
@@ -37,12 +45,12 @@ public class LikesController {
         }
 
         User currentUser = userService.findById(userDetails.getId());
-        likesService.addLike(postId, request, currentUser);
+        LikeResponse response = likesService.addLike(postId, request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new ApiResponse<>("like_success", null));
+                .body(new ApiResponse<>(response.liked() ? "like_success" : "unlike_success", response));
     }
 
-    @DeleteMapping
+    @DeleteMapping("/{postId}/likes")
     public ResponseEntity<ApiResponse<Void>> removeLike(
             @PathVariable Long postId,
             @AuthenticationPrincipal JwtUserDetails userDetails) {
@@ -58,7 +66,7 @@ public class LikesController {
                 .body(new ApiResponse<>("unlike_success", null));
     }
 
-    @GetMapping("/status")
+    @GetMapping("/{postId}/likes/status")
     public ResponseEntity<ApiResponse<Boolean>> checkLikeStatus(
             @PathVariable Long postId,
             @AuthenticationPrincipal JwtUserDetails userDetails) {
@@ -68,7 +76,25 @@ public class LikesController {
             throw new CustomException(CustomResponseStatus.UNAUTHORIZED_REQUEST);
         }
 
-        boolean isLiked = likesRepository.existsByPostIdAndUserId(postId, userDetails.getId());
+        boolean isLiked = likeStatusIndex.isLiked(postId, userDetails.getId());
         return ResponseEntity.ok(new ApiResponse<>("success", isLiked));
     }
+
+    // 피드 한 페이지의 좋아요 여부를 한 번에 조회 (예: /posts/likes/status?postIds=3,2,1)
+    @GetMapping("/likes/status")
+    public ResponseEntity<ApiResponse<Map<Long, Boolean>>> checkLikeStatuses(
+            @RequestParam List<Long> postIds,
+            @AuthenticationPrincipal JwtUserDetails userDetails) {
+
+        // 인증되지 않은 사용자 체크
+        if (userDetails == null) {
+            throw new CustomException(CustomResponseStatus.UNAUTHORIZED_REQUEST);
+        }
+        if (postIds.isEmpty() || postIds.size() > MAX_STATUS_BATCH) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+
+        Map<Long, Boolean> statuses = likeStatusIndex.getStatuses(postIds, userDetails.getId());
+        return ResponseEntity.ok(new ApiResponse<>("success", statuses));
+    }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.amumal.community.domain.post.controller;
 
+import com.amumal.community.domain.post.dto.request.PostImportRequest;
 import com.amumal.community.domain.post.dto.request.PostRequest;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.dto.response.PostImportResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse;
 import com.amumal.community.domain.post.service.post.PostCommandService;
+import com.amumal.community.domain.post.service.post.PostImportService;
 import com.amumal.community.domain.post.service.post.PostQueryService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.domain.user.service.UserService;
@@ -12,6 +16,7 @@ import com.amumal.community.global.dto.ApiResponse;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,14 +32,24 @@ public class PostController {
 
     private final PostQueryService postQueryService;
     private final PostCommandService postCommandService;
+    private final PostImportService postImportService;
     private final UserService userService;
 
+    // 일괄 등록은 한 요청으로 수만 행을 넣을 수 있으므로 기본적으로 막아 둠 (부하 테스트 프로필에서만 켬)
+    @Value("${post.import.enabled:false}")
+    private boolean importEnabled;
+
+    // sort: newest(기본) / likes / views / comments, cursor는 이전 응답의 nextCursor를 그대로 전달
     @GetMapping
     public ResponseEntity<ApiResponse<PostResponse>> getPosts(
-            @RequestParam(value = "cursor", required = false) Long cursor,
-            @RequestParam(value = "pageSize", defaultValue = "10") int pageSize
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "pageSize", defaultValue = "10") int pageSize,
+            @RequestParam(value = "sort", defaultValue = "newest") String sort,
+            @AuthenticationPrincipal JwtUserDetails userDetails
     ) {
-        PostResponse response = postQueryService.getPostSimpleInfo(cursor, pageSize);
+        // 로그인한 사용자면 likedByMe를 함께 내려줘 게시글별 좋아요 상태 요청이 필요 없게 함
+        Long userId = userDetails == null ? null : userDetails.getId();
+        PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.from(sort), cursor, pageSize, userId);
         return ResponseEntity.ok(new ApiResponse<>("fetch_posts_success", response));
     }
 
@@ -56,12 +71,26 @@ public class PostController {
             @AuthenticationPrincipal JwtUserDetails userDetails) {
 
         User currentUser = userService.findById(userDetails.getId());
-        System.out.println("request = " + request);
         Long postId = postCommandService.createPost(request, image, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>("create_post_success", postId));
     }
 
+    // 게시글과 댓글을 JSON으로 한 번에 등록 (JDBC 배치 INSERT 사용)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<PostImportResponse>> importPosts(
+            @RequestBody @Validated PostImportRequest request,
+            @AuthenticationPrincipal JwtUserDetails userDetails) {
+
+        if (!importEnabled) {
+            throw new CustomException(CustomResponseStatus.NOT_FOUND);
+        }
+        User currentUser = userService.findById(userDetails.getId());
+        PostImportResponse response = postImportService.importPosts(request, currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponse<>("import_posts_success", response));
+    }
+
     @PatchMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> updatePost(
             @PathVariable Long postId,
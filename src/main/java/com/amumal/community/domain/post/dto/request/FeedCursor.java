@@ -0,0 +1,72 @@
+package com.amumal.community.domain.post.dto.request;
+
+import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 게시글 목록 커서: 마지막으로 본 게시글의 (정렬 키, ID)
+// 클라이언트에는 "정렬:정렬 키:ID"를 base64url로 감싼 불투명 문자열로 전달
+public record FeedCursor(
+        PostSortType sortType,
+        long sortKey,
+        long postId
+) {
+
+    private static final String DELIMITER = ":";
+    // 게시글 ID만 있는 커서 (이전 버전 클라이언트), 정렬 키는 조회 시 해당 게시글에서 찾음
+    private static final long UNKNOWN_SORT_KEY = Long.MIN_VALUE;
+
+    public static FeedCursor after(PostSortType sortType, PostSimpleInfo last) {
+        return new FeedCursor(sortType, sortType.sortKeyOf(last), last.postId());
+    }
+
+    public static FeedCursor ofPostId(long postId) {
+        return new FeedCursor(PostSortType.NEWEST, UNKNOWN_SORT_KEY, postId);
+    }
+
+    public boolean hasSortKey() {
+        return sortKey != UNKNOWN_SORT_KEY;
+    }
+
+    public String encode() {
+        String raw = sortType.getValue() + DELIMITER + sortKey + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬의 커서이거나 형식이 잘못되었거나 정렬 키가 범위를 벗어나면 BAD_REQUEST
+    public static FeedCursor decode(String cursor, PostSortType sortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        // 이전 버전 클라이언트가 보내는 숫자 커서(마지막 게시글 ID)는 최신순에 한해 허용
+        if (sortType == PostSortType.NEWEST && cursor.chars().allMatch(Character::isDigit)) {
+            return ofPostId(parseLong(cursor));
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        if (parts.length != 3 || PostSortType.from(parts[0]) != sortType) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        long sortKey = parseLong(parts[1]);
+        if (!sortType.isValidSortKey(sortKey)) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        return new FeedCursor(sortType, sortKey, parseLong(parts[2]));
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+    }
+}
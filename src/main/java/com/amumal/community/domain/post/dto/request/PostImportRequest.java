@@ -0,0 +1,35 @@
+package com.amumal.community.domain.post.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+// 게시글과 댓글을 한 번에 등록하는 요청 (모두 요청한 사용자 명의로 작성됨)
+@Builder
+public record PostImportRequest(
+        @NotEmpty(message = "Posts cannot be empty")
+        @Size(max = 500, message = "Up to 500 posts can be imported at once")
+        List<@Valid Item> posts
+) {
+
+    @Builder
+    public record Item(
+            @NotBlank(message = "Title cannot be blank")
+            @Size(max = 30, message = "Title must not exceed 30 characters")
+            String title,
+
+            @NotBlank(message = "Content cannot be blank")
+            String content,
+
+            @Size(max = 100, message = "Up to 100 comments per post")
+            List<@NotBlank String> comments
+    ) {
+        public Item {
+            comments = comments == null ? List.of() : comments;
+        }
+    }
+}
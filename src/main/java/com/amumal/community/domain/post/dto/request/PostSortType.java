@@ -0,0 +1,60 @@
+package com.amumal.community.domain.post.dto.request;
+
+import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+// 게시글 목록 정렬 기준, 모두 (정렬 키 DESC, post_id DESC) 순서의 keyset 페이지네이션
+// 최신순의 정렬 키는 작성 시각: ID는 인스턴스별로 구간을 나눠 받으므로 작성 순서와 다를 수 있음
+public enum PostSortType {
+    NEWEST("newest"),
+    LIKES("likes"),
+    VIEWS("views"),
+    COMMENTS("comments");
+
+    private final String value;
+
+    PostSortType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    // 다음 페이지 커서에 들어갈 정렬 키 (최신순은 작성 시각의 마이크로초 값, DATETIME(6) 정밀도와 같음)
+    public long sortKeyOf(PostSimpleInfo info) {
+        return switch (this) {
+            case NEWEST -> toEpochMicros(info.createdAt());
+            case LIKES -> info.likeCount();
+            case VIEWS -> info.viewCount();
+            case COMMENTS -> info.commentCount();
+        };
+    }
+
+    // 커서로 받은 정렬 키가 정렬 컬럼 범위 안인지 (좋아요/조회/댓글 수는 INT 컬럼)
+    public boolean isValidSortKey(long sortKey) {
+        return this == NEWEST || (sortKey >= Integer.MIN_VALUE && sortKey <= Integer.MAX_VALUE);
+    }
+
+    public static long toEpochMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    public static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+
+    public static PostSortType from(String value) {
+        for (PostSortType sortType : values()) {
+            if (sortType.value.equalsIgnoreCase(value)) {
+                return sortType;
+            }
+        }
+        throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,23 @@
+package com.amumal.community.domain.post.dto.response;
+
+import com.amumal.community.domain.post.dto.response.PostDetailResponse.CommentResponse;
+import lombok.Builder;
+
+import java.util.List;
+
+// 댓글 목록 한 페이지 (오래된 순), 다음 페이지가 없으면 nextCursor는 null
+@Builder
+public record CommentPageResponse(
+        List<CommentResponse> comments,
+        Long nextCursor
+) {
+
+    // pageSize + 1개를 조회한 결과로 페이지를 만듦 (초과분이 있으면 다음 페이지가 있음)
+    public static CommentPageResponse of(List<CommentResponse> fetched, int pageSize) {
+        if (fetched.size() <= pageSize) {
+            return new CommentPageResponse(fetched, null);
+        }
+        List<CommentResponse> page = fetched.subList(0, pageSize);
+        return new CommentPageResponse(List.copyOf(page), page.get(pageSize - 1).commentId());
+    }
+}
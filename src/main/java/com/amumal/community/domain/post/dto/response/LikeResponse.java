@@ -0,0 +1,11 @@
+package com.amumal.community.domain.post.dto.response;
+
+import lombok.Builder;
+
+// 좋아요 토글 결과: 요청 이후의 좋아요 여부와 게시글 좋아요 수
+@Builder
+public record LikeResponse(
+        boolean liked,
+        int likeCount
+) {
+}
@@ -1,23 +1,36 @@
 package com.amumal.community.domain.post.dto.response;
 
+import com.amumal.community.domain.post.entity.ImageStatus;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 public record PostDetailResponse(
         Long postId,
         String title,
         String content,
         String image,
+        ImageStatus imageStatus,
         LocalDateTime createdAt,
         Integer viewCount,
         Integer likeCount,
         Integer commentCount,
         AuthorInfo author,
-        List<CommentResponse> comments
+        // 첫 페이지 댓글만 포함, 나머지는 GET /posts/{postId}/comments?cursor={nextCommentCursor}
+        List<CommentResponse> comments,
+        Long nextCommentCursor
     ) {
+
+    // 댓글 커서 없이 생성 (QueryDSL 생성자 프로젝션용)
+    public PostDetailResponse(Long postId, String title, String content, String image, ImageStatus imageStatus,
+                              LocalDateTime createdAt, Integer viewCount, Integer likeCount, Integer commentCount,
+                              AuthorInfo author, List<CommentResponse> comments) {
+        this(postId, title, content, image, imageStatus, createdAt, viewCount, likeCount, commentCount, author,
+                comments, null);
+    }
+
     @Builder
     public record AuthorInfo(
             String nickname,
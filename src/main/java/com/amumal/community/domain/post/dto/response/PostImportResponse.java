@@ -0,0 +1,9 @@
+package com.amumal.community.domain.post.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record PostImportResponse(
+        int postCount,
+        int commentCount
+) {}
@@ -8,9 +8,9 @@ import java.util.List;
 @Builder
 public record PostResponse(
         List<PostSimpleInfo> postSimpleInfos,
-        Long nextCursor
+        String nextCursor
 ) {
-    @Builder
+    @Builder(toBuilder = true)
     public record PostSimpleInfo(
             Long postId,
             String title,
@@ -19,6 +19,17 @@ public record PostResponse(
             Integer commentCount,
             Integer viewCount,
             String authorNickname,
-            String authorProfileImg
-    ) {}
+            String authorProfileImg,
+            // 로그인한 사용자가 좋아요 했는지 (비로그인 요청이면 null)
+            Boolean likedByMe
+    ) {
+
+        // 좋아요 여부 없이 생성 (QueryDSL 생성자 프로젝션용)
+        public PostSimpleInfo(Long postId, String title, LocalDateTime createdAt, Integer likeCount,
+                              Integer commentCount, Integer viewCount, String authorNickname,
+                              String authorProfileImg) {
+            this(postId, title, createdAt, likeCount, commentCount, viewCount, authorNickname, authorProfileImg,
+                    null);
+        }
+    }
 }
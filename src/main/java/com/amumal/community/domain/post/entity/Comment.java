@@ -2,6 +2,7 @@ package com.amumal.community.domain.post.entity;
 
 import com.amumal.community.domain.post.dto.request.CommentRequest;
 import com.amumal.community.global.entity.BaseEntity;
+import com.amumal.community.global.entity.IdSequences;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.global.exception.CustomException;
 import com.amumal.community.domain.user.entity.User;
@@ -15,11 +16,17 @@ import java.util.Objects;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_deleted_id", columnList = "post_id, deleted_at, id"),
+        @Index(name = "idx_comments_deleted_at", columnList = "deleted_at")
+})
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "comments",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 댓글 작성자: User 엔티티와 다대일 관계
@@ -32,6 +39,7 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    @Lob
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -0,0 +1,9 @@
+package com.amumal.community.domain.post.entity;
+
+// 게시글 이미지 업로드 상태 (S3 업로드는 트랜잭션 커밋 이후 비동기로 진행)
+public enum ImageStatus {
+    NONE,       // 이미지 없음
+    PENDING,    // 업로드 진행 중 (pendingImage에 대상 URL 보관)
+    READY,      // 업로드 완료 (image에 반영됨)
+    FAILED      // 재시도 후에도 업로드 실패
+}
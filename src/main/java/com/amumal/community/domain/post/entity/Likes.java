@@ -10,7 +10,9 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_post_user", columnNames = {"post_id", "user_id"})
+})
 public class Likes extends BaseEntity {
 
     @Id
@@ -2,22 +2,30 @@ package com.amumal.community.domain.post.entity;
 
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.global.entity.BaseEntity;
+import com.amumal.community.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "posts")
+// 목록 정렬별 keyset 페이지네이션용 (정렬 키, post_id) 인덱스
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_like_count", columnList = "like_count, post_id"),
+        @Index(name = "idx_posts_view", columnList = "view, post_id"),
+        @Index(name = "idx_posts_comment_count", columnList = "comment_count, post_id"),
+        @Index(name = "idx_posts_deleted_id", columnList = "deleted_at, post_id"),
+        @Index(name = "idx_posts_deleted_created", columnList = "deleted_at, created_at, post_id")
+})
 public class Post extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "posts",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "post_id")
     private Long id;
 
@@ -26,13 +34,8 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // 댓글: 일대다 관계 (Cascade, orphanRemoval 적용)
-    @OneToMany(mappedBy = "post", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
-    private List<Comment> comments = new ArrayList<>();
-
-    // 좋아요: 일대다 관계 (Cascade, orphanRemoval 적용)
-    @OneToMany(mappedBy = "post", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
-    private List<Likes> likes = new ArrayList<>();
+    // 댓글/좋아요 컬렉션은 매핑하지 않음
+    // (Cascade로 지우면 자식 엔티티를 전부 읽어 한 건씩 삭제하므로, 물리 삭제는 SoftDeletePurger가 bulk DELETE로 처리)
 
     @Column(name = "title", length = 30, nullable = false)
     private String title;
@@ -45,9 +48,26 @@ public class Post extends BaseEntity {
     @Column(name = "img", columnDefinition = "LONGTEXT")
     private String image;
 
+    // 업로드 진행 중인 이미지의 대상 URL (완료 시 image로 옮겨짐)
+    @Column(name = "pending_img", length = 512)
+    private String pendingImage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "img_status", length = 10)
+    @Builder.Default
+    private ImageStatus imageStatus = ImageStatus.NONE;
+
     @Column(name = "view", nullable = false)
     private int viewCount;
 
+    // 좋아요 수: 목록 조회 시 집계 서브쿼리를 피하기 위한 비정규화 컬럼
+    @Column(name = "like_count", nullable = false)
+    private int likeCount;
+
+    // 댓글 수(삭제되지 않은 댓글 기준): 비정규화 컬럼
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
     // BaseEntity의 onCreate() 후 추가 초기화
     @Override
     protected void onCreate() {
@@ -66,4 +86,17 @@ public class Post extends BaseEntity {
         this.content = content;
         this.image = image;
     }
-}
\ No newline at end of file
+
+    // 새 이미지 업로드 요청: 완료 전까지 기존 image는 그대로 노출
+    public void requestImageUpload(String pendingImageUrl) {
+        this.pendingImage = pendingImageUrl;
+        this.imageStatus = ImageStatus.PENDING;
+    }
+
+    // presigned 업로드로 이미 검증된 이미지를 바로 연결 (진행 중인 업로드가 있으면 무효화됨)
+    public void attachImage(String imageUrl) {
+        this.image = imageUrl;
+        this.pendingImage = null;
+        this.imageStatus = ImageStatus.READY;
+    }
+}
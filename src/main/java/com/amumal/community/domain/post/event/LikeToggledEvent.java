@@ -0,0 +1,8 @@
+package com.amumal.community.domain.post.event;
+
+// 좋아요가 추가/취소되었음을 알리는 이벤트 (좋아요 상태 비트맵 갱신용)
+public record LikeToggledEvent(
+        Long postId,
+        Long userId,
+        boolean liked
+) {}
@@ -0,0 +1,17 @@
+package com.amumal.community.domain.post.event;
+
+// 게시글 상세 응답에 영향을 주는 변경(게시글/댓글/좋아요/조회수)이 발생했음을 알리는 이벤트
+// created: 새 게시글 등록 (ID 순서가 작성 순서와 다를 수 있어 최신순 스냅샷은 ID만으로 범위를 판단할 수 없음)
+public record PostChangedEvent(
+        Long postId,
+        boolean created
+) {
+
+    public PostChangedEvent(Long postId) {
+        this(postId, false);
+    }
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, true);
+    }
+}
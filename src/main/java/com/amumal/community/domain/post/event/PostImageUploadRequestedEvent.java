@@ -0,0 +1,14 @@
+package com.amumal.community.domain.post.event;
+
+import java.nio.file.Path;
+
+// 게시글 저장 트랜잭션이 커밋된 뒤 백그라운드로 시작할 이미지 업로드 요청
+public record PostImageUploadRequestedEvent(
+        Long postId,
+        Path stagedFile,
+        String contentHash,
+        String objectKey,
+        String imageUrl,
+        String contentType,
+        String previousImageUrl
+) {}
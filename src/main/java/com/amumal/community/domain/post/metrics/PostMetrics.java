@@ -0,0 +1,36 @@
+package com.amumal.community.domain.post.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// 게시글 도메인 비즈니스 카운터 (좋아요 토글, 조회수 증가)
+@Component
+public class PostMetrics {
+
+    private final Counter likeAdded;
+    private final Counter likeRemoved;
+    private final Counter viewIncremented;
+
+    public PostMetrics(MeterRegistry meterRegistry) {
+        this.likeAdded = Counter.builder("post.likes.toggle")
+                .description("좋아요 토글 횟수")
+                .tag("action", "add")
+                .register(meterRegistry);
+        this.likeRemoved = Counter.builder("post.likes.toggle")
+                .description("좋아요 토글 횟수")
+                .tag("action", "remove")
+                .register(meterRegistry);
+        this.viewIncremented = Counter.builder("post.views.increment")
+                .description("게시글 조회수 증가 횟수")
+                .register(meterRegistry);
+    }
+
+    public void likeToggled(boolean liked) {
+        (liked ? likeAdded : likeRemoved).increment();
+    }
+
+    public void viewIncremented() {
+        viewIncremented.increment();
+    }
+}
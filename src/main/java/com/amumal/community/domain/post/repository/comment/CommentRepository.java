@@ -1,9 +1,40 @@
 package com.amumal.community.domain.post.repository.comment;
 
 import com.amumal.community.domain.post.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 정리 대상: cutoff 이전에 논리 삭제된 댓글 ID를 (deleted_at, id) 순서로 조회
+    @Query("SELECT c.id FROM Comment c WHERE c.deletedAt < :cutoff ORDER BY c.deletedAt ASC, c.id ASC")
+    List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 게시글/사용자를 물리 삭제하기 전에 댓글을 정리 (한 문장이 지우는 행 수를 LIMIT으로 제한)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM comments WHERE post_id IN (:postIds) LIMIT :limit", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
+    // 탈퇴한 사용자의 댓글: ID 청크로 지우면서 어느 게시글의 카운터를 고칠지 함께 알아냄
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findPostIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
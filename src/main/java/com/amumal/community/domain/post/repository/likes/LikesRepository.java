@@ -1,12 +1,66 @@
 package com.amumal.community.domain.post.repository.likes;
 
 import com.amumal.community.domain.post.entity.Likes;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LikesRepository extends JpaRepository<Likes, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
     Optional<Likes> findByPostIdAndUserId(Long postId, Long userId);
+
+    // 게시글/사용자를 물리 삭제하기 전에 좋아요를 정리 (한 문장이 지우는 행 수를 LIMIT으로 제한)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM likes WHERE post_id IN (:postIds) LIMIT :limit", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
+    // 탈퇴한 사용자의 좋아요: ID 청크로 지우면서 어느 게시글의 카운터를 고칠지 함께 알아냄
+    @Query("SELECT l.id FROM Likes l WHERE l.user.id = :userId ORDER BY l.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT DISTINCT l.post.id FROM Likes l WHERE l.id IN :ids")
+    List<Long> findPostIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Likes l WHERE l.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 좋아요 상태 비트맵 적재용: 삭제되지 않은 게시글마다 (게시글 ID, 사용자 ID)를 조회
+    // 좋아요가 없는 게시글도 사용자 ID null로 한 행씩 나오므로, 결과에 없는 ID는 존재하지 않는 게시글
+    @Query("SELECT p.id AS postId, l.user.id AS userId FROM Post p LEFT JOIN Likes l ON l.post.id = p.id "
+            + "WHERE p.id IN :postIds AND p.deletedAt IS NULL")
+    List<Liker> findLikersOfLivePostsIn(@Param("postIds") Collection<Long> postIds);
+
+    // 주어진 게시글 중 사용자가 좋아요 한 게시글 ID (목록의 likedByMe, (post_id, user_id) 유일 인덱스로 조회)
+    @Query("SELECT l.post.id FROM Likes l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 취소: 엔티티를 읽지 않고 한 문장으로 삭제, 지운 행 수(0 또는 1) 반환
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.post.id = :postId AND l.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 저장: 삭제되지 않은 게시글이 있을 때만 삽입하고, (post_id, user_id) 유일 제약에 걸리면 건너뜀
+    // 삽입된 행 수(0 또는 1) 반환 (MySQL INSERT IGNORE)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, user_id, created_at, updated_at) "
+            + "SELECT p.post_id, u.user_id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM posts p, users u "
+            + "WHERE p.post_id = :postId AND p.deleted_at IS NULL AND u.user_id = :userId",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    interface Liker {
+        Long getPostId();
+        Long getUserId();
+    }
 }
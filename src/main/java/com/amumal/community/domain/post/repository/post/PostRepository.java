@@ -1,10 +1,120 @@
 package com.amumal.community.domain.post.repository.post;
 
+import com.amumal.community.domain.post.entity.ImageStatus;
 import com.amumal.community.domain.post.entity.Post;
 import com.amumal.community.domain.post.repository.post.custom.PostCustomRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRepository {
+
+    // 좋아요/댓글 카운터는 엔티티를 거치지 않고 원자적 UPDATE로 증감
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    // 좋아요 토글 후 응답에 담을 현재 좋아요 수 (삭제된 게시글은 제외)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId AND p.deletedAt IS NULL")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    Long findMaxId();
+
+    // 카운터 보정: 실제 집계값과 다른 행만 갱신 (id 구간 단위)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = "
+            + "(SELECT COUNT(*) FROM likes WHERE likes.post_id = posts.post_id) "
+            + "WHERE posts.post_id BETWEEN :fromId AND :toId "
+            + "AND like_count <> (SELECT COUNT(*) FROM likes WHERE likes.post_id = posts.post_id)",
+            nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = "
+            + "(SELECT COUNT(*) FROM comments WHERE comments.post_id = posts.post_id AND comments.deleted_at IS NULL) "
+            + "WHERE posts.post_id BETWEEN :fromId AND :toId "
+            + "AND comment_count <> (SELECT COUNT(*) FROM comments WHERE comments.post_id = posts.post_id AND comments.deleted_at IS NULL)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 지정한 게시글만 카운터를 다시 셈 (탈퇴한 사용자의 좋아요/댓글을 지운 트랜잭션 안에서 호출)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = "
+            + "(SELECT COUNT(*) FROM likes WHERE likes.post_id = posts.post_id) "
+            + "WHERE posts.post_id IN (:postIds)",
+            nativeQuery = true)
+    int reconcileLikeCountsOf(@Param("postIds") Collection<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = "
+            + "(SELECT COUNT(*) FROM comments WHERE comments.post_id = posts.post_id AND comments.deleted_at IS NULL) "
+            + "WHERE posts.post_id IN (:postIds)",
+            nativeQuery = true)
+    int reconcileCommentCountsOf(@Param("postIds") Collection<Long> postIds);
+
+    // 비동기 이미지 업로드 완료 반영: 요청한 업로드가 여전히 최신이고 게시글이 살아있을 때만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.image = :imageUrl, p.pendingImage = NULL, "
+            + "p.imageStatus = com.amumal.community.domain.post.entity.ImageStatus.READY "
+            + "WHERE p.id = :postId AND p.pendingImage = :imageUrl AND p.deletedAt IS NULL")
+    int completeImageUpload(@Param("postId") Long postId, @Param("imageUrl") String imageUrl);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.pendingImage = NULL, "
+            + "p.imageStatus = com.amumal.community.domain.post.entity.ImageStatus.FAILED "
+            + "WHERE p.id = :postId AND p.pendingImage = :imageUrl")
+    int failImageUpload(@Param("postId") Long postId, @Param("imageUrl") String imageUrl);
+
+    // 정리 대상: cutoff 이전에 논리 삭제된 게시글 ID를 (deleted_at, post_id) 인덱스 순서로 조회
+    @Query("SELECT p.id FROM Post p WHERE p.deletedAt < :cutoff ORDER BY p.deletedAt ASC, p.id ASC")
+    List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 탈퇴한 사용자의 게시글 ID (삭제 여부와 관계없이 모두)
+    @Query("SELECT p.id FROM Post p WHERE p.user.id = :userId ORDER BY p.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 아직 논리 삭제되지 않은 게시글의 이미지 (논리 삭제된 게시글의 이미지는 삭제 시점에 정리됨)
+    @Query("SELECT p.image FROM Post p WHERE p.id IN :ids AND p.deletedAt IS NULL AND p.image IS NOT NULL")
+    List<String> findLiveImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 서버 재시작 등으로 완료되지 못한 업로드 정리 대상
+    List<Post> findByImageStatusAndUpdatedAtBefore(ImageStatus imageStatus, LocalDateTime cutoff);
 }
@@ -1,10 +1,19 @@
 package com.amumal.community.domain.post.repository.post.custom;
 
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
 import java.util.List;
 
 public interface PostCustomRepository {
+    // 게시글 상세에 함께 내려주는 첫 페이지 댓글 수
+    int COMMENT_PAGE_SIZE = 20;
+
     PostDetailResponse getPostDetailInfoById(Long postId);
+    // 댓글을 오래된 순으로 cursor(마지막으로 받은 댓글 ID) 이후부터 최대 limit개 조회
+    List<PostDetailResponse.CommentResponse> getComments(Long postId, Long cursor, int limit);
+    // 최신순 목록, cursor는 마지막으로 받은 게시글 ID (작성 시각은 해당 게시글에서 찾음)
     List<PostSimpleInfo> getPostSimpleInfo(Long cursor, int pageSize);
+    List<PostSimpleInfo> getPostSimpleInfo(PostSortType sortType, FeedCursor cursor, int pageSize);
 }
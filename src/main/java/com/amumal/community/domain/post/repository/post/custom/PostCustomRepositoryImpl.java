@@ -1,13 +1,23 @@
 package com.amumal.community.domain.post.repository.post.custom;
 
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
+import com.amumal.community.domain.post.dto.response.CommentPageResponse;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
+import com.amumal.community.domain.post.entity.QPost;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import static com.amumal.community.domain.post.entity.QPost.post;
@@ -15,6 +25,8 @@ import static com.amumal.community.domain.post.entity.QComment.comment;
 import static com.amumal.community.domain.post.entity.QLikes.likes;
 import static com.amumal.community.domain.user.entity.QUser.user;
 
+// 메서드별 쿼리 시간 측정 (class, method 태그로 구분)
+@Timed(value = "post.repository.query", histogram = true)
 public class PostCustomRepositoryImpl implements PostCustomRepository {
 
     private final JPAQueryFactory queryFactory;
@@ -25,6 +37,7 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
 
     @Override
     public PostDetailResponse getPostDetailInfoById(Long postId) {
+        // 작성자 이미지는 썸네일 변환본이 있으면 그것을, 아직 없으면 원본을 사용
         // 1. 게시글 기본 정보 조회 (댓글 자리에는 빈 리스트를 전달)
         PostDetailResponse postDetail = queryFactory
                 .select(Projections.constructor(
@@ -33,6 +46,7 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                         post.title,
                         post.content,
                         post.image,
+                        post.imageStatus,
                         post.createdAt,
                         post.viewCount,
                         JPAExpressions.select(likes.id.count().intValue())
@@ -47,7 +61,7 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                         Projections.constructor(
                                 PostDetailResponse.AuthorInfo.class,
                                 post.user.nickname,
-                                post.user.profileImage
+                                post.user.profileThumbnail.coalesce(post.user.profileImage)
                         ),
                         Expressions.constant(Collections.emptyList())
                 ))
@@ -59,8 +73,21 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
             return null;
         }
 
-        // 2. 해당 게시글의 댓글 목록 조회
-        List<PostDetailResponse.CommentResponse> comments = queryFactory
+        // 2. 댓글은 첫 페이지만 포함 (나머지는 댓글 목록 API에서 커서로 이어서 조회)
+        CommentPageResponse firstPage = CommentPageResponse.of(
+                getComments(postId, null, COMMENT_PAGE_SIZE + 1), COMMENT_PAGE_SIZE);
+
+        // 3. 조회된 댓글 목록을 포함하여 PostDetailResponse 객체 재구성 (빌더 사용)
+        return postDetail.toBuilder()
+                .comments(firstPage.comments())
+                .nextCommentCursor(firstPage.nextCursor())
+                .build();
+    }
+
+    @Override
+    public List<PostDetailResponse.CommentResponse> getComments(Long postId, Long cursor, int limit) {
+        // (post_id, deleted_at, id) 인덱스 순서대로 읽고 limit개에서 멈춤
+        return queryFactory
                 .select(Projections.constructor(
                         PostDetailResponse.CommentResponse.class,
                         comment.id,
@@ -69,63 +96,95 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                         Projections.constructor(
                                 PostDetailResponse.AuthorInfo.class,
                                 comment.user.nickname,
-                                comment.user.profileImage
+                                comment.user.profileThumbnail.coalesce(comment.user.profileImage)
                         )
                 ))
                 .from(comment)
                 .leftJoin(comment.user, user)
                 .where(
                         comment.post.id.eq(postId),
-                        comment.deletedAt.isNull()   // soft delete된 댓글은 제외
+                        comment.deletedAt.isNull(),   // soft delete된 댓글은 제외
+                        cursor == null ? null : comment.id.gt(cursor)
                 )
+                .orderBy(comment.id.asc())
+                .limit(limit)
                 .fetch();
-
-        // 3. 조회된 댓글 목록을 포함하여 PostDetailResponse 객체 재구성 (빌더 사용)
-        return PostDetailResponse.builder()
-                .postId(postDetail.postId())
-                .title(postDetail.title())
-                .content(postDetail.content())
-                .image(postDetail.image())
-                .createdAt(postDetail.createdAt())
-                .viewCount(postDetail.viewCount())
-                .likeCount(postDetail.likeCount())
-                .commentCount(postDetail.commentCount())
-                .author(postDetail.author())
-                .comments(comments)
-                .build();
     }
 
     @Override
     public List<PostSimpleInfo> getPostSimpleInfo(Long cursor, int pageSize) {
+        FeedCursor feedCursor = cursor == null ? null : FeedCursor.ofPostId(cursor);
+        return getPostSimpleInfo(PostSortType.NEWEST, feedCursor, pageSize);
+    }
+
+    @Override
+    public List<PostSimpleInfo> getPostSimpleInfo(PostSortType sortType, FeedCursor cursor, int pageSize) {
+        // 좋아요/댓글 수는 posts의 비정규화 컬럼을 그대로 사용 (집계 조인 없음)
+        // (정렬 키, post_id) 인덱스를 역순으로 타고 커서 다음 행부터 pageSize개만 읽음 (OFFSET 없음)
+        NumberPath<Integer> sortColumn = sortColumn(sortType);
+        OrderSpecifier<?>[] orderBy = sortColumn == null
+                ? new OrderSpecifier<?>[]{post.createdAt.desc(), post.id.desc()}
+                : new OrderSpecifier<?>[]{sortColumn.desc(), post.id.desc()};
+
         return queryFactory
                 .select(Projections.constructor(
                         PostSimpleInfo.class,
                         post.id.as("postId"),
                         post.title,
                         post.createdAt,
-                        JPAExpressions.select(likes.id.count().intValue())
-                                .from(likes)
-                                .where(likes.post.id.eq(post.id)),
-                        JPAExpressions.select(comment.id.count().intValue())
-                                .from(comment)
-                                .where(
-                                        comment.post.id.eq(post.id),
-                                        comment.deletedAt.isNull()),
+                        post.likeCount,
+                        post.commentCount,
                         post.viewCount,
-                        post.user.nickname,
-                        post.user.profileImage
+                        user.nickname,
+                        user.profileThumbnail.coalesce(user.profileImage)
                 ))
                 .from(post)
-                .leftJoin(post.user, user)
-                .leftJoin(likes).on(post.id.eq(likes.post.id))
-                .leftJoin(comment).on(post.id.eq(comment.post.id))
-                .groupBy(post.id, post.user.nickname, post.user.profileImage)
+                .join(post.user, user)
                 .where(
                         post.deletedAt.isNull(),
-                        cursor == null ? null : post.id.lt(cursor)
+                        after(sortColumn, cursor)
                 )
-                .orderBy(post.id.desc())
+                .orderBy(orderBy)
                 .limit(pageSize)
                 .fetch();
     }
+
+    // 최신순은 정수 카운터가 아닌 작성 시각(created_at)으로 정렬하므로 별도로 처리
+    private NumberPath<Integer> sortColumn(PostSortType sortType) {
+        return switch (sortType) {
+            case NEWEST -> null;
+            case LIKES -> post.likeCount;
+            case VIEWS -> post.viewCount;
+            case COMMENTS -> post.commentCount;
+        };
+    }
+
+    // (정렬 키, ID) < (커서 정렬 키, 커서 ID)
+    private BooleanExpression after(NumberPath<Integer> sortColumn, FeedCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (sortColumn == null) {
+            return afterNewest(cursor);
+        }
+        int sortKey = (int) cursor.sortKey();
+        return sortColumn.lt(sortKey)
+                .or(sortColumn.eq(sortKey).and(post.id.lt(cursor.postId())));
+    }
+
+    // (created_at, ID) < (커서 작성 시각, 커서 ID), (deleted_at, created_at, post_id) 인덱스 범위 조회
+    // 게시글 ID만 있는 이전 커서는 해당 게시글의 작성 시각을 서브쿼리로 찾음
+    private BooleanExpression afterNewest(FeedCursor cursor) {
+        if (cursor.hasSortKey()) {
+            LocalDateTime createdAt = PostSortType.fromEpochMicros(cursor.sortKey());
+            return post.createdAt.lt(createdAt)
+                    .or(post.createdAt.eq(createdAt).and(post.id.lt(cursor.postId())));
+        }
+        QPost cursorPost = new QPost("cursorPost");
+        JPQLQuery<LocalDateTime> createdAt = JPAExpressions.select(cursorPost.createdAt)
+                .from(cursorPost)
+                .where(cursorPost.id.eq(cursor.postId()));
+        return post.createdAt.lt(createdAt)
+                .or(post.createdAt.eq(createdAt).and(post.id.lt(cursor.postId())));
+    }
 }
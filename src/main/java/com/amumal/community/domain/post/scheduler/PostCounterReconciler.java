@@ -0,0 +1,41 @@
+package com.amumal.community.domain.post.scheduler;
+
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 비정규화된 좋아요/댓글 카운터를 실제 집계값과 비교해 어긋난 행을 보정하는 배치 작업
+@Component
+public class PostCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostCounterReconciler.class);
+
+    private final PostRepository postRepository;
+
+    @Value("${post.counter.reconcile.chunk-size:1000}")
+    private long chunkSize;
+
+    public PostCounterReconciler(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @Scheduled(cron = "${post.counter.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+
+        // id 구간 단위로 나누어 한 번에 잠그는 행 수를 제한
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = fromId + chunkSize - 1;
+            repaired += postRepository.reconcileLikeCounts(fromId, toId);
+            repaired += postRepository.reconcileCommentCounts(fromId, toId);
+        }
+
+        if (repaired > 0) {
+            logger.info("게시글 카운터 보정 완료: {}건", repaired);
+        }
+    }
+}
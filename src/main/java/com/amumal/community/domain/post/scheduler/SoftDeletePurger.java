@@ -0,0 +1,220 @@
+package com.amumal.community.domain.post.scheduler;
+
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.comment.CommentRepository;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+// 논리 삭제된 댓글/게시글과 탈퇴한 사용자의 콘텐츠를 물리 삭제하는 배치 작업
+// 엔티티를 읽지 않고 bulk DELETE만 사용하며, 자식 행(좋아요, 댓글)은 LIMIT 단위 문장으로 나누어 각자 커밋
+// 문장 사이에 쉬어서 좋아요/댓글이 많은 게시글이나 사용자도 메모리와 잠금 시간이 일정하게 유지됨
+// 모든 단계가 멱등이므로 중간에 실패하거나 여러 인스턴스가 동시에 실행해도 다음 실행에서 이어서 정리됨
+@Component
+public class SoftDeletePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoftDeletePurger.class);
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final UserRepository userRepository;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public SoftDeletePurger(CommentRepository commentRepository,
+                            PostRepository postRepository,
+                            LikesRepository likesRepository,
+                            UserRepository userRepository,
+                            S3DeletionQueue s3DeletionQueue,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${post.purge.retention-days:30}") long retentionDays,
+                            @Value("${post.purge.chunk-size:500}") int chunkSize,
+                            @Value("${post.purge.pause-ms:200}") long pauseMillis) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.likesRepository = likesRepository;
+        this.userRepository = userRepository;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${post.purge.cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        // 댓글을 먼저 정리해야 게시글 청크에서 함께 지울 댓글이 줄어듦
+        long comments = purgeComments(cutoff);
+        long posts = purgePosts(cutoff);
+
+        if (comments > 0 || posts > 0) {
+            logger.info("논리 삭제 행 정리 완료: 댓글 {}건, 게시글 {}건 (cutoff={})", comments, posts, cutoff);
+        }
+    }
+
+    // 탈퇴한 사용자는 보존 기간 없이 좋아요 -> 댓글 -> 게시글 -> 사용자 행 순서로 정리
+    // 다른 게시글에 남긴 좋아요/댓글은 청크마다 해당 게시글의 카운터를 같은 트랜잭션에서 다시 셈
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:60000}")
+    public void purgeDeletedUsers() {
+        for (Long userId : userRepository.findDeletedIds(PageRequest.of(0, chunkSize))) {
+            if (!purgeUser(userId)) {
+                return;
+            }
+        }
+    }
+
+    private long purgeComments(LocalDateTime cutoff) {
+        long purged = 0;
+        List<Long> ids;
+        do {
+            ids = commentRepository.findIdsDeletedBefore(cutoff, PageRequest.of(0, chunkSize));
+            if (!ids.isEmpty()) {
+                int deleted = commentRepository.deleteByIds(ids);
+                reclaimed("comments", deleted);
+                purged += deleted;
+            }
+        } while (ids.size() == chunkSize && pause());
+        return purged;
+    }
+
+    private long purgePosts(LocalDateTime cutoff) {
+        long purged = 0;
+        List<Long> ids;
+        do {
+            ids = postRepository.findIdsDeletedBefore(cutoff, PageRequest.of(0, chunkSize));
+            if (!ids.isEmpty()) {
+                Integer deleted = purgePostChunk(ids);
+                if (deleted == null) {
+                    break;
+                }
+                purged += deleted;
+            }
+        } while (ids.size() == chunkSize && pause());
+        return purged;
+    }
+
+    private boolean purgeUser(Long userId) {
+        if (!drain("likes", () -> purgeUserLikeChunk(userId))
+                || !drain("comments", () -> purgeUserCommentChunk(userId))) {
+            return false;
+        }
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+            if (!postIds.isEmpty() && purgePostChunk(postIds) == null) {
+                return false;
+            }
+        } while (postIds.size() == chunkSize && pause());
+
+        reclaimed("users", userRepository.purgeById(userId));
+        logger.info("탈퇴한 사용자 콘텐츠 정리 완료 (userId={})", userId);
+        return pause();
+    }
+
+    // 좋아요 청크 삭제와 그 게시글들의 좋아요 수 보정을 한 트랜잭션으로 묶고, 커밋 후 캐시/피드를 갱신
+    private int purgeUserLikeChunk(Long userId) {
+        List<Long> ids = likesRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            List<Long> postIds = likesRepository.findPostIdsByIdIn(ids);
+            int deleted = likesRepository.deleteByIds(ids);
+            postRepository.reconcileLikeCountsOf(postIds);
+            postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+            return deleted;
+        });
+    }
+
+    private int purgeUserCommentChunk(Long userId) {
+        List<Long> ids = commentRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            List<Long> postIds = commentRepository.findPostIdsByIdIn(ids);
+            int deleted = commentRepository.deleteByIds(ids);
+            postRepository.reconcileCommentCountsOf(postIds);
+            postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+            return deleted;
+        });
+    }
+
+    // 게시글 청크: 자식 행을 나누어 지운 뒤, 살아있던 게시글의 이미지 삭제 예약과 게시글 삭제를 한 트랜잭션으로 묶음
+    // (이미지 참조 해제가 게시글 삭제와 함께 커밋되어야 재시도할 때 두 번 해제되지 않음)
+    // 인터럽트되어 자식 행을 다 지우지 못하면 null
+    private Integer purgePostChunk(List<Long> postIds) {
+        if (!drain("likes", () -> likesRepository.deleteByPostIds(postIds, chunkSize))
+                || !drain("comments", () -> commentRepository.deleteByPostIds(postIds, chunkSize))) {
+            return null;
+        }
+        int deleted = transactionTemplate.execute(status -> {
+            postRepository.findLiveImagesByIdIn(postIds).forEach(s3DeletionQueue::enqueue);
+            postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+            return postRepository.deleteByIds(postIds);
+        });
+        reclaimed("posts", deleted);
+        return deleted;
+    }
+
+    // LIMIT 단위 DELETE를 더 지울 행이 없을 때까지 반복
+    private boolean drain(String table, IntSupplier deleteChunk) {
+        int deleted;
+        do {
+            deleted = deleteChunk.getAsInt();
+            reclaimed(table, deleted);
+            if (deleted == chunkSize && !pause()) {
+                return false;
+            }
+        } while (deleted == chunkSize);
+        return true;
+    }
+
+    private void reclaimed(String table, int rows) {
+        Counter.builder("purge.rows.reclaimed")
+                .description("논리 삭제 정리 작업으로 물리 삭제한 행 수")
+                .tag("table", table)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    // 다음 청크 전에 쉬고, 종료 중이라 인터럽트되면 남은 청크는 다음 주기로 미룸
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
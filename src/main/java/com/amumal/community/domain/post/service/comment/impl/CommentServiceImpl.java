@@ -1,8 +1,10 @@
 package com.amumal.community.domain.post.service.comment.impl;
 
 import com.amumal.community.domain.post.dto.request.CommentRequest;
+import com.amumal.community.domain.post.dto.response.CommentPageResponse;
 import com.amumal.community.domain.post.entity.Comment;
 import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
 import com.amumal.community.domain.post.repository.comment.CommentRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
 import com.amumal.community.domain.post.service.comment.CommentService;
@@ -10,16 +12,22 @@ import com.amumal.community.global.exception.CustomException;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long createComment(Long postId, CommentRequest request, User currentUser) {
@@ -31,20 +39,44 @@ public class CommentServiceImpl implements CommentService {
                 .content(request.content())
                 .build();
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
         return savedComment.getId();
     }
 
     @Override
     public void updateComment(Long postId, Long commentId, CommentRequest request, User currentUser) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
+        Comment comment = findComment(postId, commentId);
         comment.updateComment(request, currentUser);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Override
     public void deleteComment(Long postId, Long commentId, User currentUser) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
+        Comment comment = findComment(postId, commentId);
+        boolean alreadyDeleted = comment.getDeletedAt() != null;
         comment.safeDelete(currentUser);
+        // 이미 삭제된 댓글을 다시 삭제하는 경우 카운터를 중복 차감하지 않음
+        if (!alreadyDeleted) {
+            postRepository.decrementCommentCount(postId);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+    // 경로의 게시글에 속한 댓글만 허용 (다른 게시글의 댓글 ID로 요청하면 그 게시글의 카운터/캐시가 잘못 갱신됨)
+    private Comment findComment(Long postId, Long commentId) {
+        return commentRepository.findById(commentId)
+                .filter(comment -> Objects.equals(comment.getPost().getId(), postId))
+                .orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
+    }
+
+    // 다음 페이지 여부를 알기 위해 한 개 더 조회
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long postId, Long cursor, int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        return CommentPageResponse.of(postRepository.getComments(postId, cursor, pageSize + 1), pageSize);
     }
 }
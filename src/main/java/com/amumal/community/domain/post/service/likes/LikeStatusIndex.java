@@ -0,0 +1,134 @@
+package com.amumal.community.domain.post.service.likes;
+
+import com.amumal.community.domain.post.event.LikeToggledEvent;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글별 좋아요 누른 사용자 ID 비트맵 (Roaring 압축), "내가 좋아요 했는지" 확인을 DB 조회 없이 처리
+// - 처음 조회될 때 게시글 단위로 적재하고, 이후에는 커밋된 좋아요 토글을 캐시된 비트맵에 반영
+// - 비트맵은 수정하지 않고 복사본으로 교체하므로 읽을 때 잠금이 필요 없음
+// - 토글 반영은 이 인스턴스에서 커밋된 것뿐이므로, 적재 후 짧은 시간이 지나면 만료시켜 다른 인스턴스의 변경을 다시 읽음
+//   (토글 반영으로 값이 바뀌어도 만료 시각은 늦추지 않음)
+// - 존재하는 게시글만 캐시하므로 임의의 ID로 조회해도 빈 비트맵이 쌓이지 않음
+@Component
+public class LikeStatusIndex {
+
+    public static final String CACHE_NAME = "likeStatus";
+
+    private final LikesRepository likesRepository;
+    private final Cache<Long, Roaring64Bitmap> bitmaps;
+    // 커밋된 좋아요 토글 수, 적재하는 동안 바뀌었으면 적재 결과를 캐시에 남기지 않음
+    private final AtomicLong changes = new AtomicLong();
+
+    public LikeStatusIndex(LikesRepository likesRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.like-status.max-bytes:67108864}") long maxBytes,
+                           @Value("${post.like-status.expire-after-load-seconds:10}") long expireAfterLoadSeconds) {
+        this.likesRepository = likesRepository;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long postId, Roaring64Bitmap bitmap) ->
+                        (int) Math.min(Integer.MAX_VALUE, Math.max(1, bitmap.getLongSizeInBytes())))
+                .expireAfter(expireAfterLoad(Duration.ofSeconds(expireAfterLoadSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bitmaps, CACHE_NAME);
+    }
+
+    public boolean isLiked(Long postId, Long userId) {
+        return getStatuses(List.of(postId), userId).get(postId);
+    }
+
+    // 게시글 ID별 좋아요 여부 (요청 순서 유지), 캐시에 없는 게시글만 한 번의 쿼리로 적재
+    // 없거나 삭제된 게시글은 false
+    public Map<Long, Boolean> getStatuses(Collection<Long> postIds, Long userId) {
+        Map<Long, Roaring64Bitmap> found = new HashMap<>(bitmaps.getAllPresent(postIds));
+        Set<Long> missing = new LinkedHashSet<>(postIds);
+        missing.removeAll(found.keySet());
+        if (!missing.isEmpty()) {
+            found.putAll(load(missing));
+        }
+
+        Map<Long, Boolean> statuses = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            Roaring64Bitmap bitmap = found.get(postId);
+            statuses.put(postId, bitmap != null && bitmap.contains(userId));
+        }
+        return statuses;
+    }
+
+    // 커밋 이후에 반영해야 롤백된 토글이 비트맵에 남지 않음
+    // 카운터를 먼저 올려야 동시에 진행 중인 적재가 이 변경을 놓쳤는지 알 수 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        changes.incrementAndGet();
+        bitmaps.asMap().computeIfPresent(event.postId(), (postId, bitmap) -> {
+            Roaring64Bitmap updated = bitmap.clone();
+            if (event.liked()) {
+                updated.addLong(event.userId());
+            } else {
+                updated.removeLong(event.userId());
+            }
+            return updated;
+        });
+    }
+
+    private Map<Long, Roaring64Bitmap> load(Set<Long> postIds) {
+        long before = changes.get();
+        Map<Long, Roaring64Bitmap> loaded = new HashMap<>();
+        for (LikesRepository.Liker liker : likesRepository.findLikersOfLivePostsIn(postIds)) {
+            Roaring64Bitmap bitmap = loaded.computeIfAbsent(liker.getPostId(), postId -> new Roaring64Bitmap());
+            if (liker.getUserId() != null) {
+                bitmap.addLong(liker.getUserId());
+            }
+        }
+        loaded.values().forEach(Roaring64Bitmap::runOptimize);
+
+        // 먼저 캐시에 넣고 나서 확인: 그 사이 커밋된 토글이 있으면 조회 시점이 그보다 앞섰을 수 있으므로 버림
+        // (확인 이후에 커밋된 토글은 캐시에 들어간 비트맵에 직접 반영됨)
+        loaded.forEach(bitmaps.asMap()::putIfAbsent);
+        if (changes.get() != before) {
+            bitmaps.invalidateAll(loaded.keySet());
+        }
+        return loaded;
+    }
+
+    // 적재 시점부터 ttl이 지나면 만료 (읽기나 토글 반영으로는 연장하지 않음)
+    private static Expiry<Long, Roaring64Bitmap> expireAfterLoad(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long postId, Roaring64Bitmap bitmap, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long postId, Roaring64Bitmap bitmap, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long postId, Roaring64Bitmap bitmap, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
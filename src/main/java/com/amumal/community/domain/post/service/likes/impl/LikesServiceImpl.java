@@ -1,7 +1,10 @@
 package com.amumal.community.domain.post.service.likes.impl;
 
 import com.amumal.community.domain.post.dto.request.LikeRequest;
-import com.amumal.community.domain.post.entity.Likes;
+import com.amumal.community.domain.post.dto.response.LikeResponse;
+import com.amumal.community.domain.post.event.LikeToggledEvent;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.metrics.PostMetrics;
 import com.amumal.community.domain.post.repository.likes.LikesRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
 import com.amumal.community.domain.post.service.likes.LikesService;
@@ -9,9 +12,9 @@ import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.global.exception.CustomException;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,32 +23,42 @@ public class LikesServiceImpl implements LikesService {
 
     private final LikesRepository likesRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostMetrics postMetrics;
 
+    // 좋아요 토글: 존재 여부를 먼저 읽지 않고 삭제를 시도한 뒤, 지운 행이 없을 때만 삽입
+    // (post_id, user_id) 유일 제약 덕분에 동시에 두 번 눌러도 중복 행이 생기지 않음
     @Override
-    public void addLike(Long postId, LikeRequest request, User currentUser) {
-        // 이미 좋아요를 눌렀는지 확인
-        if (likesRepository.existsByPostIdAndUserId(postId, currentUser.getId())) {
-            removeLike(postId, currentUser.getId(), currentUser);
-            return;
+    public LikeResponse addLike(Long postId, LikeRequest request, User currentUser) {
+        if (likesRepository.deleteByPostIdAndUserId(postId, currentUser.getId()) > 0) {
+            return onLikeChanged(postId, currentUser.getId(), false);
         }
-
-        // 새로운 좋아요 추가
-        var post = postRepository.findById(postId)
+        if (likesRepository.insertIgnore(postId, currentUser.getId()) > 0) {
+            return onLikeChanged(postId, currentUser.getId(), true);
+        }
+        // 삽입된 행이 없으면 게시글이 없거나, 동시에 들어온 요청이 먼저 좋아요를 저장한 경우
+        int likeCount = postRepository.findLikeCountById(postId)
                 .orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
-        Likes like = Likes.builder()
-                .post(post)
-                .user(currentUser)
-                .build();
-        likesRepository.save(like);
+        return new LikeResponse(true, likeCount);
     }
 
     @Override
     public void removeLike(Long postId, Long userId, User currentUser) {
-        System.out.println("DEBUG: currentUser.getId() = " + currentUser.getId());
-        System.out.println("DEBUG: userId = " + userId);
+        if (likesRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            throw new CustomException(CustomResponseStatus.NOT_FOUND);
+        }
+        onLikeChanged(postId, userId, false);
+    }
 
-        Optional<Likes> likeOpt = likesRepository.findByPostIdAndUserId(postId, userId);
-        Likes like = likeOpt.orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
-        likesRepository.delete(like);
+    private LikeResponse onLikeChanged(Long postId, Long userId, boolean liked) {
+        if (liked) {
+            postRepository.incrementLikeCount(postId);
+        } else {
+            postRepository.decrementLikeCount(postId);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(new LikeToggledEvent(postId, userId, liked));
+        postMetrics.likeToggled(liked);
+        return new LikeResponse(liked, postRepository.findLikeCountById(postId).orElse(0));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
+import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글 목록 상위 N개를 미리 조회해 두는 스냅샷.
+// 읽기는 volatile 참조 하나만 읽고 불변 배열을 잘라서 반환하므로 락이 필요 없음.
+@Component
+public class FeedSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedSnapshot.class);
+
+    private final PostRepository postRepository;
+
+    // 무효화될 때마다 증가, 스냅샷 생성 시점의 값과 다르면 해당 스냅샷은 사용하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Value("${post.feed.snapshot.size:100}")
+    private int snapshotSize;
+
+    @Value("${post.feed.snapshot.max-age-ms:30000}")
+    private long maxAgeMillis;
+
+    public FeedSnapshot(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    // 스냅샷 범위 안의 페이지면 잘라서 반환, 범위를 벗어나거나 무효화된 상태면 empty
+    // 작성 시각이 없는 커서(게시글 ID만 있는 이전 커서)는 위치를 정할 수 없으므로 DB 조회로 위임
+    public Optional<List<PostSimpleInfo>> findPage(FeedCursor cursor, int pageSize) {
+        Snapshot current = snapshot;
+        if (current == null || current.generation() != generation.get() || pageSize <= 0
+                || (cursor != null && !cursor.hasSortKey())) {
+            return Optional.empty();
+        }
+
+        PostSimpleInfo[] rows = current.rows();
+        int from = cursor == null ? 0 : firstIndexBelow(rows, cursor);
+        int to = from + pageSize;
+
+        // 스냅샷이 전체 게시글을 담고 있지 않다면 잘린 뒷부분은 DB에서 조회해야 함
+        if (to > rows.length && !current.complete()) {
+            return Optional.empty();
+        }
+        return Optional.of(List.of(Arrays.copyOfRange(rows, from, Math.min(to, rows.length))));
+    }
+
+    @Scheduled(fixedDelayString = "${post.feed.snapshot.refresh-interval-ms:1000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        boolean stale = current == null
+                || current.generation() != generation.get()
+                || System.currentTimeMillis() - current.createdAt() > maxAgeMillis;
+        if (stale) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        long startedGeneration = generation.get();
+        try {
+            PostSimpleInfo[] rows = postRepository.getPostSimpleInfo(null, snapshotSize)
+                    .toArray(new PostSimpleInfo[0]);
+            snapshot = new Snapshot(rows, rows.length < snapshotSize, startedGeneration, System.currentTimeMillis());
+        } catch (Exception e) {
+            logger.error("게시글 목록 스냅샷 갱신 중 오류 발생", e);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Snapshot current = snapshot;
+        // 스냅샷에 없는 기존 게시글의 변경은 스냅샷에 영향을 주지 않음
+        // (새 게시글은 ID가 작더라도 가장 최근에 작성되었으므로 항상 무효화)
+        if (current != null && !current.complete() && !event.created() && !contains(current.rows(), event.postId())) {
+            return;
+        }
+        invalidate();
+    }
+
+    private static boolean contains(PostSimpleInfo[] rows, Long postId) {
+        for (PostSimpleInfo row : rows) {
+            if (row.postId().equals(postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // (작성 시각, 게시글 ID) 내림차순 배열에서 cursor보다 뒤에 오는 첫 번째 위치 (이진 탐색)
+    private static int firstIndexBelow(PostSimpleInfo[] rows, FeedCursor cursor) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long sortKey = PostSortType.NEWEST.sortKeyOf(rows[mid]);
+            boolean notBelow = sortKey > cursor.sortKey()
+                    || (sortKey == cursor.sortKey() && rows[mid].postId() >= cursor.postId());
+            if (notBelow) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Snapshot(
+            PostSimpleInfo[] rows,
+            boolean complete,
+            long generation,
+            long createdAt
+    ) {}
+}
@@ -0,0 +1,64 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 게시글 상세 조회 결과 캐시 (크기/TTL 기반 만료, 변경 이벤트로 무효화)
+@Component
+public class PostDetailCache {
+
+    public static final String CACHE_NAME = "postDetail";
+    // 무효화 세대 카운터 수 (게시글 ID를 나눠 담으므로 다른 게시글과 겹치면 채우기를 한 번 더 건너뛸 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache cache;
+    // 무효화될 때마다 증가, 적재하는 동안 바뀌었으면 적재 결과를 캐시에 남기지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public PostDetailCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        PostDetailResponse cached = cache.get(postId, PostDetailResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(postId);
+        long generation = generations.get(stripe);
+        // 존재하지 않는 게시글(null)은 캐시하지 않음
+        PostDetailResponse loaded = loader.get();
+        if (loaded != null && generations.get(stripe) == generation) {
+            cache.put(postId, loaded);
+            // 확인과 put 사이에 무효화가 끼어들었으면 조회 시점이 그 변경보다 앞섰을 수 있으므로 다시 지움
+            if (generations.get(stripe) != generation) {
+                cache.evict(postId);
+            }
+        }
+        return loaded;
+    }
+
+    // 세대를 먼저 올려야 동시에 진행 중인 적재가 이 무효화를 놓쳤는지 알 수 있음
+    public void evict(Long postId) {
+        generations.incrementAndGet(stripe(postId));
+        cache.evict(postId);
+    }
+
+    // 커밋 이후에 무효화해야 동시 조회가 커밋 전 데이터로 캐시를 다시 채우지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.postId());
+    }
+
+    private static int stripe(Long postId) {
+        return (int) (postId & (GENERATION_STRIPES - 1));
+    }
+}
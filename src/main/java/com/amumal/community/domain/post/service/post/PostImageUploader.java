@@ -0,0 +1,281 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.entity.ImageStatus;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.event.PostImageUploadRequestedEvent;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.global.s3.service.ImageObjectIndex;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
+import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.util.ContentHash;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 이미지 비동기 업로드 파이프라인
+// 1) 요청 스레드에서 이미지를 임시 파일로 옮기고 게시글은 PENDING 상태로 즉시 커밋
+// 2) 커밋 이후 S3AsyncClient로 업로드 (동시 업로드 수 제한, 실패 시 재시도)
+//    커밋 후 콜백 스레드에는 끝난 트랜잭션이 아직 묶여 있어 DB 쓰기가 커밋되지 않으므로 전용 스레드에서 진행
+// 3) 완료되면 게시글 행을 갱신하고, 반영할 곳이 없거나 최종 실패한 객체는 정리
+// 키는 내용 해시로 정하므로 이미 같은 이미지가 있으면 업로드 없이 참조만 늘림
+@Component
+public class PostImageUploader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostImageUploader.class);
+
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ImageObjectIndex imageObjectIndex;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Executor dispatcher;
+    private final Queue<PostImageUploadRequestedEvent> queue = new ConcurrentLinkedQueue<>();
+    // 대기 중이거나 업로드 중인 이미지 URL (오래된 PENDING 정리 시 제외)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${post.image.upload.stale-after-ms:600000}")
+    private long staleAfterMillis;
+
+    @Autowired
+    public PostImageUploader(S3Service s3Service,
+                             S3DeletionQueue s3DeletionQueue,
+                             ImageObjectIndex imageObjectIndex,
+                             PostRepository postRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${post.image.upload.max-concurrency:8}") int maxConcurrency,
+                             @Value("${post.image.upload.max-attempts:3}") int maxAttempts,
+                             @Value("${post.image.upload.retry-backoff-ms:500}") long retryBackoffMillis) {
+        // 동시 실행 수는 permits로 제한하므로 작업마다 가상 스레드 사용 (DB/인덱스 호출 동안만 점유)
+        this(s3Service, s3DeletionQueue, imageObjectIndex, postRepository, eventPublisher, maxConcurrency,
+                maxAttempts, retryBackoffMillis,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("post-image-", 0).factory()));
+    }
+
+    PostImageUploader(S3Service s3Service,
+                      S3DeletionQueue s3DeletionQueue,
+                      ImageObjectIndex imageObjectIndex,
+                      PostRepository postRepository,
+                      ApplicationEventPublisher eventPublisher,
+                      int maxConcurrency,
+                      int maxAttempts,
+                      long retryBackoffMillis,
+                      Executor dispatcher) {
+        this.s3Service = s3Service;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.imageObjectIndex = imageObjectIndex;
+        this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.dispatcher = dispatcher;
+    }
+
+    // 요청 본문이 사라지기 전에 임시 파일로 옮겨두고 업로드 대상 키/URL을 정함 (아직 S3 호출 없음)
+    // 임시 파일로 복사하면서 내용 해시를 함께 계산 (추가로 다시 읽지 않음)
+    public StagedImage stage(MultipartFile image) throws IOException {
+        Path stagedFile = Files.createTempFile("post-image-", ".upload");
+        MessageDigest digest = ContentHash.newDigest();
+        try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+            Files.copy(in, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
+        }
+        String contentHash = ContentHash.toHex(digest);
+        String objectKey = s3Service.createContentKey(contentHash);
+        return new StagedImage(stagedFile, contentHash, objectKey, s3Service.getPublicUrl(objectKey),
+                image.getContentType());
+    }
+
+    // 중복 확인(참조 증가)과 완료 반영이 각자 트랜잭션으로 커밋되도록 커밋 후 콜백 스레드 밖에서 시작
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUploadRequested(PostImageUploadRequestedEvent event) {
+        inFlight.add(event.imageUrl());
+        queue.add(event);
+        dispatcher.execute(this::drain);
+    }
+
+    // 게시글 저장이 롤백되면 업로드하지 않고 임시 파일만 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onUploadAbandoned(PostImageUploadRequestedEvent event) {
+        deleteStagedFile(event.stagedFile());
+    }
+
+    // 허용된 동시 업로드 수만큼만 꺼내서 시작하고, 하나가 끝나면 다음 요청을 이어서 처리
+    private void drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            PostImageUploadRequestedEvent event = queue.poll();
+            if (event == null) {
+                permits.release();
+                return;
+            }
+            upload(event)
+                    .handle((imageUrl, error) -> {
+                        if (error == null) {
+                            onUploaded(event);
+                        } else {
+                            onFailed(event, error);
+                        }
+                        return null;
+                    })
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            logger.error("게시글 이미지 업로드 후처리 중 오류 발생 (postId={})", event.postId(), error);
+                        }
+                        deleteStagedFile(event.stagedFile());
+                        inFlight.remove(event.imageUrl());
+                        permits.release();
+                        drain();
+                    });
+        }
+    }
+
+    // 같은 내용이 이미 있으면 참조만 늘리고 PUT 생략, 아니면 업로드가 끝난 뒤 참조 등록
+    private CompletableFuture<String> upload(PostImageUploadRequestedEvent event) {
+        try {
+            if (imageObjectIndex.acquireExisting(event.contentHash())) {
+                return CompletableFuture.completedFuture(event.imageUrl());
+            }
+        } catch (RuntimeException e) {
+            // 인덱스 조회 실패도 업로드 실패로 처리해야 허가가 반납됨
+            return CompletableFuture.failedFuture(e);
+        }
+        return uploadWithRetry(event, 1)
+                .thenApply(imageUrl -> {
+                    imageObjectIndex.acquire(event.contentHash(), event.objectKey());
+                    return imageUrl;
+                });
+    }
+
+    private CompletableFuture<String> uploadWithRetry(PostImageUploadRequestedEvent event, int attempt) {
+        return s3Service.uploadFileAsync(event.stagedFile(), event.objectKey(), event.contentType())
+                .exceptionallyCompose(error -> {
+                    if (attempt >= maxAttempts) {
+                        return CompletableFuture.failedFuture(error);
+                    }
+                    logger.warn("게시글 이미지 업로드 실패, 재시도합니다. (postId={}, attempt={}/{})",
+                            event.postId(), attempt, maxAttempts);
+                    return CompletableFuture
+                            .runAsync(() -> {
+                            }, CompletableFuture.delayedExecutor(retryBackoffMillis * attempt, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> uploadWithRetry(event, attempt + 1));
+                });
+    }
+
+    private void onUploaded(PostImageUploadRequestedEvent event) {
+        int updated;
+        try {
+            updated = postRepository.completeImageUpload(event.postId(), event.imageUrl());
+        } catch (RuntimeException e) {
+            // 반영하지 못했으면 업로드 단계에서 얻은 참조를 돌려줌 (오래된 PENDING 정리는 참조를 해제하지 않음)
+            logger.error("게시글 이미지 반영 실패 (postId={})", event.postId(), e);
+            deleteQuietly(event.imageUrl());
+            postRepository.failImageUpload(event.postId(), event.imageUrl());
+            eventPublisher.publishEvent(new PostChangedEvent(event.postId()));
+            return;
+        }
+        if (updated == 0) {
+            // 업로드 중 게시글이 삭제되었거나 더 새로운 이미지로 교체됨 -> 방금 얻은 참조를 해제
+            logger.info("반영 대상이 없는 업로드 객체를 정리합니다. (postId={})", event.postId());
+            deleteQuietly(event.imageUrl());
+            return;
+        }
+        // 새 이미지가 반영된 뒤에야 기존 이미지를 지움
+        if (event.previousImageUrl() != null) {
+            deleteQuietly(event.previousImageUrl());
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(event.postId()));
+    }
+
+    private void onFailed(PostImageUploadRequestedEvent event, Throwable error) {
+        logger.error("게시글 이미지 업로드 최종 실패 (postId={})", event.postId(), error);
+        postRepository.failImageUpload(event.postId(), event.imageUrl());
+        // 타임아웃 등으로 실제로는 올라갔을 수도 있으므로 대상 객체를 정리 (참조는 얻지 못했음)
+        discardQuietly(event.imageUrl());
+        eventPublisher.publishEvent(new PostChangedEvent(event.postId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // 서버 재시작 등으로 끝나지 못한 PENDING 업로드를 FAILED로 정리
+    @Scheduled(fixedDelayString = "${post.image.upload.stale-sweep-interval-ms:60000}")
+    public void sweepStaleUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(staleAfterMillis * 1_000_000);
+        for (Post post : postRepository.findByImageStatusAndUpdatedAtBefore(ImageStatus.PENDING, cutoff)) {
+            String pendingImage = post.getPendingImage();
+            if (pendingImage == null || inFlight.contains(pendingImage)) {
+                continue;
+            }
+            if (postRepository.failImageUpload(post.getId(), pendingImage) > 0) {
+                logger.warn("완료되지 않은 게시글 이미지 업로드를 실패 처리합니다. (postId={})", post.getId());
+                discardQuietly(pendingImage);
+                eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+            }
+        }
+    }
+
+    // 참조를 해제하고 마지막 참조였으면 삭제 outbox에 등록 (실제 삭제는 워커에 맡김)
+    private void deleteQuietly(String imageUrl) {
+        try {
+            s3DeletionQueue.enqueue(imageUrl);
+        } catch (Exception e) {
+            logger.warn("S3 객체 삭제 예약 실패: {}", imageUrl, e);
+        }
+    }
+
+    private void discardQuietly(String imageUrl) {
+        try {
+            s3DeletionQueue.discard(imageUrl);
+        } catch (Exception e) {
+            logger.warn("S3 객체 삭제 예약 실패: {}", imageUrl, e);
+        }
+    }
+
+    private void deleteStagedFile(Path stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException e) {
+            logger.warn("임시 업로드 파일 삭제 실패: {}", stagedFile, e);
+        }
+    }
+
+    // 업로드 대기 중인 이미지: 임시 파일 위치, 내용 해시와 업로드될 키/URL
+    public record StagedImage(Path file, String contentHash, String objectKey, String imageUrl, String contentType) {}
+}
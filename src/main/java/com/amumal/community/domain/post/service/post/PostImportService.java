@@ -0,0 +1,9 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.request.PostImportRequest;
+import com.amumal.community.domain.post.dto.response.PostImportResponse;
+import com.amumal.community.domain.user.entity.User;
+
+public interface PostImportService {
+    PostImportResponse importPosts(PostImportRequest request, User currentUser);
+}
@@ -1,9 +1,12 @@
 package com.amumal.community.domain.post.service.post;
 
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse;
 
 public interface PostQueryService {
-    PostResponse getPostSimpleInfo(Long cursor, int pageSize);
+    PostResponse getPostSimpleInfo(PostSortType sortType, String cursor, int pageSize);
+    // userId가 있으면 각 게시글에 likedByMe를 채움
+    PostResponse getPostSimpleInfo(PostSortType sortType, String cursor, int pageSize, Long userId);
     PostDetailResponse getPostDetailInfoById(Long postId, Boolean incrementView);
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.metrics.PostMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 증가분을 메모리에 모아두었다가 주기적으로 일괄 반영하는 write-behind 버퍼
+@Component
+public class ViewCountBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountBuffer.class);
+    private static final String FLUSH_SQL = "UPDATE posts SET view = view + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostMetrics postMetrics;
+    private final PostDetailCache postDetailCache;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    // 직전 flush에서 맵에서 뗀 유휴 항목 (flush 스레드만 접근)
+    // 떼기 직전에 참조를 얻은 increment가 늦게 더한 값은 다음 flush에서 다시 버퍼로 옮김
+    private final Map<Long, LongAdder> retiredViews = new HashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           PostMetrics postMetrics, PostDetailCache postDetailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postMetrics = postMetrics;
+        this.postDetailCache = postDetailCache;
+    }
+
+    public void increment(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        postMetrics.viewIncremented();
+    }
+
+    // 아직 DB에 반영되지 않은 증가분
+    public long getPending(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 상세 조회는 캐시된 조회수 + 대기 중인 증가분으로 응답하므로,
+    // 커밋될 때까지는 증가분을 버퍼에 그대로 두고 커밋 후에 차감하면서 반영된 게시글의 상세 캐시만 비움
+    // (PostChangedEvent는 발행하지 않음: 주기마다 첫 페이지 스냅샷까지 무효화할 필요는 없음)
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        retiredViews.forEach((postId, adder) -> {
+            long late = adder.sum();
+            if (late != 0) {
+                pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+            }
+        });
+        retiredViews.clear();
+
+        List<Long> postIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 더 이상 증가분이 없는 항목은 정리하되, 떼어낸 뒤에 더해진 값은 다음 주기에 회수
+                if (pendingViews.remove(entry.getKey(), adder)) {
+                    retiredViews.put(entry.getKey(), adder);
+                }
+                continue;
+            }
+            postIds.add(entry.getKey());
+            batchArgs.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 한 트랜잭션으로 묶어서 실패하면 전부 롤백됨 (실패한 증가분은 버퍼에 남아 다음 주기에 재시도)
+            transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (Exception e) {
+            logger.error("조회수 반영 중 오류 발생, 다음 주기에 재시도합니다.", e);
+            return;
+        }
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Long postId = postIds.get(i);
+            long delta = (Long) batchArgs.get(i)[0];
+            // 읽은 만큼만 차감하므로 flush 도중 들어온 증가분은 다음 주기로 이월됨
+            // (항목은 flush 스레드만 떼어내므로 아직 맵에 있음)
+            pendingViews.get(postId).add(-delta);
+            // 캐시에 남은 상세 응답은 반영 전 조회수를 들고 있으므로 비워서 다시 읽게 함
+            postDetailCache.evict(postId);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
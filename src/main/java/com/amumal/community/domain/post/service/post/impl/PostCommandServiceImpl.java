@@ -2,13 +2,19 @@ package com.amumal.community.domain.post.service.post.impl;
 
 import com.amumal.community.domain.post.dto.request.PostRequest;
 import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.event.PostImageUploadRequestedEvent;
 import com.amumal.community.domain.post.repository.post.PostRepository;
 import com.amumal.community.domain.post.service.post.PostCommandService;
+import com.amumal.community.domain.post.service.post.PostImageUploader;
+import com.amumal.community.domain.post.service.post.PostImageUploader.StagedImage;
 import com.amumal.community.global.exception.CustomException;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.domain.user.entity.User;
-import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.s3.service.PresignedUploadService;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,28 +28,34 @@ import java.util.Objects;
 public class PostCommandServiceImpl implements PostCommandService {
 
     private final PostRepository postRepository;
-    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final PostImageUploader postImageUploader;
+    private final PresignedUploadService presignedUploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long createPost(PostRequest request, MultipartFile image, User currentUser) {
-        // 이미지가 있으면 S3에 업로드
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            try {
-                imageUrl = s3Service.uploadImage(image);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 업로드 중 오류 발생", e);
-            }
-        }
+        // 이미지는 임시 파일로만 옮겨두고 S3 업로드는 커밋 이후 비동기로 진행 (DB 커넥션을 업로드 동안 잡지 않음)
+        StagedImage stagedImage = stageImage(image);
 
         Post post = Post.builder()
                 .user(currentUser)
                 .title(request.title())
                 .content(request.content())
-                .image(imageUrl) // S3 이미지 URL 저장
                 .viewCount(0)
                 .build();
+        if (stagedImage != null) {
+            post.requestImageUpload(stagedImage.imageUrl());
+        } else if (request.image() != null) {
+            // presigned 업로드로 이미 올라간 이미지는 참조만 얻어 바로 연결
+            post.attachImage(presignedUploadService.acquire(request.image()));
+        }
         Post savedPost = postRepository.save(post);
+
+        if (stagedImage != null) {
+            eventPublisher.publishEvent(toUploadEvent(savedPost.getId(), stagedImage, null));
+        }
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
         return savedPost.getId();
     }
 
@@ -55,26 +67,24 @@ public class PostCommandServiceImpl implements PostCommandService {
         // 사용자 권한 검증
         validatePostOwnership(post, currentUser);
 
-        // 이미지 처리
-        String imageUrl = post.getImage(); // 기존 이미지 URL
-
-        // 새 이미지가 업로드된 경우
-        if (image != null && !image.isEmpty()) {
-            // 기존 이미지가 있으면 삭제
-            if (imageUrl != null && s3Service.isValidS3Url(imageUrl)) {
-                s3Service.deleteImage(imageUrl);
-            }
-
-            // 새 이미지 업로드
-            try {
-                imageUrl = s3Service.uploadImage(image);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 업로드 중 오류 발생", e);
+        // 새 이미지가 업로드된 경우 임시 파일로 옮겨둠
+        StagedImage stagedImage = stageImage(image);
+
+        // 엔티티의 메서드를 통해 내용 업데이트 (이미지는 새 업로드가 완료될 때 교체)
+        post.updateContent(request.title(), request.content(), post.getImage());
+
+        // 기존 이미지는 새 이미지가 반영된 뒤 업로드 파이프라인에서 삭제
+        if (stagedImage != null) {
+            post.requestImageUpload(stagedImage.imageUrl());
+            eventPublisher.publishEvent(toUploadEvent(postId, stagedImage, post.getImage()));
+        } else if (request.image() != null && !request.image().equals(post.getImage())) {
+            String previousImageUrl = post.getImage();
+            post.attachImage(presignedUploadService.acquire(request.image()));
+            if (previousImageUrl != null) {
+                s3DeletionQueue.enqueue(previousImageUrl);
             }
         }
-
-        // 엔티티의 메서드를 통해 내용 업데이트
-        post.updateContent(request.title(), request.content(), imageUrl);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Override
@@ -85,14 +95,31 @@ public class PostCommandServiceImpl implements PostCommandService {
         // 사용자 권한 검증
         validatePostOwnership(post, currentUser);
 
-        // 게시글에 연결된 이미지가 있으면 S3에서 삭제
+        // 게시글에 연결된 이미지가 있으면 삭제 예약 (S3 호출은 커밋 이후 워커가 처리)
         String imageUrl = post.getImage();
-        if (imageUrl != null && s3Service.isValidS3Url(imageUrl)) {
-            s3Service.deleteImage(imageUrl);
+        if (imageUrl != null) {
+            s3DeletionQueue.enqueue(imageUrl);
         }
 
         // 게시글 논리적 삭제
         post.delete(); // BaseEntity의 delete() 메서드 사용
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+    private StagedImage stageImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return null;
+        }
+        try {
+            return postImageUploader.stage(image);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 업로드 중 오류 발생", e);
+        }
+    }
+
+    private PostImageUploadRequestedEvent toUploadEvent(Long postId, StagedImage stagedImage, String previousImageUrl) {
+        return new PostImageUploadRequestedEvent(postId, stagedImage.file(), stagedImage.contentHash(),
+                stagedImage.objectKey(), stagedImage.imageUrl(), stagedImage.contentType(), previousImageUrl);
     }
 
     // 게시글 소유권 검증 메서드
@@ -0,0 +1,89 @@
+package com.amumal.community.domain.post.service.post.impl;
+
+import com.amumal.community.domain.post.dto.request.PostImportRequest;
+import com.amumal.community.domain.post.dto.response.PostImportResponse;
+import com.amumal.community.domain.post.entity.Comment;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.comment.CommentRepository;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.post.service.post.PostImportService;
+import com.amumal.community.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 게시글/댓글 일괄 등록
+// ID를 id_sequences에서 구간 단위로 받으므로 persist 시점에는 INSERT가 나가지 않고,
+// flush할 때 hibernate.jdbc.batch_size 단위의 JDBC 배치로 묶여 전송됨
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostImportServiceImpl implements PostImportService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 한 번에 영속성 컨텍스트에 올려둘 게시글 수 (배치 크기와 맞춤)
+    @Value("${post.import.flush-size:50}")
+    private int flushSize;
+
+    @Override
+    public PostImportResponse importPosts(PostImportRequest request, User currentUser) {
+        List<PostImportRequest.Item> items = request.posts();
+        int commentCount = 0;
+        Long lastPostId = null;
+
+        for (int from = 0; from < items.size(); from += flushSize) {
+            List<PostImportRequest.Item> chunk = items.subList(from, Math.min(from + flushSize, items.size()));
+
+            List<Post> posts = new ArrayList<>(chunk.size());
+            List<Comment> comments = new ArrayList<>();
+            for (PostImportRequest.Item item : chunk) {
+                Post post = Post.builder()
+                        .user(currentUser)
+                        .title(item.title())
+                        .content(item.content())
+                        .commentCount(item.comments().size())
+                        .build();
+                posts.add(post);
+                for (String content : item.comments()) {
+                    comments.add(Comment.builder()
+                            .post(post)
+                            .user(currentUser)
+                            .content(content)
+                            .build());
+                }
+            }
+            postRepository.saveAll(posts);
+            commentRepository.saveAll(comments);
+
+            // 청크마다 배치 INSERT를 내보내고 영속성 컨텍스트를 비워 요청 크기와 관계없이 메모리를 일정하게 유지
+            entityManager.flush();
+            entityManager.clear();
+
+            commentCount += comments.size();
+            lastPostId = posts.get(posts.size() - 1).getId();
+        }
+
+        // 가장 최근 게시글 하나로 최신순 스냅샷을 갱신 대상으로 표시 (새 게시글은 상세 캐시가 없음)
+        if (lastPostId != null) {
+            eventPublisher.publishEvent(PostChangedEvent.created(lastPostId));
+        }
+        return PostImportResponse.builder()
+                .postCount(items.size())
+                .commentCount(commentCount)
+                .build();
+    }
+}
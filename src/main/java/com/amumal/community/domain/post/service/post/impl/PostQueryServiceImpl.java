@@ -1,54 +1,103 @@
 package com.amumal.community.domain.post.service.post.impl;
 
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
-import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.post.service.post.FeedSnapshot;
+import com.amumal.community.domain.post.service.post.PostDetailCache;
 import com.amumal.community.domain.post.service.post.PostQueryService;
+import com.amumal.community.domain.post.service.post.ViewCountBuffer;
 import com.amumal.community.global.exception.CustomException;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostQueryServiceImpl implements PostQueryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final FeedSnapshot feedSnapshot;
+    private final LikesRepository likesRepository;
 
     @Override
-    public PostResponse getPostSimpleInfo(Long cursor, int pageSize) {
-        List<PostSimpleInfo> simpleInfos = postRepository.getPostSimpleInfo(cursor, pageSize);
-        Long nextCursor = simpleInfos.isEmpty() ? null : simpleInfos.get(simpleInfos.size() - 1).postId();
+    public PostResponse getPostSimpleInfo(PostSortType sortType, String cursor, int pageSize) {
+        return getPostSimpleInfo(sortType, cursor, pageSize, null);
+    }
+
+    @Override
+    public PostResponse getPostSimpleInfo(PostSortType sortType, String cursor, int pageSize, Long userId) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        FeedCursor feedCursor = FeedCursor.decode(cursor, sortType);
+        List<PostSimpleInfo> simpleInfos;
+        if (sortType == PostSortType.NEWEST) {
+            // 스냅샷 범위 안의 페이지(대부분의 첫 페이지 요청)는 DB 조회 없이 응답
+            simpleInfos = feedSnapshot.findPage(feedCursor, pageSize)
+                    .orElseGet(() -> postRepository.getPostSimpleInfo(sortType, feedCursor, pageSize));
+        } else {
+            simpleInfos = postRepository.getPostSimpleInfo(sortType, feedCursor, pageSize);
+        }
+
+        String nextCursor = simpleInfos.isEmpty() ? null
+                : FeedCursor.after(sortType, simpleInfos.get(simpleInfos.size() - 1)).encode();
         return PostResponse.builder()
-                .postSimpleInfos(simpleInfos)
+                .postSimpleInfos(userId == null ? simpleInfos : withLikedByMe(simpleInfos, userId))
                 .nextCursor(nextCursor)
                 .build();
     }
 
+    // 사용자 ID와 페이지의 게시글 ID로 좋아요 행만 한 번에 조회해 좋아요 여부를 채움
+    // (게시글별 전체 좋아요 사용자를 읽지 않으므로 좋아요가 많은 게시글이나 토글이 잦아도 비용이 페이지 크기에 비례)
+    // 스냅샷 행은 여러 요청이 공유하므로 고치지 않고 복사본을 만듦
+    private List<PostSimpleInfo> withLikedByMe(List<PostSimpleInfo> simpleInfos, Long userId) {
+        if (simpleInfos.isEmpty()) {
+            return simpleInfos;
+        }
+        Set<Long> liked = new HashSet<>(likesRepository.findLikedPostIds(userId,
+                simpleInfos.stream().map(PostSimpleInfo::postId).toList()));
+        return simpleInfos.stream()
+                .map(info -> info.toBuilder().likedByMe(liked.contains(info.postId())).build())
+                .toList();
+    }
+
     @Override
-    @Transactional
     public PostDetailResponse getPostDetailInfoById(Long postId, Boolean incrementView) {
-        // incrementView 파라미터가 true일 때만 조회수 증가
-        if (incrementView != null && incrementView) {
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new CustomException(CustomResponseStatus.NOT_FOUND));
+        // 게시글 상세 정보 조회 (캐시 미스일 때만 DB 조회)
+        PostDetailResponse detailResponse = postDetailCache.get(postId,
+                () -> postRepository.getPostDetailInfoById(postId));
+        if(detailResponse == null) {
+            throw new CustomException(CustomResponseStatus.NOT_FOUND);
+        }
 
-            // 엔티티의 메서드를 통해 조회수 증가
-            post.incrementViewCount();
-            postRepository.save(post);
+        // incrementView 파라미터가 true일 때만 조회수 증가 (DB 반영은 ViewCountBuffer가 주기적으로 수행)
+        if (incrementView != null && incrementView) {
+            viewCountBuffer.increment(postId);
         }
 
-        // 게시글 상세 정보 조회
-        PostDetailResponse detailResponse = postRepository.getPostDetailInfoById(postId);
-        if(detailResponse == null) {
-            throw new CustomException(CustomResponseStatus.NOT_FOUND);
+        // 응답 조회수 = DB에 저장된 값 + 아직 반영되지 않은 증가분
+        long pendingViews = viewCountBuffer.getPending(postId);
+        if (pendingViews == 0) {
+            return detailResponse;
         }
-        return detailResponse;
+        int persistedViews = detailResponse.viewCount() == null ? 0 : detailResponse.viewCount();
+        return detailResponse.toBuilder()
+                .viewCount((int) (persistedViews + pendingViews))
+                .build();
     }
 }
\ No newline at end of file
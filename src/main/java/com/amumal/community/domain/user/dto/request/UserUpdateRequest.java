@@ -20,4 +20,7 @@ public class UserUpdateRequest {
     @Size(max = 10)
     private String nickname;
 
+    // presigned 업로드를 완료한 이미지 URL (multipart 이미지가 없을 때만 사용)
+    private String profileImageUrl;
+
 }
@@ -1,21 +1,29 @@
 package com.amumal.community.domain.user.entity;
 
 import com.amumal.community.global.entity.BaseEntity;
+import com.amumal.community.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.util.Objects;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "users")
+// 탈퇴한 사용자 정리 작업이 deleted_at IS NOT NULL 행을 찾을 때 사용
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
 public class User extends BaseEntity implements Serializable { // BaseEntity 상속 추가
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long id;
 
@@ -33,12 +41,23 @@ public class User extends BaseEntity implements Serializable { // BaseEntity 상
     @Builder.Default
     private String profileImage = "";
 
+    // 목록/댓글 아바타용 작은 변환본 (생성 전에는 null -> 원본 사용)
+    @Column(name = "profile_thumb", length = 512)
+    private String profileThumbnail;
+
     // 사용자 프로필 업데이트 메서드
     public void updateProfile(String nickname, String profileImage) {
+        if (!Objects.equals(this.profileImage, profileImage)) {
+            this.profileThumbnail = null; // 이전 이미지의 썸네일은 더 이상 유효하지 않음
+        }
         this.nickname = nickname;
         this.profileImage = profileImage;
     }
 
+    public void updateProfileThumbnail(String profileThumbnail) {
+        this.profileThumbnail = profileThumbnail;
+    }
+
     // 비밀번호 업데이트 메서드
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
@@ -0,0 +1,7 @@
+package com.amumal.community.domain.user.event;
+
+// 사용자 프로필 이미지가 새로 업로드되었음을 알리는 이벤트 (변환본 생성 트리거)
+public record ProfileImageChangedEvent(
+        Long userId,
+        String imageUrl
+) {}
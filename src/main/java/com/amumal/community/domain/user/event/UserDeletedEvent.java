@@ -0,0 +1,6 @@
+package com.amumal.community.domain.user.event;
+
+// 사용자가 탈퇴(논리 삭제)되었음을 알리는 이벤트 (인증 principal 캐시 무효화)
+public record UserDeletedEvent(
+        Long userId
+) {}
@@ -1,7 +1,14 @@
 package com.amumal.community.domain.user.repository;
 
 import com.amumal.community.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +18,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    // 탈퇴 처리되어 콘텐츠 정리를 기다리는 사용자
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL ORDER BY u.id ASC")
+    List<Long> findDeletedIds(Pageable pageable);
+
+    // 자식 행을 모두 정리한 뒤 엔티티를 읽지 않고 사용자 행만 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int purgeById(@Param("userId") Long userId);
 }
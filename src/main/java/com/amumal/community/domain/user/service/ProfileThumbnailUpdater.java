@@ -0,0 +1,56 @@
+package com.amumal.community.domain.user.service;
+
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.enums.ImageRendition;
+import com.amumal.community.global.s3.service.ImageRenditionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+// 프로필 이미지 변경이 커밋되면 변환본을 만들고, 썸네일 URL을 사용자 행에 반영
+@Component
+@RequiredArgsConstructor
+public class ProfileThumbnailUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileThumbnailUpdater.class);
+    // 프로필 응답은 썸네일만 사용하므로 다른 크기는 만들지 않음
+    private static final Set<ImageRendition> RENDITIONS = EnumSet.of(ImageRendition.THUMBNAIL);
+
+    private final ImageRenditionService imageRenditionService;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileImageChanged(ProfileImageChangedEvent event) {
+        imageRenditionService.generate(event.imageUrl(), RENDITIONS)
+                .thenAccept(renditions -> apply(event, renditions))
+                .exceptionally(error -> {
+                    // 썸네일이 없으면 응답은 원본 이미지를 그대로 사용하므로 경고만 남김
+                    logger.warn("프로필 썸네일 생성 실패 (userId={})", event.userId(), error);
+                    return null;
+                });
+    }
+
+    void apply(ProfileImageChangedEvent event, Map<ImageRendition, String> renditions) {
+        Boolean applied = transactionTemplate.execute(status -> userRepository.findById(event.userId())
+                .filter(user -> event.imageUrl().equals(user.getProfileImage()))
+                .map(user -> {
+                    user.updateProfileThumbnail(renditions.get(ImageRendition.THUMBNAIL));
+                    return true;
+                })
+                .orElse(false));
+
+        if (!Boolean.TRUE.equals(applied)) {
+            // 변환 중 사용자가 삭제되었거나 다른 이미지로 교체됨 -> 방금 만든 변환본은 고아
+            imageRenditionService.deleteRenditions(event.imageUrl());
+        }
+    }
+}
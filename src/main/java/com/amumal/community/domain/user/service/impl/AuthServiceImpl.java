@@ -5,11 +5,14 @@ import com.amumal.community.domain.user.dto.request.SignupRequest;
 import com.amumal.community.domain.user.dto.response.AuthResponse;
 import com.amumal.community.domain.user.dto.response.UserInfoResponse;
 import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
 import com.amumal.community.domain.user.repository.UserRepository;
 import com.amumal.community.domain.user.service.AuthService;
+import com.amumal.community.global.s3.service.PresignedUploadService;
 import com.amumal.community.global.s3.service.S3Service;
 import com.amumal.community.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +28,9 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
+    private final PresignedUploadService presignedUploadService;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long signup(SignupRequest request, MultipartFile profileImage) {
@@ -39,11 +44,11 @@ public class AuthServiceImpl implements AuthService {
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 프로필 이미지 처리 - S3에 업로드
+        // 프로필 이미지 처리 - S3에 업로드하고 사용자 행이 참조를 얻음 (가입이 롤백되면 참조도 롤백)
         String profileImageUrl = null;
         if (profileImage != null && !profileImage.isEmpty()) {
             try {
-                profileImageUrl = s3Service.uploadImage(profileImage);
+                profileImageUrl = presignedUploadService.acquire(s3Service.uploadImage(profileImage));
             } catch (IOException e) {
                 throw new RuntimeException("이미지 업로드 중 오류 발생", e);
             }
@@ -57,12 +62,18 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+
+        // 커밋 이후 썸네일 생성
+        if (profileImageUrl != null) {
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(savedUser.getId(), profileImageUrl));
+        }
         return savedUser.getId();
     }
 
     @Override
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
+                .filter(found -> found.getDeletedAt() == null) // 탈퇴 처리된 사용자
                 .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호 오류"));
 
         // 암호화된 비밀번호 비교
@@ -91,6 +102,7 @@ public class AuthServiceImpl implements AuthService {
         Long userId = jwtUtil.extractUserId(refreshToken);
 
         User user = userRepository.findByEmail(email)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
 
         if (!jwtUtil.validateToken(refreshToken, email)) {
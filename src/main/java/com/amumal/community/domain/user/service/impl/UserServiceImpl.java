@@ -4,10 +4,16 @@ import com.amumal.community.domain.user.dto.request.PasswordUpdateRequest;
 import com.amumal.community.domain.user.dto.request.UserUpdateRequest;
 import com.amumal.community.domain.user.dto.response.UserInfoResponse;
 import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
+import com.amumal.community.domain.user.event.UserDeletedEvent;
 import com.amumal.community.domain.user.repository.UserRepository;
 import com.amumal.community.domain.user.service.UserService;
+import com.amumal.community.global.s3.service.ImageRenditionService;
+import com.amumal.community.global.s3.service.PresignedUploadService;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
 import com.amumal.community.global.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +29,10 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
+    private final ImageRenditionService imageRenditionService;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final PresignedUploadService presignedUploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void updateProfile(UserUpdateRequest request, MultipartFile profileImage) {
@@ -34,23 +44,38 @@ public class UserServiceImpl implements UserService {
         }
 
         String profileImageUrl = user.getProfileImage(); // 기존 이미지 유지
+        String newImageUrl = null;
 
         // 새로운 이미지가 있는 경우만 처리
         if (profileImage != null && !profileImage.isEmpty()) {
-            // 기존 이미지가 존재하고 S3에 저장된 이미지라면 삭제
-            if (profileImageUrl != null && s3Service.isValidS3Url(profileImageUrl)) {
-                s3Service.deleteImage(profileImageUrl);
-            }
-
-            // 새로운 이미지 업로드
             try {
-                profileImageUrl = s3Service.uploadImage(profileImage);
+                // 업로드는 참조 없이 등록만 하므로 presigned 업로드와 같이 참조를 얻어 연결
+                newImageUrl = presignedUploadService.acquire(s3Service.uploadImage(profileImage));
             } catch (IOException e) {
                 throw new RuntimeException("이미지 업로드 중 오류 발생", e);
             }
+        } else if (request.getProfileImageUrl() != null && !request.getProfileImageUrl().equals(profileImageUrl)) {
+            // presigned 업로드로 이미 올라간 이미지는 참조만 얻어 연결
+            newImageUrl = presignedUploadService.acquire(request.getProfileImageUrl());
+        }
+
+        boolean imageChanged = newImageUrl != null;
+        if (imageChanged) {
+            // 기존 이미지가 존재하고 S3에 저장된 이미지라면 변환본과 함께 삭제 예약 (커밋될 때만 삭제됨)
+            // 같은 이미지를 다른 곳에서 아직 쓰고 있으면 참조 수만 줄어듦
+            if (profileImageUrl != null && s3Service.isValidS3Url(profileImageUrl)
+                    && s3DeletionQueue.enqueue(profileImageUrl)) {
+                imageRenditionService.deleteRenditions(profileImageUrl);
+            }
+            profileImageUrl = newImageUrl;
         }
 
         user.updateProfile(request.getNickname(), profileImageUrl);
+
+        // 커밋 이후 썸네일 생성 (완료 전까지 응답은 원본 이미지 사용)
+        if (imageChanged) {
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(user.getId(), profileImageUrl));
+        }
     }
 
 
@@ -82,13 +107,28 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(Long userId) {
         User user = userRepository.findById(userId)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        userRepository.delete(user);
+
+        // 프로필 이미지는 탈퇴와 함께 삭제 예약 (커밋될 때만 삭제됨)
+        String profileImageUrl = user.getProfileImage();
+        if (profileImageUrl != null && s3Service.isValidS3Url(profileImageUrl)
+                && s3DeletionQueue.enqueue(profileImageUrl)) {
+            imageRenditionService.deleteRenditions(profileImageUrl);
+        }
+
+        // 여기서는 논리 삭제만 하고, 좋아요/댓글/게시글과 사용자 행은 SoftDeletePurger가 bulk DELETE로 나누어 정리
+        user.delete();
+        // 커밋 이후 인증 principal 캐시에서 제거 (이후 요청은 토큰이 유효해도 인증되지 않음)
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 
+    // 호출한 요청만 쓰는 엔티티를 매번 새로 조회 (요청 간에 공유하는 캐시는 PrincipalCache의 불변 principal만 보관)
     @Override
+    @Transactional(readOnly = true)
     public User findById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
     }
 }
\ No newline at end of file
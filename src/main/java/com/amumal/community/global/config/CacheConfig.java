@@ -0,0 +1,36 @@
+package com.amumal.community.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 기본 캐시 크기/TTL은 application.properties의 spring.cache.* 설정으로 관리
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 인증 principal 캐시 (PrincipalCache): 탈퇴 시 커밋 이후 무효화, 다른 인스턴스는 짧은 TTL로 반영
+    public static final String PRINCIPAL_CACHE = "principal";
+
+    @Value("${cache.principal.maximum-size:10000}")
+    private long principalMaximumSize;
+
+    @Value("${cache.principal.ttl-seconds:30}")
+    private long principalTtlSeconds;
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> principalCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(PRINCIPAL_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(principalMaximumSize)
+                        .expireAfterWrite(Duration.ofSeconds(principalTtlSeconds))
+                        .recordStats()
+                        .build());
+    }
+}
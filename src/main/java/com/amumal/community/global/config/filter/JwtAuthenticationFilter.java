@@ -1,7 +1,9 @@
 package com.amumal.community.global.config.filter;
 
-import com.amumal.community.global.config.security.CustomUserDetailsService;
+import com.amumal.community.global.config.security.JwtUserDetails;
+import com.amumal.community.global.config.security.PrincipalCache;
 import com.amumal.community.global.util.JwtUtil;
+import com.amumal.community.global.util.JwtUtil.JwtClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +13,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,7 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,22 +33,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String email = null;
-        String jwt = null;
+        JwtClaims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                email = jwtUtil.extractUsername(jwt);
+                // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리
+                claims = jwtUtil.parse(jwt);
             } catch (Exception e) {
                 logger.error("JWT 토큰 처리 중 오류 발생", e);
             }
         }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
-
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 캐시된 principal 사용 (캐시 미스일 때만 DB 조회), 탈퇴한 사용자는 토큰이 유효해도 인증하지 않음
+            JwtUserDetails userDetails = principalCache.get(claims.userId());
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
@@ -56,7 +57,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
 
                 // 사용자 ID를 request 속성으로 추가 (인터셉터나 컨트롤러에서 사용 가능)
-                request.setAttribute("userId", jwtUtil.extractUserId(jwt));
+                request.setAttribute("userId", claims.userId());
             }
         }
 
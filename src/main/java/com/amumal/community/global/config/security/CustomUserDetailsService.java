@@ -17,15 +17,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
+                .filter(found -> found.getDeletedAt() == null) // 탈퇴 처리된 사용자는 정리 전까지도 인증하지 않음
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return new JwtUserDetails(user);
     }
-
-    public UserDetails loadUserById(Long id) throws UsernameNotFoundException {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
-
-        return new JwtUserDetails(user);
-    }
 }
@@ -22,6 +22,14 @@ public class JwtUserDetails implements UserDetails {
         this.authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
+    // 인증 필터용 불변 principal (PrincipalCache에 보관되므로 비밀번호는 담지 않음)
+    public JwtUserDetails(Long id, String email) {
+        this.id = id;
+        this.email = email;
+        this.password = null;
+        this.authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+
     public Long getId() {
         return id;
     }
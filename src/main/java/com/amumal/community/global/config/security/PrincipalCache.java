@@ -0,0 +1,70 @@
+package com.amumal.community.global.config.security;
+
+import com.amumal.community.domain.user.event.UserDeletedEvent;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 인증 필터가 요청마다 쓰는 principal 캐시
+// 엔티티 대신 불변 principal(ID, 이메일)만 보관하므로 여러 요청 스레드가 같은 값을 공유해도 안전함
+// 탈퇴한 사용자는 캐시하지 않아 토큰이 만료되기 전이라도 인증되지 않음
+@Component
+public class PrincipalCache {
+
+    // 무효화 세대 카운터 수 (사용자 ID를 나눠 담으므로 다른 사용자와 겹치면 채우기를 한 번 더 건너뛸 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache cache;
+    private final UserRepository userRepository;
+    // 무효화될 때마다 증가, 조회하는 동안 바뀌었으면 조회 결과를 캐시에 남기지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public PrincipalCache(CacheManager cacheManager, UserRepository userRepository) {
+        this.cache = cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE);
+        this.userRepository = userRepository;
+    }
+
+    // 없거나 탈퇴한 사용자면 null
+    public JwtUserDetails get(Long userId) {
+        JwtUserDetails cached = cache.get(userId, JwtUserDetails.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        JwtUserDetails loaded = userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .map(user -> new JwtUserDetails(user.getId(), user.getEmail()))
+                .orElse(null);
+        if (loaded != null && generations.get(stripe) == generation) {
+            cache.put(userId, loaded);
+            // 확인과 put 사이에 탈퇴가 커밋되었으면 탈퇴 전 행으로 채웠을 수 있으므로 다시 지움
+            if (generations.get(stripe) != generation) {
+                cache.evict(userId);
+            }
+        }
+        return loaded;
+    }
+
+    // 세대를 먼저 올려야 동시에 진행 중인 조회가 이 무효화를 놓쳤는지 알 수 있음
+    public void evict(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.evict(userId);
+    }
+
+    // 커밋 이후에 무효화해야 동시 요청이 탈퇴 전 행으로 캐시를 다시 채우지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        evict(event.userId());
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (GENERATION_STRIPES - 1));
+    }
+}
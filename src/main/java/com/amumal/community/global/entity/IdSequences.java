@@ -0,0 +1,18 @@
+package com.amumal.community.global.entity;
+
+// 배치 INSERT가 가능한 ID 생성 설정 (@TableGenerator에서 사용)
+// IDENTITY는 INSERT마다 생성된 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 쓰지 않음
+// 대신 id_sequences 테이블에서 ALLOCATION_SIZE만큼 ID 구간을 한 번에 받아 메모리에서 나눠 씀
+// (hibernate.id.optimizer.pooled.preferred=pooled-lo: 테이블 값이 다음 구간의 시작 ID)
+// 인스턴스마다 받아 둔 구간을 다 쓸 때까지 유지하므로 ID 순서는 작성 순서와 다를 수 있음 (최신순은 created_at으로 정렬)
+// 실행 중인 인스턴스가 받아 둔 구간과 겹치므로 ID를 AUTO_INCREMENT나 수동 INSERT로 만들면 안 됨
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
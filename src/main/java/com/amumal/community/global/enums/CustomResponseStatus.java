@@ -16,6 +16,8 @@ public enum CustomResponseStatus {
     // 요청 오류
     BAD_REQUEST("bad_request", HttpStatus.BAD_REQUEST),
     VALIDATION_FAILED("validation_failed", HttpStatus.BAD_REQUEST),
+    PAYLOAD_TOO_LARGE("payload_too_large", HttpStatus.PAYLOAD_TOO_LARGE),
+    TOO_MANY_REQUESTS("too_many_requests", HttpStatus.TOO_MANY_REQUESTS),
 
     // 서버 오류
     SERVER_ERROR("server_error", HttpStatus.INTERNAL_SERVER_ERROR);
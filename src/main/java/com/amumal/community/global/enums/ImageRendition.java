@@ -0,0 +1,45 @@
+package com.amumal.community.global.enums;
+
+import java.util.Optional;
+
+// 업로드된 이미지에서 생성하는 고정 크기 변환본 (긴 변 기준 최대 픽셀)
+public enum ImageRendition {
+    THUMBNAIL("thumb", 96),
+    FEED("feed", 640),
+    FULL("full", 1280);
+
+    private static final String PREFIX = "renditions/";
+    private static final String EXTENSION = ".jpg";
+
+    private final String suffix;
+    private final int maxDimension;
+
+    ImageRendition(String suffix, int maxDimension) {
+        this.suffix = suffix;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    // 원본 키에서 변환본 키를 유도 (예: renditions/thumb/{원본 키}.jpg)
+    public String deriveKey(String originalKey) {
+        return PREFIX + suffix + "/" + originalKey + EXTENSION;
+    }
+
+    // 변환본 키이면 원본 키를 돌려줌
+    public static Optional<String> originalKeyOf(String key) {
+        for (ImageRendition rendition : values()) {
+            String prefix = PREFIX + rendition.suffix + "/";
+            if (key.startsWith(prefix) && key.endsWith(EXTENSION)) {
+                return Optional.of(key.substring(prefix.length(), key.length() - EXTENSION.length()));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -5,8 +5,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
 
 @Configuration
 public class S3Config {
@@ -20,12 +25,42 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 동시 S3 호출 상한: 가상 스레드 모드에서는 요청 스레드 수가 사실상 무제한이므로 커넥션 풀이 유일한 제한점
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${cloud.aws.s3.connection-acquisition-timeout-ms:10000}")
+    private long connectionAcquisitionTimeoutMillis;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
         return S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(connectionAcquisitionTimeoutMillis)))
+                .build();
+    }
+
+    // 게시글 이미지처럼 요청 트랜잭션과 분리해 백그라운드로 올리는 업로드용
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .build();
+    }
+
+    // 클라이언트가 S3에 직접 올리도록 presigned URL 발급 (서명만 하므로 네트워크 호출 없음)
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,23 @@
 package com.amumal.community.global.s3.controller;
 
 import com.amumal.community.global.dto.ApiResponse;
+import com.amumal.community.global.s3.dto.request.PresignedUploadCompleteRequest;
+import com.amumal.community.global.s3.dto.request.PresignedUploadRequest;
+import com.amumal.community.global.s3.dto.response.PresignedUploadResponse;
+import com.amumal.community.global.s3.service.PresignedUploadService;
 import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.s3.service.S3StreamUploader;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,7 +30,12 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class ImageController {
 
+    // 스트리밍 업로드 최대 크기 (multipart 업로드의 max-file-size와 동일)
+    private static final long MAX_STREAM_UPLOAD_BYTES = 10 * 1024 * 1024;
+
     private final S3Service s3Service;
+    private final S3StreamUploader s3StreamUploader;
+    private final PresignedUploadService presignedUploadService;
 
     @PostMapping("/upload")
     public ResponseEntity<ApiResponse<String>> uploadImage(
@@ -53,4 +69,44 @@ public class ImageController {
                     .body(new ApiResponse<>("upload_failed", null));
         }
     }
-}
\ No newline at end of file
+
+    // 요청 본문(이미지 바이트)을 MultipartFile로 스풀링하지 않고 읽는 대로 S3에 전송
+    // 예: curl -X POST -H "Content-Type: image/png" --data-binary @a.png "/api/images/upload/stream?filename=a.png"
+    @PostMapping(value = "/upload/stream", consumes = "image/*")
+    public ResponseEntity<ApiResponse<String>> uploadImageStream(
+            HttpServletRequest request,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(value = "filename", defaultValue = "image") String filename,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        // Content-Length가 있으면 본문을 읽기 전에 거절
+        if (request.getContentLengthLong() > MAX_STREAM_UPLOAD_BYTES) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(new ApiResponse<>("image_too_large", null));
+        }
+
+        String imageUrl = s3StreamUploader.upload(request.getInputStream(), filename, contentType,
+                MAX_STREAM_UPLOAD_BYTES);
+        return ResponseEntity.ok(new ApiResponse<>("upload_success", imageUrl));
+    }
+
+    // 클라이언트가 S3에 직접 PUT할 수 있는 presigned URL 발급 (이미지 바이트가 서버를 거치지 않음)
+    @PostMapping("/presigned")
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> createPresignedUpload(
+            @RequestBody @Validated PresignedUploadRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        PresignedUploadResponse response = presignedUploadService.presign(request);
+        return ResponseEntity.ok(new ApiResponse<>("presign_success", response));
+    }
+
+    // PUT 완료 후 호출, 검증을 통과해야 반환된 URL을 게시글/프로필 이미지로 사용할 수 있음
+    @PostMapping("/presigned/complete")
+    public ResponseEntity<ApiResponse<String>> completePresignedUpload(
+            @RequestBody @Validated PresignedUploadCompleteRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        String imageUrl = presignedUploadService.complete(request.objectKey());
+        return ResponseEntity.ok(new ApiResponse<>("upload_success", imageUrl));
+    }
+}
@@ -0,0 +1,8 @@
+package com.amumal.community.global.s3.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record PresignedUploadCompleteRequest(
+        @NotBlank(message = "Object key cannot be blank")
+        String objectKey
+) {}
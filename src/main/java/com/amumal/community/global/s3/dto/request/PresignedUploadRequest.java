@@ -0,0 +1,23 @@
+package com.amumal.community.global.s3.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+// 클라이언트가 올릴 이미지의 형식/크기/내용 해시 (presigned URL 서명에 그대로 포함됨)
+@Builder
+public record PresignedUploadRequest(
+        @NotBlank(message = "Content type cannot be blank")
+        @Pattern(regexp = "image/[\\w.+-]+", message = "Content type must be an image type")
+        String contentType,
+
+        @NotNull(message = "Content length cannot be null")
+        @Positive(message = "Content length must be positive")
+        Long contentLength,
+
+        @NotBlank(message = "Checksum cannot be blank")
+        @Pattern(regexp = "[0-9a-f]{64}", message = "Checksum must be a lowercase hex SHA-256")
+        String checksumSha256
+) {}
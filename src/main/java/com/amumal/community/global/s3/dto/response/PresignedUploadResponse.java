@@ -0,0 +1,18 @@
+package com.amumal.community.global.s3.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Map;
+
+// uploadUrl로 headers를 그대로 실어 PUT한 뒤 objectKey로 완료 요청
+// 같은 내용이 이미 저장되어 있으면 alreadyUploaded=true이고 업로드 없이 imageUrl을 바로 사용
+@Builder
+public record PresignedUploadResponse(
+        String objectKey,
+        String imageUrl,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt,
+        boolean alreadyUploaded
+) {}
@@ -0,0 +1,55 @@
+package com.amumal.community.global.s3.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 내용 해시 -> S3 객체 키 인덱스, 같은 객체를 가리키는 게시글/사용자 수를 refCount로 관리
+// refCount 0은 업로드가 검증만 되고 아직 어디에도 연결되지 않은(또는 연결이 롤백된) 상태
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "image_objects", indexes = {
+        @Index(name = "idx_image_objects_ref_count_created", columnList = "ref_count, created_at")
+})
+public class ImageObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_object_id")
+    private Long id;
+
+    @Column(name = "content_hash", length = 64, nullable = false, unique = true)
+    private String contentHash;
+
+    @Column(name = "object_key", length = 512, nullable = false, unique = true)
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ImageObject firstReference(String contentHash, String objectKey) {
+        return ImageObject.builder()
+                .contentHash(contentHash)
+                .objectKey(objectKey)
+                .refCount(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // presigned 업로드 완료 검증을 통과한 객체 (게시글/프로필에 연결될 때 참조 증가)
+    public static ImageObject verified(String contentHash, String objectKey) {
+        return ImageObject.builder()
+                .contentHash(contentHash)
+                .objectKey(objectKey)
+                .refCount(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
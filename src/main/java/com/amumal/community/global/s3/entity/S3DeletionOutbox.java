@@ -0,0 +1,54 @@
+package com.amumal.community.global.s3.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 삭제 예정인 S3 객체 키 (비즈니스 트랜잭션과 함께 커밋되고, 백그라운드 워커가 일괄 삭제)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "s3_deletion_outbox", indexes = {
+        @Index(name = "idx_s3_deletion_outbox_next_attempt", columnList = "next_attempt_at")
+})
+public class S3DeletionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "object_key", length = 1024, nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static S3DeletionOutbox of(String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        return S3DeletionOutbox.builder()
+                .objectKey(objectKey)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    // 지정한 시각 이후에 삭제 (그 전에 인덱스에 등록된 객체면 워커가 지우지 않고 항목만 정리)
+    public static S3DeletionOutbox deferred(String objectKey, LocalDateTime notBefore) {
+        return S3DeletionOutbox.builder()
+                .objectKey(objectKey)
+                .nextAttemptAt(notBefore)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.amumal.community.global.s3.repository;
+
+import com.amumal.community.global.s3.entity.ImageObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+    boolean existsByObjectKey(String objectKey);
+
+    boolean existsByContentHash(String contentHash);
+
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount + 1 WHERE o.contentHash = :contentHash")
+    int incrementByContentHash(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount + 1 WHERE o.objectKey = :objectKey")
+    int incrementByObjectKey(@Param("objectKey") String objectKey);
+
+    // 마지막 참조일 때만 행을 지움 (1이면 삭제 성공 -> 객체도 삭제 대상)
+    @Modifying
+    @Query("DELETE FROM ImageObject o WHERE o.objectKey = :objectKey AND o.refCount <= 1")
+    int deleteLastReference(@Param("objectKey") String objectKey);
+
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount - 1 WHERE o.objectKey = :objectKey AND o.refCount > 1")
+    int decrementByObjectKey(@Param("objectKey") String objectKey);
+
+    @Query("SELECT o.objectKey FROM ImageObject o WHERE o.objectKey IN :objectKeys")
+    List<String> findObjectKeysIn(@Param("objectKeys") Collection<String> objectKeys);
+
+    // 기준 시각 전에 등록된 뒤 한 번도 연결되지 않은(참조 0) 객체 키를 오래된 순서로 조회
+    @Query("SELECT o.objectKey FROM ImageObject o WHERE o.refCount = 0 AND o.createdAt < :cutoff ORDER BY o.createdAt ASC")
+    List<String> findUnreferencedKeys(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 조회 이후 참조를 얻은 행은 남김
+    @Modifying
+    @Query("DELETE FROM ImageObject o WHERE o.objectKey IN :objectKeys AND o.refCount = 0")
+    int deleteUnreferenced(@Param("objectKeys") Collection<String> objectKeys);
+}
@@ -0,0 +1,31 @@
+package com.amumal.community.global.s3.repository;
+
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface S3DeletionOutboxRepository extends JpaRepository<S3DeletionOutbox, Long> {
+
+    // 재시도 시각이 지난 항목을 오래된 순서로 조회
+    @Query("SELECT o FROM S3DeletionOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id ASC")
+    List<S3DeletionOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM S3DeletionOutbox o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 삭제 실패한 항목의 시도 횟수를 올리고 다음 시도 시각을 뒤로 미룸
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE S3DeletionOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int postpone(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
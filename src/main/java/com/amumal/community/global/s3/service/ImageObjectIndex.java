@@ -0,0 +1,121 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.s3.entity.ImageObject;
+import com.amumal.community.global.s3.repository.ImageObjectRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 내용 주소 기반 이미지의 참조 수 관리 (참조 증감은 호출한 트랜잭션에 참여)
+// 행의 최초 등록만 별도 트랜잭션으로 커밋하므로, 같은 내용을 동시에 처음 올려 unique 제약에 걸려도
+// 호출한 트랜잭션은 rollback-only가 되지 않음
+@Service
+public class ImageObjectIndex {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final TransactionTemplate registerTransaction;
+
+    public ImageObjectIndex(ImageObjectRepository imageObjectRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.imageObjectRepository = imageObjectRepository;
+        this.registerTransaction = new TransactionTemplate(transactionManager);
+        this.registerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 이미 올라가 있는 내용이면 참조를 하나 늘리고 true (호출자는 PUT 생략)
+    // 없는 행에 UPDATE를 걸면 갭 락이 남아 이어지는 최초 등록을 막으므로, 잠금 없는 조회로 먼저 확인
+    @Transactional
+    public boolean acquireExisting(String contentHash) {
+        return imageObjectRepository.existsByContentHash(contentHash)
+                && imageObjectRepository.incrementByContentHash(contentHash) > 0;
+    }
+
+    // 업로드를 마친 객체의 참조를 등록
+    // 행이 없으면 참조 0으로 먼저 등록(별도 트랜잭션)한 뒤 호출한 트랜잭션에서 참조를 늘림
+    // 호출한 트랜잭션이 롤백되면 참조 0 행만 남아 미사용 객체 정리 대상이 됨
+    @Transactional
+    public void acquire(String contentHash, String objectKey) {
+        if (!imageObjectRepository.existsByContentHash(contentHash)) {
+            register(contentHash, objectKey);
+        }
+        if (imageObjectRepository.incrementByContentHash(contentHash) == 0) {
+            // 확인 직후 미사용 객체 정리로 행이 지워짐 -> 호출자는 업로드 실패로 처리하고 객체를 정리
+            throw new IllegalStateException("이미지 참조 등록 실패: " + objectKey);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isStored(String contentHash) {
+        return imageObjectRepository.existsByContentHash(contentHash);
+    }
+
+    // presigned 업로드로 올라와 검증된 객체를 참조 없이 등록 (이미 있거나 동시에 먼저 등록되면 그대로 둠)
+    public void registerVerified(String contentHash, String objectKey) {
+        if (!imageObjectRepository.existsByContentHash(contentHash)) {
+            register(contentHash, objectKey);
+        }
+    }
+
+    // 인덱스에 등록된(업로드가 검증된) 객체만 참조를 늘리고 true
+    @Transactional
+    public boolean acquireByObjectKey(String objectKey) {
+        return imageObjectRepository.incrementByObjectKey(objectKey) > 0;
+    }
+
+    // 참조를 하나 해제하고, 더 이상 가리키는 곳이 없으면 true (인덱스에 없는 기존 UUID 키도 true)
+    @Transactional
+    public boolean release(String objectKey) {
+        while (true) {
+            if (imageObjectRepository.deleteLastReference(objectKey) > 0) {
+                return true;
+            }
+            if (imageObjectRepository.decrementByObjectKey(objectKey) > 0) {
+                return false;
+            }
+            // 두 쿼리 사이에 다른 해제가 끼어들었을 수 있으므로 행이 남아 있으면 다시 시도
+            if (!imageObjectRepository.existsByObjectKey(objectKey)) {
+                return true;
+            }
+        }
+    }
+
+    // 기준 시각 전에 등록되어 아직 참조 0인 행을 최대 limit건 지우고 그 키를 반환 (호출한 트랜잭션에 참여)
+    // 조회와 삭제 사이 참조를 얻은 행은 남으며, 삭제 워커도 인덱스에 남은 키는 지우지 않음
+    @Transactional
+    public List<String> removeUnreferenced(LocalDateTime cutoff, int limit) {
+        List<String> keys = imageObjectRepository.findUnreferencedKeys(cutoff, PageRequest.of(0, limit));
+        if (!keys.isEmpty()) {
+            imageObjectRepository.deleteUnreferenced(keys);
+        }
+        return keys;
+    }
+
+    // 참조 0으로 행을 등록, 다른 요청이 먼저 등록해 unique 제약에 걸리면 그 행을 그대로 사용
+    private void register(String contentHash, String objectKey) {
+        try {
+            registerTransaction.executeWithoutResult(status ->
+                    imageObjectRepository.saveAndFlush(ImageObject.verified(contentHash, objectKey)));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 내용을 처음 올린 요청이 먼저 커밋함
+        }
+    }
+
+    // 아직 참조 중인 키만 골라냄 (삭제 워커가 재사용된 객체를 지우지 않도록)
+    @Transactional(readOnly = true)
+    public Set<String> findReferencedKeys(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(imageObjectRepository.findObjectKeysIn(objectKeys));
+    }
+}
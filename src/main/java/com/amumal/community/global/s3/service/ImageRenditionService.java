@@ -0,0 +1,94 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.ImageRendition;
+import com.amumal.community.global.util.ImageResizer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 업로드된 원본 이미지로 호출자가 실제로 제공하는 고정 크기 변환본만 만들어 파생 키에 저장
+// 디코딩/리사이즈는 CPU와 힙을 많이 쓰므로 크기가 정해진 전용 풀에서만 실행
+@Service
+public class ImageRenditionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageRenditionService.class);
+    private static final String RENDITION_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ThreadPoolExecutor executor;
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+
+    public ImageRenditionService(S3Service s3Service,
+                                 S3DeletionQueue s3DeletionQueue,
+                                 @Value("${image.rendition.pool-size:2}") int poolSize,
+                                 @Value("${image.rendition.queue-capacity:100}") int queueCapacity,
+                                 @Value("${image.rendition.max-source-pixels:40000000}") long maxSourcePixels,
+                                 @Value("${image.rendition.jpeg-quality:0.82}") float jpegQuality) {
+        this.s3Service = s3Service;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+        // 큐가 가득 차면 즉시 거절 (변환본은 없어도 원본으로 대체 가능하므로 요청 스레드를 막지 않음)
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-rendition-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 원본 URL의 요청한 변환본만 생성하고, 완료 시 변환본별 공개 URL을 반환
+    public CompletableFuture<Map<ImageRendition, String>> generate(String imageUrl, Set<ImageRendition> renditions) {
+        try {
+            return CompletableFuture.supplyAsync(() -> render(imageUrl, renditions), executor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("이미지 변환 대기열이 가득 차 요청을 건너뜁니다: {}", imageUrl);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 원본을 지울 때 함께 호출, 삭제 outbox에 등록 (존재하지 않는 키 삭제는 S3에서 오류가 아님)
+    // 생성하지 않은 변환본 키도 포함해, 이전에 만들어 둔 변환본까지 함께 정리
+    public void deleteRenditions(String imageUrl) {
+        String originalKey = s3Service.extractKeyFromUrl(imageUrl);
+        s3DeletionQueue.enqueueKeys(Arrays.stream(ImageRendition.values())
+                .map(rendition -> rendition.deriveKey(originalKey))
+                .toList());
+    }
+
+    private Map<ImageRendition, String> render(String imageUrl, Set<ImageRendition> renditions) {
+        String originalKey = s3Service.extractKeyFromUrl(imageUrl);
+        try {
+            BufferedImage source = ImageResizer.decode(s3Service.downloadObject(originalKey), maxSourcePixels);
+            Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+            for (ImageRendition rendition : renditions) {
+                byte[] encoded = ImageResizer.toJpeg(ImageResizer.fit(source, rendition.getMaxDimension()), jpegQuality);
+                urls.put(rendition, s3Service.uploadBytes(rendition.deriveKey(originalKey), encoded, RENDITION_CONTENT_TYPE));
+            }
+            return Collections.unmodifiableMap(urls);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 변환본 생성 실패: " + imageUrl, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,166 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+import com.amumal.community.global.s3.dto.request.PresignedUploadRequest;
+import com.amumal.community.global.s3.dto.response.PresignedUploadResponse;
+import com.amumal.community.global.util.ContentHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 이미지 바이트가 애플리케이션을 거치지 않도록 S3 presigned PUT URL을 발급하고, 완료 시 HEAD로 검증
+// 키는 내용 해시(images/{sha256})이고 Content-Type/Content-Length/체크섬을 서명에 포함하므로
+// 클라이언트는 신고한 것과 다른 바이트를 올릴 수 없음 (같은 키에 다른 내용을 덮어쓸 수도 없음)
+// 검증을 통과한 객체만 인덱스에 등록되고, 게시글/프로필은 등록된 객체만 연결할 수 있음
+// 발급한 키는 만료 + 유예 시간 뒤 삭제를 예약해두어, 완료 확인 없이 올라온 객체가 버킷에 남지 않음
+@Service
+public class PresignedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresignedUploadService.class);
+
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ImageObjectIndex imageObjectIndex;
+    private final String bucket;
+    private final long maxBytes;
+    private final Duration expiry;
+    private final Duration orphanGrace;
+
+    public PresignedUploadService(S3Presigner s3Presigner,
+                                  S3Client s3Client,
+                                  S3Service s3Service,
+                                  S3DeletionQueue s3DeletionQueue,
+                                  ImageObjectIndex imageObjectIndex,
+                                  @Value("${cloud.aws.s3.bucket}") String bucket,
+                                  @Value("${cloud.aws.s3.presigned.max-bytes:5242880}") long maxBytes,
+                                  @Value("${cloud.aws.s3.presigned.expiry-seconds:300}") long expirySeconds,
+                                  @Value("${cloud.aws.s3.orphan.grace-seconds:86400}") long orphanGraceSeconds) {
+        this.s3Presigner = s3Presigner;
+        this.s3Client = s3Client;
+        this.s3Service = s3Service;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.imageObjectIndex = imageObjectIndex;
+        this.bucket = bucket;
+        this.maxBytes = maxBytes;
+        this.expiry = Duration.ofSeconds(expirySeconds);
+        this.orphanGrace = Duration.ofSeconds(orphanGraceSeconds);
+    }
+
+    public PresignedUploadResponse presign(PresignedUploadRequest request) {
+        if (request.contentLength() > maxBytes) {
+            throw new CustomException(CustomResponseStatus.PAYLOAD_TOO_LARGE);
+        }
+        String objectKey = s3Service.createContentKey(request.checksumSha256());
+        String imageUrl = s3Service.getPublicUrl(objectKey);
+
+        // 이미 검증된 같은 내용이 있으면 업로드할 필요 없음
+        if (imageObjectIndex.isStored(request.checksumSha256())) {
+            return PresignedUploadResponse.builder()
+                    .objectKey(objectKey)
+                    .imageUrl(imageUrl)
+                    .alreadyUploaded(true)
+                    .build();
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .contentType(request.contentType())
+                .contentLength(request.contentLength())
+                .checksumSHA256(ContentHash.hexToBase64(request.checksumSha256()))
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiry)
+                .putObjectRequest(putObjectRequest)
+                .build());
+        s3DeletionQueue.discardAfter(objectKey, LocalDateTime.now().plus(expiry).plus(orphanGrace));
+
+        return PresignedUploadResponse.builder()
+                .objectKey(objectKey)
+                .imageUrl(imageUrl)
+                .uploadUrl(presigned.url().toString())
+                .headers(requiredHeaders(presigned.signedHeaders()))
+                .expiresAt(presigned.expiration())
+                .alreadyUploaded(false)
+                .build();
+    }
+
+    // 업로드된 객체를 HEAD로 확인하고 인덱스에 등록한 뒤 공개 URL 반환
+    public String complete(String objectKey) {
+        String contentHash = s3Service.contentHashOf(objectKey);
+        if (contentHash == null) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        String imageUrl = s3Service.getPublicUrl(objectKey);
+        if (imageObjectIndex.isStored(contentHash)) {
+            return imageUrl;
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new CustomException(CustomResponseStatus.NOT_FOUND);
+        }
+
+        if (!isAcceptable(head, contentHash)) {
+            // 서명 조건을 우회해 올라온 객체는 남겨두지 않음
+            logger.warn("검증에 실패한 presigned 업로드를 정리합니다. (key={}, size={}, type={})",
+                    objectKey, head.contentLength(), head.contentType());
+            s3DeletionQueue.discard(imageUrl);
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+
+        imageObjectIndex.registerVerified(contentHash, objectKey);
+        return imageUrl;
+    }
+
+    // 게시글/프로필에 연결할 이미지 URL의 참조를 얻음 (완료 검증을 거치지 않은 URL은 거절)
+    public String acquire(String imageUrl) {
+        if (!s3Service.isValidS3Url(imageUrl)
+                || !imageObjectIndex.acquireByObjectKey(s3Service.extractKeyFromUrl(imageUrl))) {
+            throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+        }
+        return imageUrl;
+    }
+
+    private boolean isAcceptable(HeadObjectResponse head, String contentHash) {
+        return head.contentLength() != null && head.contentLength() <= maxBytes
+                && head.contentType() != null && head.contentType().startsWith("image/")
+                && ContentHash.hexToBase64(contentHash).equals(head.checksumSHA256());
+    }
+
+    // host는 URL에 이미 들어 있으므로 클라이언트가 직접 실어야 하는 헤더만 전달
+    private Map<String, String> requiredHeaders(Map<String, List<String>> signedHeaders) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        signedHeaders.forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return headers;
+    }
+}
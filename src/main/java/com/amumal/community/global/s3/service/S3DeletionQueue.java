@@ -0,0 +1,57 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import com.amumal.community.global.s3.repository.S3DeletionOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// S3 객체 삭제 요청을 outbox 테이블에 기록 (호출한 트랜잭션에 참여하므로 DB 변경과 함께 커밋/롤백)
+// 실제 삭제는 S3DeletionWorker가 DeleteObjects 배치로 처리
+@Service
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    private final S3DeletionOutboxRepository outboxRepository;
+    private final S3Service s3Service;
+    private final ImageObjectIndex imageObjectIndex;
+
+    // 이미지 참조 하나를 해제하고, 마지막 참조였을 때만 삭제를 예약 (예약했으면 true)
+    // 우리 버킷의 이미지 URL만 대상으로 하고, 외부 URL은 무시
+    @Transactional
+    public boolean enqueue(String imageUrl) {
+        if (!s3Service.isValidS3Url(imageUrl)) {
+            return false;
+        }
+        String objectKey = s3Service.extractKeyFromUrl(imageUrl);
+        if (!imageObjectIndex.release(objectKey)) {
+            return false; // 다른 게시글/사용자가 아직 같은 객체를 사용 중
+        }
+        outboxRepository.save(S3DeletionOutbox.of(objectKey));
+        return true;
+    }
+
+    // 참조를 얻지 못한 객체(업로드 실패, 반영 전 정리 등)의 삭제 예약, 참조 수는 건드리지 않음
+    // 같은 내용을 다른 곳에서 쓰고 있으면 워커가 삭제 직전에 걸러냄
+    @Transactional
+    public void discard(String imageUrl) {
+        if (s3Service.isValidS3Url(imageUrl)) {
+            outboxRepository.save(S3DeletionOutbox.of(s3Service.extractKeyFromUrl(imageUrl)));
+        }
+    }
+
+    // 완료 확인이 올지 모르는 객체(presigned 업로드 등)를 나중에 정리하도록 예약
+    // 그때까지 검증되어 인덱스에 등록되면 워커가 삭제하지 않음
+    @Transactional
+    public void discardAfter(String objectKey, LocalDateTime notBefore) {
+        outboxRepository.save(S3DeletionOutbox.deferred(objectKey, notBefore));
+    }
+
+    @Transactional
+    public void enqueueKeys(Collection<String> objectKeys) {
+        outboxRepository.saveAll(objectKeys.stream().map(S3DeletionOutbox::of).toList());
+    }
+}
@@ -0,0 +1,105 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.ImageRendition;
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import com.amumal.community.global.s3.repository.S3DeletionOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// S3 삭제 outbox를 주기적으로 비우는 워커
+// 여러 인스턴스가 같은 항목을 동시에 처리해도 S3 삭제는 멱등이므로 별도 잠금을 두지 않음
+@Component
+public class S3DeletionWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3DeletionWorker.class);
+
+    private final S3DeletionOutboxRepository outboxRepository;
+    private final S3Service s3Service;
+    private final ImageObjectIndex imageObjectIndex;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public S3DeletionWorker(S3DeletionOutboxRepository outboxRepository,
+                            S3Service s3Service,
+                            ImageObjectIndex imageObjectIndex,
+                            @Value("${cloud.aws.s3.deletion.batch-size:1000}") int batchSize,
+                            @Value("${cloud.aws.s3.deletion.max-attempts:10}") int maxAttempts,
+                            @Value("${cloud.aws.s3.deletion.retry-backoff-ms:60000}") long retryBackoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.s3Service = s3Service;
+        this.imageObjectIndex = imageObjectIndex;
+        this.batchSize = Math.min(batchSize, S3Service.MAX_DELETE_BATCH);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    // 처리할 항목이 남아 있는 동안 배치 단위로 계속 삭제 (실패가 섞이면 이번 주기는 중단)
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.deletion.interval-ms:5000}")
+    public void drain() {
+        List<S3DeletionOutbox> batch;
+        boolean succeeded = true;
+        do {
+            batch = outboxRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                succeeded = deleteBatch(batch);
+            }
+        } while (succeeded && batch.size() == batchSize);
+    }
+
+    private boolean deleteBatch(List<S3DeletionOutbox> batch) {
+        // 예약 이후 같은 내용이 다시 업로드되어 참조 중인 객체(와 그 변환본)는 지우지 않고 항목만 정리
+        Set<String> referenced = imageObjectIndex.findReferencedKeys(batch.stream()
+                .map(entry -> originalKey(entry.getObjectKey()))
+                .collect(Collectors.toSet()));
+        List<String> keys = batch.stream()
+                .map(S3DeletionOutbox::getObjectKey)
+                .filter(key -> !referenced.contains(originalKey(key)))
+                .toList();
+
+        Set<String> failedKeys;
+        try {
+            failedKeys = keys.isEmpty() ? Set.of() : new HashSet<>(s3Service.deleteObjects(keys));
+        } catch (Exception e) {
+            logger.warn("S3 일괄 삭제 요청 실패, {}건을 나중에 다시 시도합니다.", keys.size(), e);
+            failedKeys = new HashSet<>(keys);
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<Long> retry = new ArrayList<>();
+        for (S3DeletionOutbox entry : batch) {
+            if (!failedKeys.contains(entry.getObjectKey())) {
+                done.add(entry.getId());
+            } else if (entry.getAttempts() + 1 >= maxAttempts) {
+                // 계속 실패하는 키는 더 붙잡지 않고 기록만 남김 (버킷 수명 주기 규칙 등으로 정리)
+                logger.error("S3 객체 삭제를 포기합니다. (key={}, attempts={})", entry.getObjectKey(), entry.getAttempts() + 1);
+                done.add(entry.getId());
+            } else {
+                retry.add(entry.getId());
+            }
+        }
+
+        if (!done.isEmpty()) {
+            outboxRepository.deleteByIds(done);
+        }
+        if (!retry.isEmpty()) {
+            outboxRepository.postpone(retry, LocalDateTime.now().plusNanos(retryBackoffMillis * 1_000_000));
+        }
+        return failedKeys.isEmpty();
+    }
+
+    private String originalKey(String objectKey) {
+        return ImageRendition.originalKeyOf(objectKey).orElse(objectKey);
+    }
+}
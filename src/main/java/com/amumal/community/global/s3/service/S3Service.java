@@ -1,19 +1,38 @@
 package com.amumal.community.global.s3.service;
 
+import com.amumal.community.global.util.ContentHash;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class S3Service {
+    public static final int MAX_DELETE_BATCH = 1000;
+    private static final String CONTENT_KEY_PREFIX = "images/";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ImageObjectIndex imageObjectIndex;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -21,27 +40,96 @@ public class S3Service {
     @Value("${cloud.aws.region.static}")
     private String region;
 
-    public S3Service(S3Client s3Client) {
+    public S3Service(S3Client s3Client, S3AsyncClient s3AsyncClient, ImageObjectIndex imageObjectIndex) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.imageObjectIndex = imageObjectIndex;
     }
 
+    // 내용 해시로 키를 정하므로 같은 이미지는 한 번만 저장
+    // presigned 업로드와 같이 참조 0으로 등록만 하고, 참조는 이미지를 연결하는 게시글/프로필이 얻음
     public String uploadImage(MultipartFile image) throws IOException {
-        String fileName = UUID.randomUUID() + "_" + image.getOriginalFilename(); // 고유한 파일 이름 생성
+        String contentType = image.getContentType();
+
+        // 한 번 읽으면서 해시를 계산하고 그 바이트로 PUT (multipart 크기 제한 10MB 안이므로 메모리에 둠)
+        MessageDigest digest = ContentHash.newDigest();
+        byte[] data;
+        try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+            data = in.readAllBytes();
+        }
+        String contentHash = ContentHash.toHex(digest);
+        String key = createContentKey(contentHash);
+
+        // 같은 내용이 이미 올라가 있으면 PUT 없이 기존 URL 반환
+        if (imageObjectIndex.isStored(contentHash)) {
+            return getPublicUrl(key);
+        }
 
         // S3에 파일 업로드 요청 생성
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
-                .key(fileName)
-                .contentType(image.getContentType())
+                .key(key)
+                .contentType(contentType)
                 .build();
 
         // S3에 파일 업로드
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(image.getInputStream(), image.getSize()));
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+        imageObjectIndex.registerVerified(contentHash, key);
+
+        return getPublicUrl(key);
+    }
+
+    // 로컬 파일을 비동기로 업로드 (호출 스레드를 막지 않음), 완료 시 공개 URL 반환
+    public CompletableFuture<String> uploadFileAsync(Path file, String key, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file))
+                .thenApply(response -> getPublicUrl(key));
+    }
+
+    // 이미 알고 있는 키로 바이트 배열을 업로드 (변환본 등 서버에서 생성한 객체)
+    public String uploadBytes(String key, byte[] data, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+        return getPublicUrl(key);
+    }
+
+    public byte[] downloadObject(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+    }
+
+    public String createObjectKey(String originalFilename) {
+        return UUID.randomUUID() + "_" + originalFilename;
+    }
 
-        return getPublicUrl(fileName);
+    // 내용 주소 키 (확장자 없이 해시만 사용해 같은 내용이면 항상 같은 키)
+    public String createContentKey(String contentHash) {
+        return CONTENT_KEY_PREFIX + contentHash;
     }
 
-    private String getPublicUrl(String fileName) {
+    // 내용 주소 키이면 해시를, 아니면(기존 UUID 키 등) null을 반환
+    public String contentHashOf(String objectKey) {
+        if (objectKey == null || !objectKey.startsWith(CONTENT_KEY_PREFIX)) {
+            return null;
+        }
+        String contentHash = objectKey.substring(CONTENT_KEY_PREFIX.length());
+        return ContentHash.isSha256Hex(contentHash) ? contentHash : null;
+    }
+
+    public String getPublicUrl(String fileName) {
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, fileName);
     }
 
@@ -50,19 +138,43 @@ public class S3Service {
             // URL에서 키(파일 이름) 추출 개선
             String key = extractKeyFromUrl(imageUrl);
             if (key != null) {
-                // S3에서 파일 삭제
-                DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(key)
-                        .build();
-                s3Client.deleteObject(deleteObjectRequest);
+                deleteObject(key);
             }
         } catch (Exception e) {
             throw new RuntimeException("S3 이미지 삭제 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
-    private String extractKeyFromUrl(String imageUrl) {
+    public void deleteObject(String key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        s3Client.deleteObject(deleteObjectRequest);
+    }
+
+    // DeleteObjects 한 번으로 최대 1000개 키를 삭제하고, 삭제하지 못한 키 목록을 반환
+    public List<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (keys.size() > MAX_DELETE_BATCH) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_BATCH + "개입니다.");
+        }
+
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true) // 실패한 키만 응답에 포함
+                        .build())
+                .build();
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+        return response.errors().stream().map(error -> error.key()).toList();
+    }
+
+    String extractKeyFromUrl(String imageUrl) {
         // 예시 URL: https://bucket-name.s3.region.amazonaws.com/file-name.jpg
         String bucketPrefix = bucket + ".s3." + region + ".amazonaws.com/";
         int startIndex = imageUrl.indexOf(bucketPrefix);
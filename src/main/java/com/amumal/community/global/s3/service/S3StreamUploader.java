@@ -0,0 +1,242 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+import com.amumal.community.global.util.ContentHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 요청 본문을 MultipartFile로 스풀링하지 않고 part 크기만큼 읽는 즉시 S3 multipart upload로 전송
+// 업로드당 part 버퍼 하나만 사용하고 동시 스트림 수를 제한하므로 힙/임시 디스크 사용량이 동시 업로드 수와 무관하게 일정
+// 전송하면서 SHA-256을 계산해 내용 주소 키(images/{sha256})로 저장하고 참조 0으로 인덱스에 등록
+// (게시글/프로필이 연결하지 않으면 presigned 업로드와 같이 미사용 객체 정리 대상이 됨)
+@Component
+public class S3StreamUploader {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3StreamUploader.class);
+
+    private final S3Client s3Client;
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ImageObjectIndex imageObjectIndex;
+    private final String bucket;
+    private final int partSize;
+    private final long acquireTimeoutMillis;
+    private final Duration orphanGrace;
+    private final Semaphore streams;
+    // 재사용하는 part 버퍼 (최대 동시 스트림 수만큼만 생성됨)
+    private final Queue<byte[]> bufferPool = new ConcurrentLinkedQueue<>();
+
+    public S3StreamUploader(S3Client s3Client,
+                            S3Service s3Service,
+                            S3DeletionQueue s3DeletionQueue,
+                            ImageObjectIndex imageObjectIndex,
+                            @Value("${cloud.aws.s3.bucket}") String bucket,
+                            @Value("${cloud.aws.s3.stream.part-size-bytes:5242880}") int partSize,
+                            @Value("${cloud.aws.s3.stream.max-concurrent-streams:16}") int maxConcurrentStreams,
+                            @Value("${cloud.aws.s3.stream.acquire-timeout-ms:2000}") long acquireTimeoutMillis,
+                            @Value("${cloud.aws.s3.orphan.grace-seconds:86400}") long orphanGraceSeconds) {
+        this.s3Client = s3Client;
+        this.s3Service = s3Service;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.imageObjectIndex = imageObjectIndex;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.streams = new Semaphore(maxConcurrentStreams);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.orphanGrace = Duration.ofSeconds(orphanGraceSeconds);
+    }
+
+    public String upload(InputStream in, String originalFilename, String contentType, long maxBytes) throws IOException {
+        byte[] buffer = acquireBuffer();
+        try {
+            MessageDigest digest = ContentHash.newDigest();
+            int read = readPart(in, buffer);
+            if (read == 0) {
+                throw new CustomException(CustomResponseStatus.BAD_REQUEST);
+            }
+            checkSize(read, maxBytes);
+
+            // 첫 part를 채우지 못하면 해시를 먼저 구해 내용 주소 키로 바로 단일 PUT
+            if (read < buffer.length) {
+                digest.update(buffer, 0, read);
+                String contentHash = ContentHash.toHex(digest);
+                String key = s3Service.createContentKey(contentHash);
+                if (!imageObjectIndex.isStored(contentHash)) {
+                    // 등록 전에 실패해도 객체가 남지 않도록 presigned 업로드와 같은 정리를 예약
+                    scheduleOrphanCleanup(key);
+                    s3Client.putObject(PutObjectRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .contentType(contentType)
+                                    .build(),
+                            RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                    imageObjectIndex.registerVerified(contentHash, key);
+                }
+                return s3Service.getPublicUrl(key);
+            }
+
+            // 해시는 마지막 part까지 읽어야 알 수 있으므로 임시 키로 올린 뒤 내용 주소 키로 복사
+            String stagingKey = s3Service.createObjectKey(originalFilename);
+            scheduleOrphanCleanup(stagingKey);
+            uploadMultipart(in, buffer, read, stagingKey, contentType, maxBytes, digest);
+
+            String contentHash = ContentHash.toHex(digest);
+            String key = s3Service.createContentKey(contentHash);
+            try {
+                if (!imageObjectIndex.isStored(contentHash)) {
+                    scheduleOrphanCleanup(key);
+                    s3Client.copyObject(CopyObjectRequest.builder()
+                            .sourceBucket(bucket)
+                            .sourceKey(stagingKey)
+                            .destinationBucket(bucket)
+                            .destinationKey(key)
+                            .build());
+                    imageObjectIndex.registerVerified(contentHash, key);
+                }
+            } finally {
+                deleteQuietly(stagingKey);
+            }
+            return s3Service.getPublicUrl(key);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private void uploadMultipart(InputStream in, byte[] buffer, int firstRead, String key, String contentType,
+                                 long maxBytes, MessageDigest digest) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        try {
+            long total = 0;
+            int read = firstRead;
+            while (read > 0) {
+                total += read;
+                checkSize(total, maxBytes);
+                digest.update(buffer, 0, read);
+
+                int partNumber = completedParts.size() + 1;
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+
+                read = readPart(in, buffer);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 중단된 업로드의 part가 S3에 과금되며 남지 않도록 취소
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    // 완료되어 인덱스에 등록되면 삭제 워커가 건너뛰고, 중간에 실패하면 유예 시간 뒤 정리됨
+    private void scheduleOrphanCleanup(String objectKey) {
+        s3DeletionQueue.discardAfter(objectKey, LocalDateTime.now().plus(orphanGrace));
+    }
+
+    // 임시 키는 예약된 정리가 있으므로 여기서 지우지 못해도 업로드는 성공으로 처리
+    private void deleteQuietly(String stagingKey) {
+        try {
+            s3Service.deleteObject(stagingKey);
+        } catch (Exception e) {
+            logger.warn("S3 임시 업로드 객체 삭제 실패 (key={})", stagingKey, e);
+        }
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽음 (S3는 마지막 part를 제외하고 최소 5MB 필요)
+    private int readPart(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int read = in.read(buffer, offset, buffer.length - offset);
+            if (read == -1) {
+                break;
+            }
+            offset += read;
+        }
+        return offset;
+    }
+
+    private void checkSize(long total, long maxBytes) {
+        if (total > maxBytes) {
+            throw new CustomException(CustomResponseStatus.PAYLOAD_TOO_LARGE);
+        }
+    }
+
+    private byte[] acquireBuffer() {
+        try {
+            if (!streams.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomException(CustomResponseStatus.TOO_MANY_REQUESTS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(CustomResponseStatus.SERVER_ERROR);
+        }
+        byte[] buffer = bufferPool.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        bufferPool.add(buffer);
+        streams.release();
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            logger.warn("S3 multipart upload 취소 실패 (key={}, uploadId={})", key, uploadId, e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.amumal.community.global.s3.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 검증만 되고 유예 시간이 지나도록 게시글/프로필에 연결되지 않은(참조 0) 이미지를 정리
+// (presigned 완료 후 연결하지 않은 업로드, 참조 등록 후 롤백된 업로드 등)
+// 인덱스 행 삭제와 S3 삭제 예약을 한 트랜잭션으로 묶어 청크 단위로 커밋
+@Component
+public class UnreferencedImageSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreferencedImageSweeper.class);
+
+    private final ImageObjectIndex imageObjectIndex;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final long graceSeconds;
+    private final int batchSize;
+
+    public UnreferencedImageSweeper(ImageObjectIndex imageObjectIndex,
+                                    S3DeletionQueue s3DeletionQueue,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${cloud.aws.s3.orphan.grace-seconds:86400}") long graceSeconds,
+                                    @Value("${cloud.aws.s3.orphan.batch-size:500}") int batchSize) {
+        this.imageObjectIndex = imageObjectIndex;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.graceSeconds = graceSeconds;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.orphan.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(graceSeconds);
+        long swept = 0;
+        List<String> keys;
+        do {
+            keys = transactionTemplate.execute(status -> {
+                List<String> removed = imageObjectIndex.removeUnreferenced(cutoff, batchSize);
+                if (!removed.isEmpty()) {
+                    s3DeletionQueue.enqueueKeys(removed);
+                }
+                return removed;
+            });
+            swept += keys.size();
+        } while (keys.size() == batchSize);
+
+        if (swept > 0) {
+            logger.info("연결되지 않은 이미지 {}건의 삭제를 예약했습니다. (cutoff={})", swept, cutoff);
+        }
+    }
+}
@@ -28,9 +28,55 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenValidity;
 
+    // 서명 키와 파서는 스레드 안전하므로 최초 사용 시 한 번만 생성해 재사용
+    private volatile Key signingKey;
+    private volatile JwtParser jwtParser;
+
+    public JwtUtil() {
+    }
+
+    public JwtUtil(String secret, long tokenValidity, long refreshTokenValidity) {
+        this.secret = secret;
+        this.tokenValidity = tokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+    }
+
+    // 검증된 토큰에서 꺼낸 클레임
+    public record JwtClaims(
+            Long userId,
+            String email,
+            Date expiration
+    ) {}
+
     private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        Key key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
+    // 서명과 만료를 한 번에 검증하고 필요한 클레임을 반환 (실패 시 JwtException 발생)
+    public JwtClaims parse(String token) {
+        Claims claims = extractAllClaims(token);
+        return new JwtClaims(
+                Long.parseLong(claims.get("userId", String.class)),
+                claims.getSubject(),
+                claims.getExpiration()
+        );
     }
 
     public String extractUsername(String token) {
@@ -51,9 +97,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -85,7 +129,8 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String email) {
-        final String username = extractUsername(token);
-        return (username.equals(email) && !isTokenExpired(token));
+        // 한 번만 파싱해서 subject와 만료 시간을 함께 확인
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(email) && !claims.getExpiration().before(new Date()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+-- 논리 삭제된 행 정리 작업(SoftDeletePurger)이 보존 기간이 지난 행을 찾을 때 쓰는 인덱스
+-- MySQL에는 부분 인덱스(WHERE deleted_at IS NOT NULL)가 없으므로 deleted_at 단일 인덱스로 대신함
+-- (InnoDB 보조 인덱스에는 PK가 붙으므로 deleted_at, id 순서로 읽어 정렬 없이 청크를 나눔)
+-- 게시글은 V9의 idx_posts_deleted_id (deleted_at, post_id)를 그대로 사용
+CREATE INDEX idx_comments_deleted_at ON comments (deleted_at);
@@ -0,0 +1,2 @@
+-- 탈퇴 처리된 사용자(deleted_at IS NOT NULL)를 정리 작업이 주기적으로 찾을 때 전체 스캔을 피하기 위한 인덱스
+CREATE INDEX idx_users_deleted_at ON users (deleted_at);
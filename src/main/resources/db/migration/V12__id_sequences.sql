@@ -0,0 +1,14 @@
+-- 게시글/댓글/사용자 ID를 IDENTITY 대신 테이블 기반 구간 할당으로 생성 (JDBC 배치 INSERT를 쓰기 위함)
+-- Hibernate pooled-lo 최적화: next_val은 다음에 나눠줄 구간의 시작 ID이므로 현재 최대 ID + 1로 초기화
+-- 이후 이 세 테이블의 ID는 Hibernate만 할당해야 함: 컬럼의 AUTO_INCREMENT나 ID를 지정한 수동 INSERT는
+-- 실행 중인 인스턴스가 이미 받아 둔 구간의 ID와 겹칠 수 있음
+-- 좋아요(likes)는 INSERT IGNORE 토글이 AUTO_INCREMENT를 쓰므로 대상에서 제외
+CREATE TABLE id_sequences (
+    seq_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (seq_name)
+);
+
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'users', COALESCE(MAX(user_id), 0) + 1 FROM users;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'posts', COALESCE(MAX(post_id), 0) + 1 FROM posts;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 1 FROM comments;
@@ -0,0 +1,4 @@
+-- 게시글 최신순 목록: ID는 인스턴스별 구간 할당(V12)이라 작성 순서와 다를 수 있으므로 (created_at, post_id) 역순 keyset
+-- deleted_at IS NULL 조건 다음에 created_at 범위로 읽음
+-- idx_posts_deleted_id (deleted_at, post_id)는 논리 삭제 정리 작업이 (deleted_at, post_id) 순서로 읽을 때 계속 사용
+CREATE INDEX idx_posts_deleted_created ON posts (deleted_at, created_at, post_id);
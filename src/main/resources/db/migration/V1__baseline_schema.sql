@@ -0,0 +1,57 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto=update로 만들어지던 테이블 그대로 (사용자, 게시글, 댓글, 좋아요)
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용하므로,
+-- 이후 추가된 컬럼/테이블/인덱스는 여기에 넣지 않고 반드시 새 버전으로 추가
+
+CREATE TABLE users (
+    user_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    nick_name     VARCHAR(10)  NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    profile_image LONGTEXT     NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_nick_name UNIQUE (nick_name),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE posts (
+    post_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    title      VARCHAR(30) NOT NULL,
+    contents   LONGTEXT    NOT NULL,
+    img        LONGTEXT,
+    view       INTEGER     NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (post_id)
+);
+
+CREATE TABLE comments (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    post_id    BIGINT NOT NULL,
+    content    TEXT   NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE likes (
+    like_id    BIGINT NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (like_id)
+);
+
+ALTER TABLE posts ADD CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (user_id);
+ALTER TABLE comments ADD CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id);
+ALTER TABLE comments ADD CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id);
+ALTER TABLE likes ADD CONSTRAINT fk_likes_post FOREIGN KEY (post_id) REFERENCES posts (post_id);
+ALTER TABLE likes ADD CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES users (user_id);
@@ -0,0 +1,9 @@
+-- 게시글 목록/상세에서 매번 COUNT하지 않도록 좋아요 수/댓글 수를 게시글 행에 저장
+-- 기존 게시글은 현재 좋아요 행 수와 삭제되지 않은 댓글 수로 채움 (이후 차이는 PostCounterReconciler가 보정)
+ALTER TABLE posts ADD COLUMN like_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE posts ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE posts
+SET like_count    = (SELECT COUNT(*) FROM likes WHERE likes.post_id = posts.post_id),
+    comment_count = (SELECT COUNT(*) FROM comments
+                     WHERE comments.post_id = posts.post_id AND comments.deleted_at IS NULL);
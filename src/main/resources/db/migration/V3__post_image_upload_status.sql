@@ -0,0 +1,6 @@
+-- 게시글 이미지 비동기 업로드: 업로드 중인 이미지 URL과 업로드 상태
+-- 기존 게시글은 이미지가 있으면 READY, 없으면 NONE
+ALTER TABLE posts ADD COLUMN pending_img VARCHAR(512);
+ALTER TABLE posts ADD COLUMN img_status ENUM ('NONE','PENDING','READY','FAILED');
+
+UPDATE posts SET img_status = CASE WHEN img IS NULL OR img = '' THEN 'NONE' ELSE 'READY' END;
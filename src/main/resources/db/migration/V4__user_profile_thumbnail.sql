@@ -0,0 +1,2 @@
+-- 프로필 이미지 썸네일 URL (비동기로 생성되므로 기존 사용자와 생성 전에는 비어 있음)
+ALTER TABLE users ADD COLUMN profile_thumb VARCHAR(512);
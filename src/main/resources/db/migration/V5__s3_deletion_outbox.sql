@@ -0,0 +1,11 @@
+-- S3 객체 삭제 outbox: 비즈니스 트랜잭션과 함께 커밋되고 S3DeletionWorker가 재시도 시각 순으로 일괄 삭제
+CREATE TABLE s3_deletion_outbox (
+    outbox_id       BIGINT        NOT NULL AUTO_INCREMENT,
+    object_key      VARCHAR(1024) NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    created_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (outbox_id)
+);
+
+CREATE INDEX idx_s3_deletion_outbox_next_attempt ON s3_deletion_outbox (next_attempt_at);
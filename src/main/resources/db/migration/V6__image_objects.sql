@@ -0,0 +1,15 @@
+-- 내용 해시 기반 이미지 인덱스: 같은 내용은 한 객체만 두고 게시글/사용자 참조 수로 공유
+-- 기존 UUID 키 이미지는 등록하지 않음 (인덱스에 없는 키는 참조 해제 시 바로 삭제 대상)
+CREATE TABLE image_objects (
+    image_object_id BIGINT       NOT NULL AUTO_INCREMENT,
+    content_hash    VARCHAR(64)  NOT NULL,
+    object_key      VARCHAR(512) NOT NULL,
+    ref_count       INTEGER      NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (image_object_id),
+    CONSTRAINT uk_image_objects_content_hash UNIQUE (content_hash),
+    CONSTRAINT uk_image_objects_object_key UNIQUE (object_key)
+);
+
+-- 연결되지 않은(참조 0) 이미지 정리: ref_count = 0 AND created_at < ? 를 오래된 순서로 조회
+CREATE INDEX idx_image_objects_ref_count_created ON image_objects (ref_count, created_at);
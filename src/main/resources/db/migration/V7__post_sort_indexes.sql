@@ -0,0 +1,4 @@
+-- 게시글 목록 정렬(좋아요순/조회순/댓글순) keyset 페이지네이션: (정렬 값, post_id) 순서로 읽음
+CREATE INDEX idx_posts_like_count ON posts (like_count, post_id);
+CREATE INDEX idx_posts_view ON posts (view, post_id);
+CREATE INDEX idx_posts_comment_count ON posts (comment_count, post_id);
@@ -0,0 +1,2 @@
+-- 게시글 댓글 커서 페이지: post_id = ? AND deleted_at IS NULL AND id > ? ORDER BY id
+CREATE INDEX idx_comments_post_deleted_id ON comments (post_id, deleted_at, id);
@@ -0,0 +1,16 @@
+-- 자주 실행되는 조회 조건에 맞춘 인덱스와 좋아요 중복 방지 제약
+
+-- 1. 좋아요: (post_id, user_id) 유일 제약
+--    existsByPostIdAndUserId / findByPostIdAndUserId와 게시글별 좋아요 수 집계가 이 인덱스로 처리됨
+--    제약을 걸기 전에 중복 행은 가장 먼저 만들어진 것만 남김 (like_count는 카운터 보정 작업이 다시 맞춤)
+DELETE FROM likes
+WHERE like_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MIN(like_id) AS keep_id FROM likes GROUP BY post_id, user_id
+    ) AS kept
+);
+
+ALTER TABLE likes ADD CONSTRAINT uk_likes_post_user UNIQUE (post_id, user_id);
+
+-- 2. 게시글 최신순 목록: deleted_at IS NULL 조건 + post_id 역순 keyset
+CREATE INDEX idx_posts_deleted_id ON posts (deleted_at, post_id);
@@ -1,6 +1,8 @@
 package com.amumal.community.domain.post.controller;
 
 import com.amumal.community.domain.post.dto.request.CommentRequest;
+import com.amumal.community.domain.post.dto.response.CommentPageResponse;
+import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.service.comment.CommentService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.domain.user.service.UserService;
@@ -20,6 +22,8 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -197,6 +201,50 @@ class CommentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("댓글 목록 조회 테스트")
+    class GetCommentsTest {
+
+        @Test
+        @DisplayName("커서와 페이지 크기를 전달하면 댓글 한 페이지와 다음 커서 반환")
+        void getComments_withCursor_success() throws Exception {
+            // Given
+            CommentPageResponse page = CommentPageResponse.builder()
+                    .comments(List.of(PostDetailResponse.CommentResponse.builder()
+                            .commentId(COMMENT_ID)
+                            .content(COMMENT_CONTENT)
+                            .build()))
+                    .nextCursor(COMMENT_ID)
+                    .build();
+            when(commentService.getComments(POST_ID, 150L, 1)).thenReturn(page);
+
+            // When & Then
+            mockMvc.perform(get("/posts/{postId}/comments", POST_ID)
+                            .param("cursor", "150")
+                            .param("pageSize", "1")
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("fetch_comments_success"))
+                    .andExpect(jsonPath("$.data.comments[0].commentId").value(COMMENT_ID))
+                    .andExpect(jsonPath("$.data.nextCursor").value(COMMENT_ID));
+        }
+
+        @Test
+        @DisplayName("커서 없이 요청하면 첫 페이지를 기본 크기로 조회")
+        void getComments_firstPage_usesDefaultPageSize() throws Exception {
+            // Given
+            when(commentService.getComments(POST_ID, null, 20))
+                    .thenReturn(CommentPageResponse.builder().comments(List.of()).build());
+
+            // When & Then
+            mockMvc.perform(get("/posts/{postId}/comments", POST_ID)
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+            verify(commentService).getComments(POST_ID, null, 20);
+        }
+    }
+
     @TestConfiguration
     static class MockConfig {
         @Bean
@@ -2,7 +2,8 @@ package com.amumal.community.domain.post.controller;
 
 import com.amumal.community.TestSecurityConfig;
 import com.amumal.community.domain.post.dto.request.LikeRequest;
-import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.amumal.community.domain.post.dto.response.LikeResponse;
+import com.amumal.community.domain.post.service.likes.LikeStatusIndex;
 import com.amumal.community.domain.post.service.likes.LikesService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.domain.user.service.UserService;
@@ -23,7 +24,15 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -57,7 +66,7 @@ class LikesControllerTest {
     private UserService userService;
 
     @Autowired
-    private LikesRepository likesRepository;
+    private LikeStatusIndex likeStatusIndex;
 
     // 테스트용 공통 변수
     private User testUser;
@@ -126,8 +135,8 @@ class LikesControllerTest {
         }
 
         @Bean
-        public LikesRepository likesRepository() {
-            return mock(LikesRepository.class);
+        public LikeStatusIndex likeStatusIndex() {
+            return mock(LikeStatusIndex.class);
         }
     }
 
@@ -139,12 +148,29 @@ class LikesControllerTest {
         @DisplayName("인증된 사용자의 좋아요 추가 요청 성공")
         void addLike_authenticated_success() throws Exception {
             // Given
-            doNothing().when(likesService).addLike(eq(POST_ID), any(LikeRequest.class), eq(testUser));
+            when(likesService.addLike(eq(POST_ID), any(LikeRequest.class), eq(testUser)))
+                    .thenReturn(new LikeResponse(true, 3));
 
             // When & Then
             performAuthenticatedRequest("POST", "/posts/{postId}/likes", POST_ID)
                     .andExpect(status().isCreated())
-                    .andExpect(jsonPath("$.message").value("like_success"));
+                    .andExpect(jsonPath("$.message").value("like_success"))
+                    .andExpect(jsonPath("$.data.liked").value(true))
+                    .andExpect(jsonPath("$.data.likeCount").value(3));
+        }
+
+        @Test
+        @DisplayName("이미 좋아요한 게시글이면 취소 결과 반환")
+        void addLike_alreadyLiked_returnsUnliked() throws Exception {
+            // Given
+            when(likesService.addLike(eq(POST_ID), any(LikeRequest.class), eq(testUser)))
+                    .thenReturn(new LikeResponse(false, 2));
+
+            // When & Then
+            performAuthenticatedRequest("POST", "/posts/{postId}/likes", POST_ID)
+                    .andExpect(jsonPath("$.message").value("unlike_success"))
+                    .andExpect(jsonPath("$.data.liked").value(false))
+                    .andExpect(jsonPath("$.data.likeCount").value(2));
         }
 
         @Test
@@ -193,7 +219,7 @@ class LikesControllerTest {
         @DisplayName("인증된 사용자의 좋아요 상태 조회 성공 - 좋아요 있음")
         void checkLikeStatus_authenticated_liked_returnsTrue() throws Exception {
             // Given
-            when(likesRepository.existsByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(true);
+            when(likeStatusIndex.isLiked(POST_ID, USER_ID)).thenReturn(true);
 
             // When & Then
             performAuthenticatedRequest("GET", "/posts/{postId}/likes/status", POST_ID)
@@ -206,7 +232,7 @@ class LikesControllerTest {
         @DisplayName("인증된 사용자의 좋아요 상태 조회 성공 - 좋아요 없음")
         void checkLikeStatus_authenticated_notLiked_returnsFalse() throws Exception {
             // Given
-            when(likesRepository.existsByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(false);
+            when(likeStatusIndex.isLiked(POST_ID, USER_ID)).thenReturn(false);
 
             // When & Then
             performAuthenticatedRequest("GET", "/posts/{postId}/likes/status", POST_ID)
@@ -224,4 +250,43 @@ class LikesControllerTest {
                     .andExpect(status().isForbidden());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("좋아요 상태 일괄 확인 테스트")
+    class CheckLikeStatusesTest {
+
+        @Test
+        @DisplayName("여러 게시글의 좋아요 여부를 한 번에 반환")
+        void checkLikeStatuses_authenticated_returnsStatuses() throws Exception {
+            // Given
+            Map<Long, Boolean> statuses = new LinkedHashMap<>();
+            statuses.put(3L, true);
+            statuses.put(2L, false);
+            when(likeStatusIndex.getStatuses(List.of(3L, 2L), USER_ID)).thenReturn(statuses);
+
+            // When & Then
+            mockMvc.perform(get("/posts/likes/status")
+                            .param("postIds", "3,2")
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data['3']").value(true))
+                    .andExpect(jsonPath("$.data['2']").value(false));
+        }
+
+        @Test
+        @DisplayName("한 번에 조회할 수 있는 게시글 수를 넘으면 실패")
+        void checkLikeStatuses_tooManyPostIds_fails() throws Exception {
+            // Given
+            String postIds = LongStream.rangeClosed(1, 101)
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            // When & Then
+            mockMvc.perform(get("/posts/likes/status")
+                            .param("postIds", postIds)
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isBadRequest());
+            verify(likeStatusIndex, never()).getStatuses(anyList(), anyLong());
+        }
+    }
+}
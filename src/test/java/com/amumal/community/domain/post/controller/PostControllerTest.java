@@ -1,10 +1,14 @@
 package com.amumal.community.domain.post.controller;
 
 import com.amumal.community.TestSecurityConfig;
+import com.amumal.community.domain.post.dto.request.PostImportRequest;
 import com.amumal.community.domain.post.dto.request.PostRequest;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.dto.response.PostImportResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse;
 import com.amumal.community.domain.post.service.post.PostCommandService;
+import com.amumal.community.domain.post.service.post.PostImportService;
 import com.amumal.community.domain.post.service.post.PostQueryService;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.domain.user.service.UserService;
@@ -23,15 +27,19 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -42,6 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(controllers = PostController.class)
 @Import({TestSecurityConfig.class, PostControllerTest.MockConfig.class, GlobalExceptionHandler.class})
 @ContextConfiguration(classes = {PostController.class, TestSecurityConfig.class, PostControllerTest.MockConfig.class, GlobalExceptionHandler.class})
+@TestPropertySource(properties = "post.import.enabled=true")
 class PostControllerTest {
 
     // 테스트 상수
@@ -67,9 +76,15 @@ class PostControllerTest {
     @Autowired
     private PostCommandService postCommandService;
 
+    @Autowired
+    private PostImportService postImportService;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private PostController postController;
+
     // 테스트용 공통 변수
     private User testUser;
     private JwtUserDetails jwtUserDetails;
@@ -103,6 +118,11 @@ class PostControllerTest {
             return mock(PostCommandService.class);
         }
 
+        @Bean
+        public PostImportService postImportService() {
+            return mock(PostImportService.class);
+        }
+
         @Bean
         public UserService userService() {
             return mock(UserService.class);
@@ -122,7 +142,7 @@ class PostControllerTest {
                     .nextCursor(null)
                     .build();
 
-            when(postQueryService.getPostSimpleInfo(null, PAGE_SIZE)).thenReturn(response);
+            when(postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, PAGE_SIZE, null)).thenReturn(response);
 
             // When & Then
             mockMvc.perform(get("/posts")
@@ -131,6 +151,47 @@ class PostControllerTest {
                     .andExpect(jsonPath("$.message").value("fetch_posts_success"))
                     .andExpect(jsonPath("$.data.nextCursor").isEmpty());
         }
+
+        @Test
+        @DisplayName("정렬 기준과 커서를 그대로 서비스에 전달")
+        void getPosts_withSortAndCursor() throws Exception {
+            // Given
+            PostResponse response = PostResponse.builder()
+                    .postSimpleInfos(Collections.emptyList())
+                    .nextCursor(null)
+                    .build();
+            when(postQueryService.getPostSimpleInfo(PostSortType.LIKES, "bGlrZXM6MzoxMA", PAGE_SIZE, null)).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/posts")
+                            .param("pageSize", String.valueOf(PAGE_SIZE))
+                            .param("sort", "likes")
+                            .param("cursor", "bGlrZXM6MzoxMA"))
+                    .andExpect(status().isOk());
+            verify(postQueryService).getPostSimpleInfo(PostSortType.LIKES, "bGlrZXM6MzoxMA", PAGE_SIZE, null);
+        }
+
+        @Test
+        @DisplayName("로그인한 사용자면 사용자 ID를 넘겨 likedByMe가 채워진 목록 반환")
+        void getPosts_authenticated_includesLikedByMe() throws Exception {
+            // Given
+            PostResponse response = PostResponse.builder()
+                    .postSimpleInfos(List.of(PostResponse.PostSimpleInfo.builder()
+                            .postId(POST_ID)
+                            .title(POST_TITLE)
+                            .likedByMe(true)
+                            .build()))
+                    .nextCursor(null)
+                    .build();
+            when(postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, PAGE_SIZE, USER_ID)).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/posts")
+                            .param("pageSize", String.valueOf(PAGE_SIZE))
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.postSimpleInfos[0].likedByMe").value(true));
+        }
     }
 
     @Nested
@@ -271,6 +332,83 @@ class PostControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 일괄 등록 테스트")
+    class ImportPostsTest {
+
+        @Test
+        @DisplayName("게시글 일괄 등록 성공")
+        void importPosts_success() throws Exception {
+            // Given
+            PostImportRequest request = PostImportRequest.builder()
+                    .posts(List.of(PostImportRequest.Item.builder()
+                            .title(POST_TITLE)
+                            .content(POST_CONTENT)
+                            .comments(List.of("댓글1", "댓글2"))
+                            .build()))
+                    .build();
+            when(postImportService.importPosts(request, testUser))
+                    .thenReturn(PostImportResponse.builder().postCount(1).commentCount(2).build());
+
+            // When & Then
+            mockMvc.perform(post("/posts/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf())
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.message").value("import_posts_success"))
+                    .andExpect(jsonPath("$.data.commentCount").value(2));
+        }
+
+        @Test
+        @DisplayName("게시글 일괄 등록 실패: 기능이 꺼져 있으면 404")
+        void importPosts_disabled_notFound() throws Exception {
+            // Given
+            ReflectionTestUtils.setField(postController, "importEnabled", false);
+
+            try {
+                // When & Then
+                mockMvc.perform(post("/posts/import")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"posts\":[{\"title\":\"제목\",\"content\":\"내용\"}]}")
+                                .characterEncoding("UTF-8")
+                                .with(csrf())
+                                .with(user(jwtUserDetails)))
+                        .andExpect(status().isNotFound());
+            } finally {
+                ReflectionTestUtils.setField(postController, "importEnabled", true);
+            }
+        }
+
+        @Test
+        @DisplayName("게시글 일괄 등록 실패: 등록할 게시글이 없음")
+        void importPosts_emptyPosts_fails() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/posts/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"posts\":[]}")
+                            .with(csrf())
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Posts cannot be empty")));
+        }
+
+        @Test
+        @DisplayName("게시글 일괄 등록 실패: 게시글 제목이 비어있음")
+        void importPosts_blankTitle_fails() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/posts/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"posts\":[{\"title\":\"\",\"content\":\"내용\"}]}")
+                            .characterEncoding("UTF-8")
+                            .with(csrf())
+                            .with(user(jwtUserDetails)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Title cannot be blank")));
+        }
+    }
+
     @Nested
     @DisplayName("게시글 수정 테스트")
     class UpdatePostTest {
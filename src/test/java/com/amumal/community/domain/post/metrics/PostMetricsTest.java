@@ -0,0 +1,44 @@
+package com.amumal.community.domain.post.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private PostMetrics postMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postMetrics = new PostMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글은 action 태그로 추가/취소가 구분되어 집계됨")
+    void likeToggled_countsByAction() {
+        // When
+        postMetrics.likeToggled(true);
+        postMetrics.likeToggled(true);
+        postMetrics.likeToggled(false);
+
+        // Then
+        assertEquals(2.0, meterRegistry.get("post.likes.toggle").tag("action", "add").counter().count());
+        assertEquals(1.0, meterRegistry.get("post.likes.toggle").tag("action", "remove").counter().count());
+    }
+
+    @Test
+    @DisplayName("조회수 증가 횟수가 집계됨")
+    void viewIncremented_counts() {
+        // When
+        postMetrics.viewIncremented();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("post.views.increment").counter().count());
+    }
+}
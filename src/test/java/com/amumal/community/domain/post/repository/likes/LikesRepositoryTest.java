@@ -8,14 +8,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+// 좋아요 저장은 MySQL 전용 문법(INSERT IGNORE)을 쓰므로 MySQL 호환 모드 H2에서 검증
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:likes;MODE=MySQL;DB_CLOSE_DELAY=-1")
 class LikesRepositoryTest {
 
     // 테스트 상수
@@ -131,4 +138,174 @@ class LikesRepositoryTest {
             assertThat(optionalLike).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("좋아요 토글 쿼리 테스트")
+    class ToggleQueryTest {
+
+        @Test
+        @DisplayName("좋아요가 없으면 한 행을 삽입하고, 이미 있으면 건너뜀")
+        void insertIgnore_insertsOnlyOnce() {
+            // Given
+            entityManager.flush();
+
+            // When
+            int first = likesRepository.insertIgnore(testPost.getId(), testUser.getId());
+            int second = likesRepository.insertIgnore(testPost.getId(), testUser.getId());
+
+            // Then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(likesRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("삭제된 게시글에는 좋아요를 삽입하지 않음")
+        void insertIgnore_deletedPost_insertsNothing() {
+            // Given
+            testPost.delete();
+            entityManager.flush();
+
+            // When
+            int inserted = likesRepository.insertIgnore(testPost.getId(), testUser.getId());
+
+            // Then
+            assertThat(inserted).isZero();
+            assertThat(likesRepository.existsByPostIdAndUserId(testPost.getId(), testUser.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("좋아요 삭제는 지운 행 수를 반환")
+        void deleteByPostIdAndUserId_returnsDeletedCount() {
+            // Given
+            entityManager.persist(Likes.builder().post(testPost).user(testUser).build());
+            entityManager.flush();
+
+            // When
+            int deleted = likesRepository.deleteByPostIdAndUserId(testPost.getId(), testUser.getId());
+            int deletedAgain = likesRepository.deleteByPostIdAndUserId(testPost.getId(), testUser.getId());
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(deletedAgain).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 좋아요 사용자를 한 번에 조회하고, 좋아요 없는 게시글은 사용자 없이 한 행")
+    void findLikersOfLivePostsIn_returnsPostAndUserIds() {
+        // Given
+        Post otherPost = Post.builder()
+                .user(testUser)
+                .title(POST_TITLE)
+                .content(POST_CONTENT)
+                .build();
+        entityManager.persist(otherPost);
+        entityManager.persist(Likes.builder().post(testPost).user(testUser).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: 존재하지 않는 ID는 결과에 나오지 않음
+        List<LikesRepository.Liker> likers =
+                likesRepository.findLikersOfLivePostsIn(List.of(testPost.getId(), otherPost.getId(), 999L));
+
+        // Then
+        assertThat(likers).hasSize(2);
+        assertThat(likers).anySatisfy(liker -> {
+            assertThat(liker.getPostId()).isEqualTo(testPost.getId());
+            assertThat(liker.getUserId()).isEqualTo(testUser.getId());
+        });
+        assertThat(likers).anySatisfy(liker -> {
+            assertThat(liker.getPostId()).isEqualTo(otherPost.getId());
+            assertThat(liker.getUserId()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("주어진 게시글 중 해당 사용자가 좋아요 한 게시글 ID만 조회")
+    void findLikedPostIds_returnsOnlyUsersLikes() {
+        // Given: 다른 게시글에는 다른 사용자만 좋아요
+        Post otherPost = Post.builder()
+                .user(testUser)
+                .title(POST_TITLE)
+                .content(POST_CONTENT)
+                .build();
+        entityManager.persist(otherPost);
+        User otherUser = User.builder()
+                .nickname("other")
+                .email("other@example.com")
+                .password(USER_PASSWORD)
+                .build();
+        entityManager.persist(otherUser);
+        entityManager.persist(Likes.builder().post(testPost).user(testUser).build());
+        entityManager.persist(Likes.builder().post(otherPost).user(otherUser).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Long> liked = likesRepository.findLikedPostIds(testUser.getId(), List.of(testPost.getId(), otherPost.getId()));
+
+        // Then
+        assertThat(liked).containsExactly(testPost.getId());
+    }
+
+    @Test
+    @DisplayName("게시글 단위 bulk 삭제는 한 번에 LIMIT만큼만 지움")
+    void deleteByPostIds_deletesAtMostLimitRows() {
+        // Given: 서로 다른 사용자 3명의 좋아요
+        entityManager.persist(Likes.builder().post(testPost).user(testUser).build());
+        for (int i = 1; i <= 2; i++) {
+            User liker = User.builder()
+                    .nickname("liker" + i)
+                    .email("liker" + i + "@example.com")
+                    .password(USER_PASSWORD)
+                    .build();
+            entityManager.persist(liker);
+            entityManager.persist(Likes.builder().post(testPost).user(liker).build());
+        }
+        entityManager.flush();
+
+        // When
+        int first = likesRepository.deleteByPostIds(List.of(testPost.getId()), 2);
+        int second = likesRepository.deleteByPostIds(List.of(testPost.getId()), 2);
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(likesRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자의 좋아요를 ID 청크로 찾고, 그 좋아요가 달린 게시글을 알아낸 뒤 지움")
+    void userLikeChunk_findsPostsThenDeletes() {
+        // Given: 사용자가 두 게시글에 좋아요, 다른 사용자도 같은 게시글에 좋아요
+        Post otherPost = Post.builder()
+                .user(testUser)
+                .title(POST_TITLE)
+                .content(POST_CONTENT)
+                .build();
+        entityManager.persist(otherPost);
+        User otherUser = User.builder()
+                .nickname("other")
+                .email("other@example.com")
+                .password(USER_PASSWORD)
+                .build();
+        entityManager.persist(otherUser);
+        entityManager.persist(Likes.builder().post(testPost).user(testUser).build());
+        entityManager.persist(Likes.builder().post(otherPost).user(testUser).build());
+        entityManager.persist(Likes.builder().post(testPost).user(otherUser).build());
+        entityManager.flush();
+
+        // When
+        List<Long> ids = likesRepository.findIdsByUserId(testUser.getId(), PageRequest.of(0, 10));
+        List<Long> postIds = likesRepository.findPostIdsByIdIn(ids);
+        int deleted = likesRepository.deleteByIds(ids);
+
+        // Then
+        assertThat(ids).hasSize(2);
+        assertThat(postIds).containsExactlyInAnyOrder(testPost.getId(), otherPost.getId());
+        assertThat(deleted).isEqualTo(2);
+        assertThat(likesRepository.existsByPostIdAndUserId(testPost.getId(), otherUser.getId())).isTrue();
+        assertThat(likesRepository.count()).isEqualTo(1);
+    }
+}
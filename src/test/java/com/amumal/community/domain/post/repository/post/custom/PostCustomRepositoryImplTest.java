@@ -1,8 +1,11 @@
 package com.amumal.community.domain.post.repository.post.custom;
 
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
 import com.amumal.community.domain.post.entity.Comment;
+import com.amumal.community.domain.post.entity.ImageStatus;
 import com.amumal.community.domain.post.entity.Likes;
 import com.amumal.community.domain.post.entity.Post;
 import com.amumal.community.domain.post.repository.post.PostRepository;
@@ -15,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -118,6 +123,98 @@ class PostCustomRepositoryTest {
             assertThat(detailResponse.comments()).hasSize(1);
             assertThat(detailResponse.comments().get(0).content()).isEqualTo(COMMENT_CONTENT);
         }
+
+        @Test
+        @DisplayName("상세에는 첫 페이지 댓글만 포함하고 다음 커서로 나머지를 이어서 조회")
+        void getPostDetailInfoById_embedsFirstCommentPage() {
+            // Given: 살아있는 댓글 21개 + 삭제된 댓글 1개
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            List<Long> liveIds = new ArrayList<>();
+            for (int i = 0; i < PostCustomRepository.COMMENT_PAGE_SIZE + 2; i++) {
+                Comment comment = Comment.builder().post(post).user(testUser).content(COMMENT_CONTENT + i).build();
+                entityManager.persist(comment);
+                if (i == 1) {
+                    comment.safeDelete(testUser);
+                } else {
+                    liveIds.add(comment.getId());
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            PostDetailResponse detail = postRepository.getPostDetailInfoById(post.getId());
+            List<PostDetailResponse.CommentResponse> rest =
+                    postRepository.getComments(post.getId(), detail.nextCommentCursor(), PostCustomRepository.COMMENT_PAGE_SIZE);
+
+            // Then: 오래된 순으로 이어지고 삭제된 댓글은 빠짐
+            assertThat(detail.commentCount()).isEqualTo(liveIds.size());
+            assertThat(detail.comments()).extracting(PostDetailResponse.CommentResponse::commentId)
+                    .containsExactlyElementsOf(liveIds.subList(0, PostCustomRepository.COMMENT_PAGE_SIZE));
+            assertThat(detail.nextCommentCursor()).isEqualTo(liveIds.get(PostCustomRepository.COMMENT_PAGE_SIZE - 1));
+            assertThat(rest).extracting(PostDetailResponse.CommentResponse::commentId)
+                    .containsExactly(liveIds.get(PostCustomRepository.COMMENT_PAGE_SIZE));
+        }
+    }
+
+    @Nested
+    @DisplayName("작성자 썸네일 테스트")
+    class AuthorThumbnailTest {
+
+        private static final String THUMBNAIL = "http://example.com/renditions/thumb/profile.jpg.jpg";
+
+        @Test
+        @DisplayName("썸네일 변환본이 있으면 목록/상세/댓글 작성자 이미지로 썸네일 사용")
+        void authorImage_prefersThumbnail() {
+            // Given
+            testUser.updateProfileThumbnail(THUMBNAIL);
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            entityManager.persist(Comment.builder().post(post).user(testUser).content(COMMENT_CONTENT).build());
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            PostDetailResponse detail = postRepository.getPostDetailInfoById(post.getId());
+            List<PostSimpleInfo> feed = postRepository.getPostSimpleInfo(null, PAGE_SIZE);
+
+            // Then
+            assertThat(detail.author().profileImage()).isEqualTo(THUMBNAIL);
+            assertThat(detail.comments().get(0).author().profileImage()).isEqualTo(THUMBNAIL);
+            assertThat(feed.get(0).authorProfileImg()).isEqualTo(THUMBNAIL);
+        }
+
+        @Test
+        @DisplayName("썸네일이 아직 없으면 원본 프로필 이미지 사용")
+        void authorImage_fallsBackToOriginal() {
+            // Given
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<PostSimpleInfo> feed = postRepository.getPostSimpleInfo(null, PAGE_SIZE);
+
+            // Then
+            assertThat(feed.get(0).authorProfileImg()).isEqualTo(PROFILE_IMAGE);
+        }
     }
 
     @Nested
@@ -204,5 +301,228 @@ class PostCustomRepositoryTest {
 
             assertThat(minIdInFirstPage).isGreaterThan(maxIdInSecondPage);
         }
+
+        @Test
+        @DisplayName("최신순은 ID가 아닌 작성 시각 순서: 작은 ID가 나중에 작성되어도 먼저 조회")
+        void getPostSimpleInfo_newest_ordersByCreatedAtNotId() {
+            // Given: 다른 인스턴스가 예전에 받아 둔 ID 구간에서 가장 작은 ID로 나중에 작성된 게시글
+            List<Post> posts = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                Post post = Post.builder()
+                        .user(testUser)
+                        .title("Post " + i)
+                        .content("Content " + i)
+                        .build();
+                entityManager.persist(post);
+                posts.add(post);
+            }
+            entityManager.flush();
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE posts SET created_at = :createdAt WHERE post_id = :postId")
+                    .setParameter("createdAt", LocalDateTime.now().plusHours(1))
+                    .setParameter("postId", posts.get(0).getId())
+                    .executeUpdate();
+            entityManager.clear();
+
+            // When: 페이지 크기 2로 끝까지 조회
+            List<PostSimpleInfo> all = new ArrayList<>();
+            FeedCursor cursor = null;
+            List<PostSimpleInfo> page;
+            do {
+                page = postRepository.getPostSimpleInfo(PostSortType.NEWEST, cursor, 2);
+                all.addAll(page);
+                cursor = page.isEmpty() ? null : FeedCursor.after(PostSortType.NEWEST, page.get(page.size() - 1));
+            } while (page.size() == 2);
+
+            // Then
+            assertThat(all).extracting(PostSimpleInfo::title).containsExactly("Post 1", "Post 3", "Post 2");
+        }
+
+        @Test
+        @DisplayName("좋아요순은 (좋아요 수, ID) 커서로 동점 게시글도 빠짐없이 이어서 조회")
+        void getPostSimpleInfo_sortedByLikes_pagesThroughTies() {
+            // Given: 좋아요 수 3, 5, 5, 5, 1
+            int[] likeCounts = {3, 5, 5, 5, 1};
+            for (int i = 0; i < likeCounts.length; i++) {
+                entityManager.persist(Post.builder()
+                        .user(testUser)
+                        .title("Post " + i)
+                        .content("Content " + i)
+                        .likeCount(likeCounts[i])
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            // When: 페이지 크기 2로 끝까지 조회
+            List<PostSimpleInfo> all = new ArrayList<>();
+            FeedCursor cursor = null;
+            List<PostSimpleInfo> page;
+            do {
+                page = postRepository.getPostSimpleInfo(PostSortType.LIKES, cursor, 2);
+                all.addAll(page);
+                cursor = page.isEmpty() ? null : FeedCursor.after(PostSortType.LIKES, page.get(page.size() - 1));
+            } while (page.size() == 2);
+
+            // Then: 좋아요 수 내림차순, 동점은 ID 내림차순, 중복/누락 없음
+            assertThat(all).extracting(PostSimpleInfo::likeCount).containsExactly(5, 5, 5, 3, 1);
+            assertThat(all).extracting(PostSimpleInfo::title)
+                    .containsExactly("Post 3", "Post 2", "Post 1", "Post 0", "Post 4");
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요/댓글 카운터 테스트")
+    class CounterTest {
+
+        @Test
+        @DisplayName("카운터 증감 후 목록 조회 시 컬럼 값 반환")
+        void incrementAndDecrement_reflectedInSimpleInfo() {
+            // Given
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .build();
+            entityManager.persist(post);
+            entityManager.flush();
+
+            // When
+            postRepository.incrementLikeCount(post.getId());
+            postRepository.incrementLikeCount(post.getId());
+            postRepository.decrementLikeCount(post.getId());
+            postRepository.incrementCommentCount(post.getId());
+            entityManager.clear();
+
+            // Then
+            PostSimpleInfo info = postRepository.getPostSimpleInfo(null, PAGE_SIZE).get(0);
+            assertThat(info.likeCount()).isEqualTo(1);
+            assertThat(info.commentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("카운터가 0이면 더 이상 차감하지 않음")
+        void decrement_atZero_staysZero() {
+            // Given
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .build();
+            entityManager.persist(post);
+            entityManager.flush();
+
+            // When
+            int updated = postRepository.decrementCommentCount(post.getId());
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("보정 시 실제 집계값과 다른 카운터만 수정")
+        void reconcile_repairsDriftedCounters() {
+            // Given: 카운터를 거치지 않고 좋아요/댓글 직접 저장 (drift 발생)
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .build();
+            entityManager.persist(post);
+            entityManager.persist(Likes.builder().post(post).user(testUser).build());
+            entityManager.persist(Comment.builder().post(post).user(testUser).content(COMMENT_CONTENT).build());
+            entityManager.flush();
+
+            // When
+            Long maxId = postRepository.findMaxId();
+            int likeRepaired = postRepository.reconcileLikeCounts(1L, maxId);
+            int commentRepaired = postRepository.reconcileCommentCounts(1L, maxId);
+            entityManager.clear();
+
+            // Then
+            assertThat(likeRepaired).isEqualTo(1);
+            assertThat(commentRepaired).isEqualTo(1);
+            Post reconciled = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(reconciled.getLikeCount()).isEqualTo(1);
+            assertThat(reconciled.getCommentCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 이미지 업로드 반영 테스트")
+    class ImageUploadTest {
+
+        private static final String PENDING_IMAGE = "https://bucket.s3.ap-northeast-2.amazonaws.com/new.jpg";
+
+        private Post persistPendingPost() {
+            Post post = Post.builder()
+                    .user(testUser)
+                    .title(POST_TITLE)
+                    .content(POST_CONTENT)
+                    .image(POST_IMAGE)
+                    .build();
+            post.requestImageUpload(PENDING_IMAGE);
+            entityManager.persist(post);
+            entityManager.flush();
+            return post;
+        }
+
+        @Test
+        @DisplayName("업로드 완료 시 대기 중인 이미지가 본 이미지로 반영됨")
+        void completeImageUpload_movesPendingToImage() {
+            // Given
+            Post post = persistPendingPost();
+
+            // When
+            int updated = postRepository.completeImageUpload(post.getId(), PENDING_IMAGE);
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            Post completed = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(completed.getImage()).isEqualTo(PENDING_IMAGE);
+            assertThat(completed.getPendingImage()).isNull();
+            assertThat(completed.getImageStatus()).isEqualTo(ImageStatus.READY);
+        }
+
+        @Test
+        @DisplayName("더 새로운 업로드로 교체되었거나 삭제된 게시글에는 반영하지 않음")
+        void completeImageUpload_staleUpload_ignored() {
+            // Given
+            Post replaced = persistPendingPost();
+            Post deleted = persistPendingPost();
+            deleted.delete();
+            entityManager.flush();
+
+            // When
+            int staleUpdated = postRepository.completeImageUpload(replaced.getId(), "https://bucket/older.jpg");
+            int deletedUpdated = postRepository.completeImageUpload(deleted.getId(), PENDING_IMAGE);
+            entityManager.clear();
+
+            // Then
+            assertThat(staleUpdated).isZero();
+            assertThat(deletedUpdated).isZero();
+            assertThat(postRepository.findById(replaced.getId()).orElseThrow().getImage()).isEqualTo(POST_IMAGE);
+        }
+
+        @Test
+        @DisplayName("업로드 실패 시 기존 이미지는 유지하고 FAILED로 표시")
+        void failImageUpload_keepsPreviousImage() {
+            // Given
+            Post post = persistPendingPost();
+
+            // When
+            int updated = postRepository.failImageUpload(post.getId(), PENDING_IMAGE);
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            Post failed = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(failed.getImage()).isEqualTo(POST_IMAGE);
+            assertThat(failed.getPendingImage()).isNull();
+            assertThat(failed.getImageStatus()).isEqualTo(ImageStatus.FAILED);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.amumal.community.domain.post.scheduler;
+
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterReconcilerTest {
+
+    private static final long CHUNK_SIZE = 100L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "chunkSize", CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("최대 ID까지 청크 단위로 나누어 보정")
+    void reconcile_splitsIntoChunks() {
+        // Given
+        when(postRepository.findMaxId()).thenReturn(250L);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(postRepository).reconcileLikeCounts(1L, 100L);
+        verify(postRepository).reconcileLikeCounts(101L, 200L);
+        verify(postRepository).reconcileLikeCounts(201L, 300L);
+        verify(postRepository, times(3)).reconcileCommentCounts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 보정 쿼리를 실행하지 않음")
+    void reconcile_noPosts_doesNothing() {
+        // Given
+        when(postRepository.findMaxId()).thenReturn(0L);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(postRepository, never()).reconcileLikeCounts(anyLong(), anyLong());
+        verify(postRepository, never()).reconcileCommentCounts(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,230 @@
+package com.amumal.community.domain.post.scheduler;
+
+import com.amumal.community.domain.post.repository.comment.CommentRepository;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeletePurgerTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final long RETENTION_DAYS = 30L;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SoftDeletePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purger = newPurger(0L);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 삭제 댓글을 청크가 빌 때까지 나누어 삭제하고 삭제 행 수를 기록")
+    void purge_comments_deletesInChunks() {
+        // Given
+        when(commentRepository.findIdsDeletedBefore(any(), eq(PageRequest.of(0, CHUNK_SIZE))))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(commentRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+        when(commentRepository.deleteByIds(List.of(3L))).thenReturn(1);
+        when(postRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(commentRepository, times(2)).findIdsDeletedBefore(any(), any());
+        assertEquals(3.0, reclaimed("comments"));
+        verifyNoInteractions(likesRepository, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("보존 기간 이전에 삭제된 행만 대상으로 조회")
+    void purge_usesRetentionCutoff() {
+        // Given
+        when(commentRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(postRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        LocalDateTime expectedCutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(commentRepository).findIdsDeletedBefore(argThat(cutoff ->
+                !cutoff.isBefore(expectedCutoff) && cutoff.isBefore(expectedCutoff.plusMinutes(1))), any());
+    }
+
+    @Test
+    @DisplayName("게시글은 좋아요와 댓글을 LIMIT 단위로 모두 지운 뒤 삭제")
+    void purge_posts_drainsChildrenInBoundedStatementsFirst() {
+        // Given: 좋아요는 청크 크기만큼 두 번, 댓글은 한 번에 정리됨
+        List<Long> postIds = List.of(10L);
+        when(commentRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(postRepository.findIdsDeletedBefore(any(), any())).thenReturn(postIds);
+        when(likesRepository.deleteByPostIds(postIds, CHUNK_SIZE)).thenReturn(CHUNK_SIZE, 1);
+        when(commentRepository.deleteByPostIds(postIds, CHUNK_SIZE)).thenReturn(1);
+        when(postRepository.deleteByIds(postIds)).thenReturn(1);
+
+        // When
+        purger.purge();
+
+        // Then
+        InOrder inOrder = inOrder(likesRepository, commentRepository, transactionTemplate, postRepository);
+        inOrder.verify(likesRepository, times(2)).deleteByPostIds(postIds, CHUNK_SIZE);
+        inOrder.verify(commentRepository).deleteByPostIds(postIds, CHUNK_SIZE);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(postRepository).deleteByIds(postIds);
+        assertEquals(3.0, reclaimed("likes"));
+        assertEquals(1.0, reclaimed("comments"));
+        assertEquals(1.0, reclaimed("posts"));
+        // 논리 삭제된 게시글의 이미지는 삭제 시점에 이미 예약됨
+        verifyNoInteractions(s3DeletionQueue);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 좋아요, 댓글, 게시글을 나누어 지운 뒤 사용자 행을 삭제")
+    void purgeDeletedUsers_deletesContentThenUser() {
+        // Given
+        Long userId = 7L;
+        List<Long> postIds = List.of(20L);
+        when(userRepository.findDeletedIds(PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(userId));
+        when(likesRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(100L));
+        when(likesRepository.findPostIdsByIdIn(List.of(100L))).thenReturn(List.of(30L));
+        when(likesRepository.deleteByIds(List.of(100L))).thenReturn(1);
+        when(commentRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of());
+        when(postRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(postIds);
+        when(postRepository.findLiveImagesByIdIn(postIds)).thenReturn(List.of("https://bucket/post.png"));
+        when(postRepository.deleteByIds(postIds)).thenReturn(1);
+        when(userRepository.purgeById(userId)).thenReturn(1);
+
+        // When
+        purger.purgeDeletedUsers();
+
+        // Then
+        InOrder inOrder = inOrder(likesRepository, commentRepository, postRepository, userRepository);
+        inOrder.verify(likesRepository).deleteByIds(List.of(100L));
+        inOrder.verify(postRepository).reconcileLikeCountsOf(List.of(30L));
+        inOrder.verify(commentRepository).findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE));
+        inOrder.verify(likesRepository).deleteByPostIds(postIds, CHUNK_SIZE);
+        inOrder.verify(commentRepository).deleteByPostIds(postIds, CHUNK_SIZE);
+        inOrder.verify(postRepository).deleteByIds(postIds);
+        inOrder.verify(userRepository).purgeById(userId);
+        // 살아있던 게시글의 이미지는 게시글 삭제와 함께 예약하고 상세 캐시를 비움
+        verify(s3DeletionQueue).enqueue("https://bucket/post.png");
+        verify(eventPublisher).publishEvent(new PostChangedEvent(20L));
+        // 다른 사용자의 게시글에 남긴 좋아요가 지워졌으므로 그 게시글도 갱신
+        verify(eventPublisher).publishEvent(new PostChangedEvent(30L));
+        verify(commentRepository, never()).deleteByIds(anyCollection());
+        assertEquals(1.0, reclaimed("likes"));
+        assertEquals(1.0, reclaimed("users"));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 댓글은 청크마다 삭제와 해당 게시글의 댓글 수 보정을 한 트랜잭션으로 처리")
+    void purgeDeletedUsers_commentsOnOtherPosts_reconcilesCounts() {
+        // Given: 댓글 3개 -> 2 + 1 청크
+        Long userId = 7L;
+        when(userRepository.findDeletedIds(PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(userId));
+        when(likesRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of());
+        when(commentRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(commentRepository.findPostIdsByIdIn(List.of(1L, 2L))).thenReturn(List.of(40L));
+        when(commentRepository.findPostIdsByIdIn(List.of(3L))).thenReturn(List.of(41L));
+        when(commentRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+        when(commentRepository.deleteByIds(List.of(3L))).thenReturn(1);
+        when(postRepository.findIdsByUserId(userId, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of());
+        when(userRepository.purgeById(userId)).thenReturn(1);
+
+        // When
+        purger.purgeDeletedUsers();
+
+        // Then
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(postRepository).reconcileCommentCountsOf(List.of(40L));
+        verify(postRepository).reconcileCommentCountsOf(List.of(41L));
+        verify(postRepository, never()).reconcileLikeCountsOf(anyCollection());
+        verify(eventPublisher).publishEvent(new PostChangedEvent(40L));
+        verify(eventPublisher).publishEvent(new PostChangedEvent(41L));
+        assertEquals(3.0, reclaimed("comments"));
+    }
+
+    @Test
+    @DisplayName("인터럽트되면 남은 청크는 다음 주기로 미룸")
+    void purge_interrupted_stopsAfterCurrentChunk() {
+        // Given
+        purger = newPurger(1_000L);
+        when(commentRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of(1L, 2L));
+        when(postRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        Thread.currentThread().interrupt();
+
+        // When
+        try {
+            purger.purge();
+        } finally {
+            // Then
+            assertTrue(Thread.interrupted());
+        }
+        verify(commentRepository, times(1)).deleteByIds(anyCollection());
+    }
+
+    private SoftDeletePurger newPurger(long pauseMillis) {
+        return new SoftDeletePurger(commentRepository, postRepository, likesRepository, userRepository,
+                s3DeletionQueue, transactionTemplate, eventPublisher, meterRegistry,
+                RETENTION_DAYS, CHUNK_SIZE, pauseMillis);
+    }
+
+    private double reclaimed(String table) {
+        return meterRegistry.get("purge.rows.reclaimed").tag("table", table).counter().count();
+    }
+}
@@ -1,8 +1,11 @@
 package com.amumal.community.domain.post.service.comment.impl;
 
 import com.amumal.community.domain.post.dto.request.CommentRequest;
+import com.amumal.community.domain.post.dto.response.CommentPageResponse;
+import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.entity.Comment;
 import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
 import com.amumal.community.domain.post.repository.comment.CommentRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
 import com.amumal.community.domain.user.entity.User;
@@ -15,11 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +34,7 @@ class CommentServiceImplTest {
 
     // 테스트 상수
     private static final Long POST_ID = 1L;
+    private static final Long OTHER_POST_ID = 3L;
     private static final Long COMMENT_ID = 2L;
     private static final Long RESULT_COMMENT_ID = 100L;
     private static final String COMMENT_CONTENT = "댓글 내용";
@@ -37,6 +45,9 @@ class CommentServiceImplTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -67,6 +78,8 @@ class CommentServiceImplTest {
             assertEquals(RESULT_COMMENT_ID, resultId);
             verify(postRepository).findById(POST_ID);
             verify(commentRepository).save(any(Comment.class));
+            verify(postRepository).incrementCommentCount(POST_ID);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
         }
 
         @Test
@@ -84,6 +97,7 @@ class CommentServiceImplTest {
             assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
             verify(postRepository).findById(POST_ID);
             verify(commentRepository, never()).save(any(Comment.class));
+            verify(postRepository, never()).incrementCommentCount(anyLong());
         }
     }
 
@@ -97,6 +111,8 @@ class CommentServiceImplTest {
             // Given
             User testUser = mock(User.class);
             Comment testComment = mock(Comment.class);
+            Post commentPost = post(POST_ID);
+            when(testComment.getPost()).thenReturn(commentPost);
             CommentRequest commentRequest = mock(CommentRequest.class);
 
             when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(testComment));
@@ -107,6 +123,7 @@ class CommentServiceImplTest {
             // Then
             verify(commentRepository).findById(COMMENT_ID);
             verify(testComment).updateComment(commentRequest, testUser);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
         }
 
         @Test
@@ -125,6 +142,27 @@ class CommentServiceImplTest {
             assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
             verify(commentRepository).findById(COMMENT_ID);
         }
+
+        @Test
+        @DisplayName("다른 게시글의 댓글이면 수정 실패")
+        void updateComment_otherPostComment_throwsException() {
+            // Given
+            User testUser = mock(User.class);
+            Comment testComment = mock(Comment.class);
+            Post commentPost = post(OTHER_POST_ID);
+            when(testComment.getPost()).thenReturn(commentPost);
+            CommentRequest commentRequest = mock(CommentRequest.class);
+
+            when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(testComment));
+
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> commentService.updateComment(POST_ID, COMMENT_ID, commentRequest, testUser));
+
+            assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
+            verify(testComment, never()).updateComment(any(), any());
+            verifyNoInteractions(eventPublisher);
+        }
     }
 
     @Nested
@@ -137,6 +175,8 @@ class CommentServiceImplTest {
             // Given
             User testUser = mock(User.class);
             Comment testComment = mock(Comment.class);
+            Post commentPost = post(POST_ID);
+            when(testComment.getPost()).thenReturn(commentPost);
 
             when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(testComment));
 
@@ -146,6 +186,28 @@ class CommentServiceImplTest {
             // Then
             verify(commentRepository).findById(COMMENT_ID);
             verify(testComment).safeDelete(testUser);
+            verify(postRepository).decrementCommentCount(POST_ID);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+        }
+
+        @Test
+        @DisplayName("이미 삭제된 댓글이면 카운터를 다시 차감하지 않음")
+        void deleteComment_alreadyDeleted_doesNotDecrementCount() {
+            // Given
+            User testUser = mock(User.class);
+            Comment testComment = mock(Comment.class);
+            Post commentPost = post(POST_ID);
+            when(testComment.getPost()).thenReturn(commentPost);
+            when(testComment.getDeletedAt()).thenReturn(LocalDateTime.now());
+
+            when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(testComment));
+
+            // When
+            commentService.deleteComment(POST_ID, COMMENT_ID, testUser);
+
+            // Then
+            verify(testComment).safeDelete(testUser);
+            verify(postRepository, never()).decrementCommentCount(anyLong());
         }
 
         @Test
@@ -163,5 +225,87 @@ class CommentServiceImplTest {
             assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
             verify(commentRepository).findById(COMMENT_ID);
         }
+
+        @Test
+        @DisplayName("다른 게시글의 댓글이면 삭제하지 않고 어느 게시글의 카운터도 차감하지 않음")
+        void deleteComment_otherPostComment_throwsException() {
+            // Given: 경로는 POST_ID지만 댓글은 OTHER_POST_ID에 속함
+            User testUser = mock(User.class);
+            Comment testComment = mock(Comment.class);
+            Post commentPost = post(OTHER_POST_ID);
+            when(testComment.getPost()).thenReturn(commentPost);
+
+            when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(testComment));
+
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> commentService.deleteComment(POST_ID, COMMENT_ID, testUser));
+
+            assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
+            verify(testComment, never()).safeDelete(any());
+            verify(postRepository, never()).decrementCommentCount(anyLong());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 목록 조회 테스트")
+    class GetCommentsTest {
+
+        @Test
+        @DisplayName("페이지 크기보다 많이 조회되면 초과분을 잘라내고 마지막 댓글 ID를 다음 커서로 반환")
+        void getComments_hasNext_returnsNextCursor() {
+            // Given: pageSize + 1개 조회
+            when(postRepository.getComments(POST_ID, 10L, 3))
+                    .thenReturn(List.of(comment(11L), comment(12L), comment(13L)));
+
+            // When
+            CommentPageResponse page = commentService.getComments(POST_ID, 10L, 2);
+
+            // Then
+            assertEquals(List.of(11L, 12L), page.comments().stream()
+                    .map(PostDetailResponse.CommentResponse::commentId)
+                    .toList());
+            assertEquals(12L, page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 다음 커서는 null")
+        void getComments_lastPage_returnsNullCursor() {
+            // Given
+            when(postRepository.getComments(POST_ID, null, 3)).thenReturn(List.of(comment(1L)));
+
+            // When
+            CommentPageResponse page = commentService.getComments(POST_ID, null, 2);
+
+            // Then
+            assertEquals(1, page.comments().size());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("허용 범위를 벗어난 페이지 크기는 조회 없이 실패")
+        void getComments_invalidPageSize_throwsException() {
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> commentService.getComments(POST_ID, null, 0));
+
+            assertEquals(CustomResponseStatus.BAD_REQUEST, exception.getStatus());
+            verifyNoInteractions(postRepository);
+        }
+
+        private PostDetailResponse.CommentResponse comment(Long commentId) {
+            return PostDetailResponse.CommentResponse.builder()
+                    .commentId(commentId)
+                    .content(COMMENT_CONTENT)
+                    .build();
+        }
+    }
+
+    // 댓글이 속한 게시글 (stubbing 도중 다른 stubbing을 하지 않도록 미리 만들어 둠)
+    private Post post(Long postId) {
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(postId);
+        return post;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.amumal.community.domain.post.service.likes;
+
+import com.amumal.community.domain.post.event.LikeToggledEvent;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeStatusIndexTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long OTHER_POST_ID = 2L;
+    private static final Long USER_ID = 10L;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    private LikeStatusIndex likeStatusIndex;
+
+    @BeforeEach
+    void setUp() {
+        likeStatusIndex = new LikeStatusIndex(likesRepository, new SimpleMeterRegistry(), 1_000_000L, 10L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 게시글만 한 번의 쿼리로 적재하고, 이후 조회는 DB에 접근하지 않음")
+    void getStatuses_loadsMissingPostsOnce() {
+        // Given
+        when(likesRepository.findLikersOfLivePostsIn(Set.of(POST_ID, OTHER_POST_ID)))
+                .thenReturn(List.of(liker(POST_ID, USER_ID), liker(OTHER_POST_ID, null)));
+
+        // When
+        Map<Long, Boolean> first = likeStatusIndex.getStatuses(List.of(POST_ID, OTHER_POST_ID), USER_ID);
+        Map<Long, Boolean> second = likeStatusIndex.getStatuses(List.of(OTHER_POST_ID, POST_ID), USER_ID);
+
+        // Then
+        assertEquals(Map.of(POST_ID, true, OTHER_POST_ID, false), first);
+        assertEquals(List.of(OTHER_POST_ID, POST_ID), List.copyOf(second.keySet()));
+        verify(likesRepository, times(1)).findLikersOfLivePostsIn(any());
+    }
+
+    @Test
+    @DisplayName("커밋된 좋아요 토글은 다시 적재하지 않고 캐시된 비트맵에 반영")
+    void onLikeToggled_updatesCachedBitmap() {
+        // Given
+        when(likesRepository.findLikersOfLivePostsIn(Set.of(POST_ID))).thenReturn(List.of(liker(POST_ID, null)));
+        assertFalse(likeStatusIndex.isLiked(POST_ID, USER_ID));
+
+        // When
+        likeStatusIndex.onLikeToggled(new LikeToggledEvent(POST_ID, USER_ID, true));
+        boolean afterLike = likeStatusIndex.isLiked(POST_ID, USER_ID);
+        likeStatusIndex.onLikeToggled(new LikeToggledEvent(POST_ID, USER_ID, false));
+        boolean afterUnlike = likeStatusIndex.isLiked(POST_ID, USER_ID);
+
+        // Then
+        assertTrue(afterLike);
+        assertFalse(afterUnlike);
+        verify(likesRepository, times(1)).findLikersOfLivePostsIn(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 게시글의 토글은 무시하고 다음 조회에서 적재")
+    void onLikeToggled_notCached_ignored() {
+        // When
+        likeStatusIndex.onLikeToggled(new LikeToggledEvent(POST_ID, USER_ID, true));
+
+        // Then
+        verifyNoInteractions(likesRepository);
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 토글이 커밋되면 적재 결과를 캐시에 남기지 않음")
+    void getStatuses_toggledDuringLoad_notCached() {
+        // Given: 쿼리가 실행되는 도중 다른 요청의 좋아요가 커밋됨
+        when(likesRepository.findLikersOfLivePostsIn(Set.of(POST_ID)))
+                .thenAnswer(invocation -> {
+                    likeStatusIndex.onLikeToggled(new LikeToggledEvent(POST_ID, USER_ID, true));
+                    return List.of(liker(POST_ID, null));
+                })
+                .thenReturn(List.of(liker(POST_ID, USER_ID)));
+
+        // When
+        boolean duringLoad = likeStatusIndex.isLiked(POST_ID, USER_ID);
+        boolean reloaded = likeStatusIndex.isLiked(POST_ID, USER_ID);
+
+        // Then: 두 번째 조회는 다시 적재해서 커밋된 좋아요를 반영
+        assertFalse(duringLoad);
+        assertTrue(reloaded);
+        verify(likesRepository, times(2)).findLikersOfLivePostsIn(any());
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 게시글은 false로 응답하고 캐시하지 않음")
+    void getStatuses_unknownPost_notCached() {
+        // Given: 결과에 행이 없는 ID는 존재하지 않는 게시글
+        when(likesRepository.findLikersOfLivePostsIn(Set.of(POST_ID))).thenReturn(List.of());
+
+        // When
+        boolean first = likeStatusIndex.isLiked(POST_ID, USER_ID);
+        boolean second = likeStatusIndex.isLiked(POST_ID, USER_ID);
+
+        // Then
+        assertFalse(first);
+        assertFalse(second);
+        verify(likesRepository, times(2)).findLikersOfLivePostsIn(any());
+    }
+
+    @Test
+    @DisplayName("토글을 반영해도 적재 시점 기준으로 만료되어 다시 적재")
+    void getStatuses_expiresAfterLoadDespiteToggles() throws InterruptedException {
+        // Given: 적재 후 바로 만료되도록 설정
+        likeStatusIndex = new LikeStatusIndex(likesRepository, new SimpleMeterRegistry(), 1_000_000L, 0L);
+        when(likesRepository.findLikersOfLivePostsIn(Set.of(POST_ID))).thenReturn(List.of(liker(POST_ID, null)));
+        likeStatusIndex.isLiked(POST_ID, USER_ID);
+
+        // When
+        likeStatusIndex.onLikeToggled(new LikeToggledEvent(POST_ID, USER_ID, true));
+        Thread.sleep(5);
+        likeStatusIndex.isLiked(POST_ID, USER_ID);
+
+        // Then
+        verify(likesRepository, times(2)).findLikersOfLivePostsIn(any());
+    }
+
+    private LikesRepository.Liker liker(Long postId, Long userId) {
+        return new LikesRepository.Liker() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
@@ -1,8 +1,10 @@
 package com.amumal.community.domain.post.service.likes.impl;
 
 import com.amumal.community.domain.post.dto.request.LikeRequest;
-import com.amumal.community.domain.post.entity.Likes;
-import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.dto.response.LikeResponse;
+import com.amumal.community.domain.post.event.LikeToggledEvent;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.metrics.PostMetrics;
 import com.amumal.community.domain.post.repository.likes.LikesRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
 import com.amumal.community.domain.user.entity.User;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -36,24 +39,27 @@ class LikesServiceImplTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostMetrics postMetrics;
+
     @InjectMocks
     private LikesServiceImpl likesService;
 
     // 공통 변수
     private User testUser;
     private LikeRequest likeRequest;
-    private Post testPost;
-    private Likes testLike;
 
     @BeforeEach
     void setUp() {
         // 기본 모의 객체 설정
         testUser = mock(User.class);
-        when(testUser.getId()).thenReturn(USER_ID);
+        // 좋아요 제거는 userId 인자를 쓰므로 사용자 ID 조회가 없을 수 있음
+        lenient().when(testUser.getId()).thenReturn(USER_ID);
 
         likeRequest = mock(LikeRequest.class);
-        testPost = mock(Post.class);
-        testLike = mock(Likes.class);
     }
 
     @Nested
@@ -61,38 +67,79 @@ class LikesServiceImplTest {
     class AddLikeTest {
 
         @Test
-        @DisplayName("좋아요가 이미 있으면 제거")
+        @DisplayName("좋아요가 이미 있으면 삭제 한 번으로 취소하고 줄어든 좋아요 수 반환")
         void addLike_likeExists_removesLike() {
             // Given
-            when(likesRepository.existsByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(true);
-            when(likesRepository.findByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(Optional.of(testLike));
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(1);
+            when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(4));
+
+            // When
+            LikeResponse response = likesService.addLike(POST_ID, likeRequest, testUser);
+
+            // Then
+            assertFalse(response.liked());
+            assertEquals(4, response.likeCount());
+            verify(postRepository).decrementLikeCount(POST_ID);
+            verify(likesRepository, never()).insertIgnore(anyLong(), anyLong());
+            verify(postRepository, never()).findById(anyLong());
+            verify(postRepository, never()).incrementLikeCount(anyLong());
+            verify(postMetrics).likeToggled(false);
+        }
+
+        @Test
+        @DisplayName("좋아요가 없으면 게시글을 읽지 않고 삽입한 뒤 늘어난 좋아요 수 반환")
+        void addLike_likeNotExists_insertsLike() {
+            // Given
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(0);
+            when(likesRepository.insertIgnore(POST_ID, USER_ID)).thenReturn(1);
+            when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(5));
 
             // When
-            likesService.addLike(POST_ID, likeRequest, testUser);
+            LikeResponse response = likesService.addLike(POST_ID, likeRequest, testUser);
 
             // Then
-            verify(likesRepository).existsByPostIdAndUserId(POST_ID, USER_ID);
-            verify(likesRepository).findByPostIdAndUserId(POST_ID, USER_ID);
-            verify(likesRepository).delete(testLike);
+            assertTrue(response.liked());
+            assertEquals(5, response.likeCount());
             verify(postRepository, never()).findById(anyLong());
+            verify(likesRepository, never()).save(any());
+            verify(postRepository).incrementLikeCount(POST_ID);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+            verify(eventPublisher).publishEvent(new LikeToggledEvent(POST_ID, USER_ID, true));
+            verify(postMetrics).likeToggled(true);
         }
 
         @Test
-        @DisplayName("좋아요가 없으면 새로 추가")
-        void addLike_likeNotExists_savesNewLike() {
+        @DisplayName("동시 요청이 먼저 좋아요를 저장했으면 카운터를 다시 올리지 않고 좋아요 상태 반환")
+        void addLike_concurrentInsert_returnsLikedWithoutIncrement() {
             // Given
-            when(likesRepository.existsByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(false);
-            when(postRepository.findById(POST_ID)).thenReturn(Optional.of(testPost));
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(0);
+            when(likesRepository.insertIgnore(POST_ID, USER_ID)).thenReturn(0);
+            when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(5));
 
             // When
-            likesService.addLike(POST_ID, likeRequest, testUser);
+            LikeResponse response = likesService.addLike(POST_ID, likeRequest, testUser);
 
             // Then
-            verify(likesRepository).existsByPostIdAndUserId(POST_ID, USER_ID);
-            verify(postRepository).findById(POST_ID);
-            verify(likesRepository).save(argThat(like ->
-                    like.getPost() == testPost && like.getUser() == testUser
-            ));
+            assertTrue(response.liked());
+            assertEquals(5, response.likeCount());
+            verify(postRepository, never()).incrementLikeCount(anyLong());
+            verifyNoInteractions(eventPublisher, postMetrics);
+        }
+
+        @Test
+        @DisplayName("게시글이 없으면 예외 발생")
+        void addLike_postNotExists_throwsException() {
+            // Given
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(0);
+            when(likesRepository.insertIgnore(POST_ID, USER_ID)).thenReturn(0);
+            when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.empty());
+
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> likesService.addLike(POST_ID, likeRequest, testUser));
+
+            assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
+            verifyNoInteractions(postMetrics);
         }
     }
 
@@ -104,28 +151,31 @@ class LikesServiceImplTest {
         @DisplayName("좋아요가 없으면 예외 발생")
         void removeLike_likeNotExists_throwsException() {
             // Given
-            when(likesRepository.findByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(Optional.empty());
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(0);
 
             // When & Then
             CustomException exception = assertThrows(CustomException.class,
                     () -> likesService.removeLike(POST_ID, USER_ID, testUser));
 
             assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
-            verify(likesRepository).findByPostIdAndUserId(POST_ID, USER_ID);
+            verify(postRepository, never()).decrementLikeCount(anyLong());
+            verifyNoInteractions(postMetrics);
         }
 
         @Test
         @DisplayName("좋아요가 있으면 제거 성공")
         void removeLike_likeExists_success() {
             // Given
-            when(likesRepository.findByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(Optional.of(testLike));
+            when(likesRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(1);
 
             // When
             likesService.removeLike(POST_ID, USER_ID, testUser);
 
             // Then
-            verify(likesRepository).findByPostIdAndUserId(POST_ID, USER_ID);
-            verify(likesRepository).delete(testLike);
+            verify(likesRepository).deleteByPostIdAndUserId(POST_ID, USER_ID);
+            verify(postRepository).decrementLikeCount(POST_ID);
+            verify(eventPublisher).publishEvent(new LikeToggledEvent(POST_ID, USER_ID, false));
+            verify(postMetrics).likeToggled(false);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
+import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedSnapshotTest {
+
+    private static final int SNAPSHOT_SIZE = 5;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private FeedSnapshot feedSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedSnapshot, "snapshotSize", SNAPSHOT_SIZE);
+        ReflectionTestUtils.setField(feedSnapshot, "maxAgeMillis", 60_000L);
+    }
+
+    // 최신순(postId 내림차순과 같은 작성 순서) 게시글 목록 (from ~ to)
+    private List<PostSimpleInfo> posts(long from, long to) {
+        return LongStream.iterate(from, id -> id >= to, id -> id - 1)
+                .mapToObj(id -> new PostSimpleInfo(id, "Title" + id, createdAt(id), 0, 0, 0, "User", "Profile"))
+                .toList();
+    }
+
+    private LocalDateTime createdAt(long postId) {
+        return BASE_TIME.plusMinutes(postId);
+    }
+
+    // 해당 게시글까지 본 다음 페이지 커서
+    private FeedCursor cursorAt(long postId) {
+        return new FeedCursor(PostSortType.NEWEST, PostSortType.toEpochMicros(createdAt(postId)), postId);
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성 전에는 DB 조회로 위임")
+    void findPage_beforeRefresh_returnsEmpty() {
+        assertTrue(feedSnapshot.findPage(null, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("첫 페이지와 스냅샷 범위 안의 커서 페이지를 잘라서 반환")
+    void findPage_withinWindow_slicesSnapshot() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When
+        Optional<List<PostSimpleInfo>> firstPage = feedSnapshot.findPage(null, 2);
+        Optional<List<PostSimpleInfo>> secondPage = feedSnapshot.findPage(cursorAt(9L), 2);
+
+        // Then
+        assertEquals(List.of(10L, 9L), firstPage.orElseThrow().stream().map(PostSimpleInfo::postId).toList());
+        assertEquals(List.of(8L, 7L), secondPage.orElseThrow().stream().map(PostSimpleInfo::postId).toList());
+    }
+
+    @Test
+    @DisplayName("스냅샷 범위를 벗어나는 페이지는 DB 조회로 위임")
+    void findPage_beyondWindow_returnsEmpty() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When & Then
+        assertTrue(feedSnapshot.findPage(cursorAt(7L), 2).isEmpty());
+        assertTrue(feedSnapshot.findPage(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("전체 게시글이 스냅샷에 들어있으면 마지막 페이지도 스냅샷에서 반환")
+    void findPage_completeSnapshot_servesTail() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(3, 1));
+        feedSnapshot.refresh();
+
+        // When
+        Optional<List<PostSimpleInfo>> lastPage = feedSnapshot.findPage(cursorAt(2L), 10);
+
+        // Then
+        assertEquals(List.of(1L), lastPage.orElseThrow().stream().map(PostSimpleInfo::postId).toList());
+    }
+
+    @Test
+    @DisplayName("작성 시각이 같으면 게시글 ID 역순으로 커서 위치를 정함")
+    void findPage_sameCreatedAt_ordersById() {
+        // Given
+        LocalDateTime sameTime = BASE_TIME.plusHours(1);
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(List.of(
+                new PostSimpleInfo(3L, "Title3", sameTime, 0, 0, 0, "User", "Profile"),
+                new PostSimpleInfo(2L, "Title2", sameTime, 0, 0, 0, "User", "Profile"),
+                new PostSimpleInfo(1L, "Title1", sameTime, 0, 0, 0, "User", "Profile")));
+        feedSnapshot.refresh();
+
+        // When
+        Optional<List<PostSimpleInfo>> page = feedSnapshot.findPage(
+                new FeedCursor(PostSortType.NEWEST, PostSortType.toEpochMicros(sameTime), 3L), 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), page.orElseThrow().stream().map(PostSimpleInfo::postId).toList());
+    }
+
+    @Test
+    @DisplayName("게시글 ID만 있는 이전 커서는 DB 조회로 위임")
+    void findPage_legacyCursor_returnsEmpty() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When & Then
+        assertTrue(feedSnapshot.findPage(FeedCursor.ofPostId(9L), 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷 범위 안의 게시글 변경 시 무효화 후 다음 주기에 갱신")
+    void onPostChanged_withinWindow_invalidatesUntilRefresh() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When
+        feedSnapshot.onPostChanged(new PostChangedEvent(8L));
+
+        // Then
+        assertTrue(feedSnapshot.findPage(null, 2).isEmpty());
+        feedSnapshot.refreshIfStale();
+        assertTrue(feedSnapshot.findPage(null, 2).isPresent());
+        verify(postRepository, times(2)).getPostSimpleInfo(null, SNAPSHOT_SIZE);
+    }
+
+    @Test
+    @DisplayName("새 게시글은 ID가 스냅샷 범위보다 작아도 무효화")
+    void onPostChanged_createdWithLowerId_invalidates() {
+        // Given: 다른 인스턴스가 예전에 받아 둔 ID 구간에서 할당된 게시글
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When
+        feedSnapshot.onPostChanged(PostChangedEvent.created(2L));
+
+        // Then
+        assertTrue(feedSnapshot.findPage(null, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 기존 게시글의 변경은 무시")
+    void onPostChanged_olderThanWindow_keepsSnapshot() {
+        // Given
+        when(postRepository.getPostSimpleInfo(null, SNAPSHOT_SIZE)).thenReturn(posts(10, 6));
+        feedSnapshot.refresh();
+
+        // When
+        feedSnapshot.onPostChanged(new PostChangedEvent(2L));
+
+        // Then
+        assertTrue(feedSnapshot.findPage(null, 2).isPresent());
+        feedSnapshot.refreshIfStale();
+        verify(postRepository, times(1)).getPostSimpleInfo(null, SNAPSHOT_SIZE);
+    }
+}
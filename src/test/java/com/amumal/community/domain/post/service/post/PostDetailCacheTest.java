@@ -0,0 +1,102 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostDetailCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    private PostDetailCache postDetailCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = new PostDetailCache(new ConcurrentMapCacheManager(PostDetailCache.CACHE_NAME));
+        loadCount = new AtomicInteger();
+    }
+
+    private PostDetailResponse load() {
+        loadCount.incrementAndGet();
+        return PostDetailResponse.builder().postId(POST_ID).build();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 로더를 호출하지 않음")
+    void get_cachedAfterFirstLoad() {
+        // When
+        postDetailCache.get(POST_ID, this::load);
+        PostDetailResponse second = postDetailCache.get(POST_ID, this::load);
+
+        // Then
+        assertEquals(POST_ID, second.postId());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글(null)은 캐시하지 않음")
+    void get_nullNotCached() {
+        // When
+        postDetailCache.get(POST_ID, () -> null);
+        PostDetailResponse result = postDetailCache.get(POST_ID, this::load);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 수신 시 캐시 무효화")
+    void onPostChanged_evictsEntry() {
+        // Given
+        postDetailCache.get(POST_ID, this::load);
+
+        // When
+        postDetailCache.onPostChanged(new PostChangedEvent(POST_ID));
+        postDetailCache.get(POST_ID, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재한(오래된) 결과를 캐시에 남기지 않음")
+    void get_evictedDuringLoad_skipsFill() {
+        // Given: DB를 읽은 뒤 다른 트랜잭션의 변경이 커밋되어 무효화됨
+        PostDetailResponse stale = postDetailCache.get(POST_ID, () -> {
+            PostDetailResponse read = load();
+            postDetailCache.onPostChanged(new PostChangedEvent(POST_ID));
+            return read;
+        });
+
+        // When
+        PostDetailResponse next = postDetailCache.get(POST_ID, this::load);
+
+        // Then: 오래된 결과는 그 요청에만 쓰이고 다음 조회는 다시 적재
+        assertNotNull(stale);
+        assertNotNull(next);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("무효화가 끝난 뒤 적재한 결과는 정상적으로 캐시")
+    void get_afterEarlierEviction_cachesFill() {
+        // Given
+        postDetailCache.evict(POST_ID);
+
+        // When
+        postDetailCache.get(POST_ID, this::load);
+        postDetailCache.get(POST_ID, this::load);
+
+        // Then
+        assertEquals(1, loadCount.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.KtbCommunityApplication;
+import com.amumal.community.domain.post.dto.request.PostRequest;
+import com.amumal.community.domain.post.entity.ImageStatus;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.s3.entity.ImageObject;
+import com.amumal.community.global.s3.repository.ImageObjectRepository;
+import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.util.ContentHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 실제 트랜잭션 커밋 후 콜백에서 시작되는 업로드가 중복 이미지 경로에서도 DB 반영까지 커밋되는지 확인
+// (S3 호출 없이 끝나는 경로이므로 외부 의존 없이 실행 가능)
+@SpringBootTest(classes = KtbCommunityApplication.class)
+class PostImageUploaderIntegrationTest {
+
+    private static final byte[] IMAGE_BYTES = "duplicate-image-bytes".getBytes();
+
+    @Autowired
+    private PostCommandService postCommandService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    private S3Service s3Service;
+
+    private Long postId;
+    private User user;
+    private ImageObject imageObject;
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            postRepository.deleteById(postId);
+        }
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+        if (imageObject != null) {
+            imageObjectRepository.deleteById(imageObject.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용의 이미지로 게시글을 만들면 커밋 후 참조를 얻고 READY로 반영")
+    void createPost_duplicateImage_becomesReady() throws IOException {
+        // Given: 같은 내용이 이미 검증되어 인덱스에 있음 (참조 0)
+        String contentHash = ContentHash.sha256Hex(new ByteArrayInputStream(IMAGE_BYTES));
+        String objectKey = s3Service.createContentKey(contentHash);
+        imageObject = imageObjectRepository.save(ImageObject.verified(contentHash, objectKey));
+        user = userRepository.save(User.builder()
+                .email("uploader-it@test.com")
+                .nickname("uploadit")
+                .password("password")
+                .build());
+        MockMultipartFile image = new MockMultipartFile("image", "image.png", "image/png", IMAGE_BYTES);
+
+        // When: 서비스 트랜잭션이 커밋되면 업로드가 시작됨
+        postId = postCommandService.createPost(new PostRequest("title", "content", null), image, user);
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            Post post = postRepository.findById(postId).orElseThrow();
+            assertThat(post.getImageStatus()).isEqualTo(ImageStatus.READY);
+            assertThat(post.getImage()).isEqualTo(s3Service.getPublicUrl(objectKey));
+            assertThat(post.getPendingImage()).isNull();
+        });
+        assertThat(imageObjectRepository.findById(imageObject.getId()).orElseThrow().getRefCount()).isEqualTo(1);
+    }
+}
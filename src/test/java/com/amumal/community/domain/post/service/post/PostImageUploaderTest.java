@@ -0,0 +1,289 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.entity.ImageStatus;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.event.PostImageUploadRequestedEvent;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.post.service.post.PostImageUploader.StagedImage;
+import com.amumal.community.global.s3.service.ImageObjectIndex;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
+import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.util.ContentHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImageUploaderTest {
+
+    private static final Long POST_ID = 1L;
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String OBJECT_KEY = "images/" + CONTENT_HASH;
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/uuid_image.png";
+    private static final String OLD_IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/old.png";
+    private static final String CONTENT_TYPE = "image/png";
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path tempDir;
+
+    private PostImageUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 업로드 1개, 최대 2회 시도, 재시도 대기 없음, 호출 스레드에서 바로 실행
+        uploader = new PostImageUploader(s3Service, s3DeletionQueue, imageObjectIndex, postRepository, eventPublisher,
+                1, 2, 0, Runnable::run);
+    }
+
+    private PostImageUploadRequestedEvent uploadEvent(Long postId, String imageUrl, String previousImageUrl)
+            throws IOException {
+        Path stagedFile = Files.createTempFile(tempDir, "staged-", ".upload");
+        return new PostImageUploadRequestedEvent(postId, stagedFile, CONTENT_HASH, OBJECT_KEY, imageUrl, CONTENT_TYPE,
+                previousImageUrl);
+    }
+
+    @Test
+    @DisplayName("stage는 이미지를 임시 파일로 옮기면서 내용 해시로 업로드 대상 키/URL을 정함 (S3 호출 없음)")
+    void stage_spoolsToTempFile() throws IOException {
+        // Given
+        MockMultipartFile image = new MockMultipartFile("image", "image.png", CONTENT_TYPE, "png-bytes".getBytes());
+        String contentHash = ContentHash.sha256Hex(image.getInputStream());
+        when(s3Service.createContentKey(contentHash)).thenReturn(OBJECT_KEY);
+        when(s3Service.getPublicUrl(OBJECT_KEY)).thenReturn(IMAGE_URL);
+
+        // When
+        StagedImage staged = uploader.stage(image);
+
+        // Then
+        try {
+            assertArrayEquals("png-bytes".getBytes(), Files.readAllBytes(staged.file()));
+            assertEquals(contentHash, staged.contentHash());
+            assertEquals(OBJECT_KEY, staged.objectKey());
+            assertEquals(IMAGE_URL, staged.imageUrl());
+            assertEquals(CONTENT_TYPE, staged.contentType());
+            verify(s3Service, never()).uploadFileAsync(any(), any(), any());
+        } finally {
+            Files.deleteIfExists(staged.file());
+        }
+    }
+
+    @Nested
+    @DisplayName("업로드 완료 처리")
+    class CompletionTest {
+
+        @Test
+        @DisplayName("업로드 성공 시 게시글을 갱신하고 기존 이미지를 삭제")
+        void upload_success_patchesRowAndDeletesPrevious() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, OLD_IMAGE_URL);
+            when(s3Service.uploadFileAsync(event.stagedFile(), OBJECT_KEY, CONTENT_TYPE))
+                    .thenReturn(CompletableFuture.completedFuture(IMAGE_URL));
+            when(postRepository.completeImageUpload(POST_ID, IMAGE_URL)).thenReturn(1);
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then
+            verify(imageObjectIndex).acquire(CONTENT_HASH, OBJECT_KEY);
+            verify(postRepository).completeImageUpload(POST_ID, IMAGE_URL);
+            verify(s3DeletionQueue).enqueue(OLD_IMAGE_URL);
+            verify(s3DeletionQueue, never()).enqueue(IMAGE_URL);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+            assertFalse(Files.exists(event.stagedFile()));
+        }
+
+        @Test
+        @DisplayName("반영할 게시글이 없으면(삭제/교체됨) 업로드한 객체를 정리")
+        void upload_rowGone_deletesOrphan() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, OLD_IMAGE_URL);
+            when(s3Service.uploadFileAsync(event.stagedFile(), OBJECT_KEY, CONTENT_TYPE))
+                    .thenReturn(CompletableFuture.completedFuture(IMAGE_URL));
+            when(postRepository.completeImageUpload(POST_ID, IMAGE_URL)).thenReturn(0);
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then
+            verify(s3DeletionQueue).enqueue(IMAGE_URL);
+            verify(s3DeletionQueue, never()).enqueue(OLD_IMAGE_URL);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("재시도 후에도 실패하면 FAILED로 표시하고 대상 객체를 정리")
+        void upload_failsAfterRetries_marksFailed() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, null);
+            when(s3Service.uploadFileAsync(event.stagedFile(), OBJECT_KEY, CONTENT_TYPE))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("S3 error")));
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then
+            verify(s3Service, timeout(1000).times(2)).uploadFileAsync(event.stagedFile(), OBJECT_KEY, CONTENT_TYPE);
+            verify(postRepository, timeout(1000)).failImageUpload(POST_ID, IMAGE_URL);
+            // 참조를 얻지 못했으므로 참조 수는 건드리지 않고 정리만 예약
+            verify(s3DeletionQueue, timeout(1000)).discard(IMAGE_URL);
+            verify(s3DeletionQueue, never()).enqueue(anyString());
+            verify(imageObjectIndex, never()).acquire(anyString(), anyString());
+            verify(postRepository, never()).completeImageUpload(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("같은 내용이 이미 저장되어 있으면 업로드 없이 참조만 늘리고 게시글을 갱신")
+        void upload_duplicateContent_skipsPut() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, null);
+            when(imageObjectIndex.acquireExisting(CONTENT_HASH)).thenReturn(true);
+            when(postRepository.completeImageUpload(POST_ID, IMAGE_URL)).thenReturn(1);
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then
+            verify(s3Service, never()).uploadFileAsync(any(), any(), any());
+            verify(imageObjectIndex, never()).acquire(anyString(), anyString());
+            verify(postRepository).completeImageUpload(POST_ID, IMAGE_URL);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+            assertFalse(Files.exists(event.stagedFile()));
+        }
+
+        @Test
+        @DisplayName("커밋 후 콜백 스레드에서는 인덱스/게시글을 건드리지 않고 전용 실행기로 넘김")
+        void onUploadRequested_dispatchesOffCallbackThread() throws IOException {
+            // Given: 실행을 미뤄두는 실행기
+            List<Runnable> dispatched = new ArrayList<>();
+            uploader = new PostImageUploader(s3Service, s3DeletionQueue, imageObjectIndex, postRepository,
+                    eventPublisher, 1, 2, 0, dispatched::add);
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, null);
+            when(imageObjectIndex.acquireExisting(CONTENT_HASH)).thenReturn(true);
+            when(postRepository.completeImageUpload(POST_ID, IMAGE_URL)).thenReturn(1);
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then: 콜백에서는 아무 쓰기도 하지 않음
+            verifyNoInteractions(imageObjectIndex, postRepository, eventPublisher);
+
+            // 실행기에서 중복 확인과 완료 반영이 이어짐
+            dispatched.forEach(Runnable::run);
+            verify(imageObjectIndex).acquireExisting(CONTENT_HASH);
+            verify(postRepository).completeImageUpload(POST_ID, IMAGE_URL);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+        }
+
+        @Test
+        @DisplayName("참조를 얻은 뒤 게시글 반영이 실패하면 참조를 해제하고 FAILED로 표시")
+        void upload_completeFails_releasesReference() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, OLD_IMAGE_URL);
+            when(imageObjectIndex.acquireExisting(CONTENT_HASH)).thenReturn(true);
+            when(postRepository.completeImageUpload(POST_ID, IMAGE_URL)).thenThrow(new RuntimeException("DB error"));
+
+            // When
+            uploader.onUploadRequested(event);
+
+            // Then
+            verify(s3DeletionQueue).enqueue(IMAGE_URL);
+            verify(s3DeletionQueue, never()).enqueue(OLD_IMAGE_URL);
+            verify(s3DeletionQueue, never()).discard(anyString());
+            verify(postRepository).failImageUpload(POST_ID, IMAGE_URL);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+            assertFalse(Files.exists(event.stagedFile()));
+        }
+
+        @Test
+        @DisplayName("동시 업로드 수를 넘는 요청은 앞선 업로드가 끝난 뒤 시작")
+        void upload_boundedConcurrency() throws IOException {
+            // Given
+            PostImageUploadRequestedEvent first = uploadEvent(1L, IMAGE_URL, null);
+            PostImageUploadRequestedEvent second = uploadEvent(2L, OLD_IMAGE_URL, null);
+            CompletableFuture<String> firstUpload = new CompletableFuture<>();
+            when(s3Service.uploadFileAsync(first.stagedFile(), OBJECT_KEY, CONTENT_TYPE)).thenReturn(firstUpload);
+            when(s3Service.uploadFileAsync(second.stagedFile(), OBJECT_KEY, CONTENT_TYPE))
+                    .thenReturn(CompletableFuture.completedFuture(OLD_IMAGE_URL));
+            when(postRepository.completeImageUpload(anyLong(), anyString())).thenReturn(1);
+
+            // When
+            uploader.onUploadRequested(first);
+            uploader.onUploadRequested(second);
+
+            // Then: 첫 업로드가 끝나기 전에는 두 번째 업로드를 시작하지 않음
+            verify(s3Service, never()).uploadFileAsync(eq(second.stagedFile()), any(), any());
+
+            firstUpload.complete(IMAGE_URL);
+            verify(s3Service).uploadFileAsync(second.stagedFile(), OBJECT_KEY, CONTENT_TYPE);
+            verify(postRepository).completeImageUpload(2L, OLD_IMAGE_URL);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 저장이 롤백되면 임시 파일만 삭제하고 업로드하지 않음")
+    void onUploadAbandoned_deletesStagedFile() throws IOException {
+        // Given
+        PostImageUploadRequestedEvent event = uploadEvent(POST_ID, IMAGE_URL, null);
+
+        // When
+        uploader.onUploadAbandoned(event);
+
+        // Then
+        assertFalse(Files.exists(event.stagedFile()));
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 업로드는 FAILED로 정리")
+    void sweepStaleUploads_failsAbandonedUploads() {
+        // Given
+        ReflectionTestUtils.setField(uploader, "staleAfterMillis", 0L);
+        Post stale = Post.builder().id(POST_ID).build();
+        stale.requestImageUpload(IMAGE_URL);
+        when(postRepository.findByImageStatusAndUpdatedAtBefore(eq(ImageStatus.PENDING), any()))
+                .thenReturn(List.of(stale));
+        when(postRepository.failImageUpload(POST_ID, IMAGE_URL)).thenReturn(1);
+
+        // When
+        uploader.sweepStaleUploads();
+
+        // Then
+        verify(s3DeletionQueue).discard(IMAGE_URL);
+        verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+    }
+}
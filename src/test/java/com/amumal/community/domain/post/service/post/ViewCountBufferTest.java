@@ -0,0 +1,182 @@
+package com.amumal.community.domain.post.service.post;
+
+import com.amumal.community.domain.post.dto.response.PostDetailResponse;
+import com.amumal.community.domain.post.metrics.PostMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long OTHER_POST_ID = 2L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PostMetrics postMetrics;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("증가분은 flush 전까지 대기 중인 값으로 조회됨")
+    void increment_accumulatesPendingViews() {
+        // When
+        viewCountBuffer.increment(POST_ID);
+        viewCountBuffer.increment(POST_ID);
+        viewCountBuffer.increment(OTHER_POST_ID);
+
+        // Then
+        assertEquals(2L, viewCountBuffer.getPending(POST_ID));
+        assertEquals(1L, viewCountBuffer.getPending(OTHER_POST_ID));
+        verify(postMetrics, times(3)).viewIncremented();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush 시 게시글별 증가분을 한 트랜잭션 안에서 한 번의 배치로 반영")
+    @SuppressWarnings("unchecked")
+    void flush_writesBatchAndResetsPending() {
+        // Given
+        viewCountBuffer.increment(POST_ID);
+        viewCountBuffer.increment(POST_ID);
+        viewCountBuffer.increment(OTHER_POST_ID);
+
+        // When
+        viewCountBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        assertEquals(2, batchArgs.size());
+        assertTrue(batchArgs.stream().anyMatch(args -> args[0].equals(2L) && args[1].equals(POST_ID)));
+        assertTrue(batchArgs.stream().anyMatch(args -> args[0].equals(1L) && args[1].equals(OTHER_POST_ID)));
+        assertEquals(0L, viewCountBuffer.getPending(POST_ID));
+        assertEquals(0L, viewCountBuffer.getPending(OTHER_POST_ID));
+        verify(transactionTemplate).execute(any());
+        verify(postDetailCache).evict(POST_ID);
+        verify(postDetailCache).evict(OTHER_POST_ID);
+    }
+
+    @Test
+    @DisplayName("대기 중인 증가분이 없으면 DB에 접근하지 않음")
+    void flush_nothingPending_skipsUpdate() {
+        // When
+        viewCountBuffer.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 증가분을 버퍼에 되돌림")
+    void flush_failure_restoresPendingViews() {
+        // Given
+        viewCountBuffer.increment(POST_ID);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        // When
+        viewCountBuffer.flush();
+
+        // Then
+        assertEquals(1L, viewCountBuffer.getPending(POST_ID));
+        verifyNoInteractions(postDetailCache);
+    }
+
+    @Test
+    @DisplayName("flush 전후로 상세 응답의 조회수(캐시된 값 + 대기 중인 증가분)가 줄어들지 않음")
+    void flush_displayedViewCount_neverDecreases() {
+        // Given: 실제 상세 캐시와 반영된 값을 들고 있는 DB
+        AtomicLong persistedViews = new AtomicLong(10);
+        PostDetailCache detailCache = new PostDetailCache(new ConcurrentMapCacheManager(PostDetailCache.CACHE_NAME));
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, transactionTemplate, postMetrics, detailCache);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> persistedViews.addAndGet((Long) args[0]));
+            return new int[]{1};
+        });
+        buffer.increment(POST_ID);
+        buffer.increment(POST_ID);
+        long before = displayedViews(detailCache, buffer, persistedViews);
+
+        // When
+        buffer.flush();
+        long after = displayedViews(detailCache, buffer, persistedViews);
+
+        // Then
+        assertEquals(12L, before);
+        assertEquals(12L, after);
+        assertEquals(0L, buffer.getPending(POST_ID));
+    }
+
+    // PostQueryServiceImpl 상세 조회와 같은 계산
+    private long displayedViews(PostDetailCache detailCache, ViewCountBuffer buffer, AtomicLong persistedViews) {
+        PostDetailResponse detail = detailCache.get(POST_ID, () -> PostDetailResponse.builder()
+                .postId(POST_ID)
+                .viewCount((int) persistedViews.get())
+                .build());
+        return detail.viewCount() + buffer.getPending(POST_ID);
+    }
+
+    @Test
+    @DisplayName("유휴 항목을 정리한 직후 이전 참조에 더해진 증가분도 다음 flush에 반영")
+    @SuppressWarnings("unchecked")
+    void flush_lateIncrementOnRemovedEntry_notLost() {
+        // Given: 첫 flush로 반영하고 두 번째 flush에서 유휴 항목이 정리됨
+        viewCountBuffer.increment(POST_ID);
+        Map<Long, LongAdder> pendingViews =
+                (Map<Long, LongAdder>) ReflectionTestUtils.getField(viewCountBuffer, "pendingViews");
+        LongAdder staleAdder = pendingViews.get(POST_ID);
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+        assertFalse(pendingViews.containsKey(POST_ID));
+
+        // When: 정리되기 전에 참조를 얻은 increment가 늦게 더함
+        staleAdder.increment();
+        viewCountBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> lastBatch = captor.getAllValues().get(1);
+        assertEquals(1, lastBatch.size());
+        assertArrayEquals(new Object[]{1L, POST_ID}, lastBatch.get(0));
+    }
+}
@@ -1,12 +1,18 @@
 package com.amumal.community.domain.post.service.post.impl;
 
 import com.amumal.community.domain.post.dto.request.PostRequest;
+import com.amumal.community.domain.post.entity.ImageStatus;
 import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.event.PostImageUploadRequestedEvent;
 import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.post.service.post.PostImageUploader;
+import com.amumal.community.domain.post.service.post.PostImageUploader.StagedImage;
 import com.amumal.community.domain.user.entity.User;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.global.exception.CustomException;
-import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.s3.service.PresignedUploadService;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,9 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,12 +45,25 @@ class PostCommandServiceImplTest {
     private static final String IMAGE_URL = "http://s3.aws.com/image.jpg";
     private static final String OLD_IMAGE_URL = "http://s3.aws.com/old.jpg";
     private static final String NEW_IMAGE_URL = "http://s3.aws.com/new.jpg";
+    private static final Path STAGED_FILE = Path.of("post-image-test.upload");
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String OBJECT_KEY = "images/" + CONTENT_HASH;
+    private static final String CONTENT_TYPE = "image/jpeg";
 
     @Mock
     private PostRepository postRepository;
 
     @Mock
-    private S3Service s3Service;
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Mock
+    private PostImageUploader postImageUploader;
+
+    @Mock
+    private PresignedUploadService presignedUploadService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private PostCommandServiceImpl postCommandService;
@@ -73,11 +94,13 @@ class PostCommandServiceImplTest {
             // Then
             assertEquals(POST_ID, resultId);
             verify(postRepository).save(any(Post.class));
-            verify(s3Service, never()).uploadImage(any());
+            verifyNoInteractions(postImageUploader);
+            verify(eventPublisher, never()).publishEvent(any(PostImageUploadRequestedEvent.class));
+            verify(eventPublisher).publishEvent(PostChangedEvent.created(POST_ID));
         }
 
         @Test
-        @DisplayName("이미지와 함께 게시글 생성")
+        @DisplayName("이미지와 함께 게시글 생성 시 PENDING 상태로 저장하고 커밋 후 업로드를 요청")
         void createPost_withImage_success() throws IOException {
             // Given
             User user = mock(User.class);
@@ -88,7 +111,8 @@ class PostCommandServiceImplTest {
             MultipartFile image = mock(MultipartFile.class);
             when(image.isEmpty()).thenReturn(false);
 
-            when(s3Service.uploadImage(image)).thenReturn(IMAGE_URL);
+            when(postImageUploader.stage(image))
+                    .thenReturn(new StagedImage(STAGED_FILE, CONTENT_HASH, OBJECT_KEY, IMAGE_URL, CONTENT_TYPE));
 
             Post savedPost = mock(Post.class);
             when(savedPost.getId()).thenReturn(POST_ID);
@@ -99,12 +123,64 @@ class PostCommandServiceImplTest {
 
             // Then
             assertEquals(POST_ID, resultId);
-            verify(s3Service).uploadImage(image);
-            verify(postRepository).save(any(Post.class));
+            // 요청 스레드에서는 임시 파일로 옮기기만 함 (S3 업로드는 커밋 이후)
+            verify(postImageUploader).stage(image);
+            verifyNoMoreInteractions(postImageUploader);
+            verify(postRepository).save(argThat(post ->
+                    post.getImage() == null
+                            && IMAGE_URL.equals(post.getPendingImage())
+                            && post.getImageStatus() == ImageStatus.PENDING));
+            verify(eventPublisher).publishEvent(new PostImageUploadRequestedEvent(
+                    POST_ID, STAGED_FILE, CONTENT_HASH, OBJECT_KEY, IMAGE_URL, CONTENT_TYPE, null));
+            verify(eventPublisher).publishEvent(PostChangedEvent.created(POST_ID));
+        }
+
+        @Test
+        @DisplayName("presigned 업로드로 검증된 이미지 URL은 업로드 없이 바로 연결")
+        void createPost_withUploadedImageUrl_attachesImmediately() {
+            // Given
+            User user = mock(User.class);
+            PostRequest req = mock(PostRequest.class);
+            when(req.title()).thenReturn(TITLE);
+            when(req.content()).thenReturn(CONTENT);
+            when(req.image()).thenReturn(IMAGE_URL);
+            when(presignedUploadService.acquire(IMAGE_URL)).thenReturn(IMAGE_URL);
+
+            Post savedPost = mock(Post.class);
+            when(savedPost.getId()).thenReturn(POST_ID);
+            when(postRepository.save(any(Post.class))).thenReturn(savedPost);
+
+            // When
+            postCommandService.createPost(req, null, user);
+
+            // Then
+            verify(postRepository).save(argThat(post ->
+                    IMAGE_URL.equals(post.getImage())
+                            && post.getPendingImage() == null
+                            && post.getImageStatus() == ImageStatus.READY));
+            verifyNoInteractions(postImageUploader);
+            verify(eventPublisher, never()).publishEvent(any(PostImageUploadRequestedEvent.class));
         }
 
         @Test
-        @DisplayName("이미지 업로드 실패 시 게시글 생성 예외 발생")
+        @DisplayName("검증되지 않은 이미지 URL이면 게시글을 만들지 않음")
+        void createPost_withUnverifiedImageUrl_exception() {
+            // Given
+            User user = mock(User.class);
+            PostRequest req = mock(PostRequest.class);
+            when(req.title()).thenReturn(TITLE);
+            when(req.content()).thenReturn(CONTENT);
+            when(req.image()).thenReturn(IMAGE_URL);
+            when(presignedUploadService.acquire(IMAGE_URL))
+                    .thenThrow(new CustomException(CustomResponseStatus.BAD_REQUEST));
+
+            // When & Then
+            assertThrows(CustomException.class, () -> postCommandService.createPost(req, null, user));
+            verify(postRepository, never()).save(any(Post.class));
+        }
+
+        @Test
+        @DisplayName("이미지 임시 저장 실패 시 게시글 생성 예외 발생")
         void createPost_withImageUploadFailure_exception() throws IOException {
             // Given
             User user = mock(User.class);
@@ -113,12 +189,13 @@ class PostCommandServiceImplTest {
             MultipartFile image = mock(MultipartFile.class);
             when(image.isEmpty()).thenReturn(false);
 
-            when(s3Service.uploadImage(image)).thenThrow(new IOException("S3 error"));
+            when(postImageUploader.stage(image)).thenThrow(new IOException("disk error"));
 
             // When & Then
             RuntimeException exception = assertThrows(RuntimeException.class,
                     () -> postCommandService.createPost(req, image, user));
             assertTrue(exception.getMessage().contains("이미지 업로드 중 오류 발생"));
+            verify(postRepository, never()).save(any());
         }
     }
 
@@ -147,12 +224,12 @@ class PostCommandServiceImplTest {
 
             // Then
             verify(post).updateContent(NEW_TITLE, NEW_CONTENT, IMAGE_URL);
-            verify(s3Service, never()).uploadImage(any());
-            verify(s3Service, never()).deleteImage(any());
+            verifyNoInteractions(s3DeletionQueue);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
         }
 
         @Test
-        @DisplayName("이미지 변경과 함께 게시글 수정")
+        @DisplayName("이미지 변경과 함께 게시글 수정 시 기존 이미지는 새 이미지 반영 후 삭제되도록 요청")
         void updatePost_withImageChange_success() throws IOException {
             // Given
             User user = mock(User.class);
@@ -170,21 +247,74 @@ class PostCommandServiceImplTest {
             when(post.getImage()).thenReturn(OLD_IMAGE_URL);
             when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
 
-            when(s3Service.isValidS3Url(OLD_IMAGE_URL)).thenReturn(true);
-            when(s3Service.uploadImage(image)).thenReturn(NEW_IMAGE_URL);
+            when(postImageUploader.stage(image))
+                    .thenReturn(new StagedImage(STAGED_FILE, CONTENT_HASH, OBJECT_KEY, NEW_IMAGE_URL, CONTENT_TYPE));
 
             // When
             postCommandService.updatePost(POST_ID, req, image, user);
 
             // Then
-            verify(s3Service).isValidS3Url(OLD_IMAGE_URL);
-            verify(s3Service).deleteImage(OLD_IMAGE_URL);
-            verify(s3Service).uploadImage(image);
-            verify(post).updateContent(NEW_TITLE, NEW_CONTENT, NEW_IMAGE_URL);
+            verify(post).updateContent(NEW_TITLE, NEW_CONTENT, OLD_IMAGE_URL);
+            verify(post).requestImageUpload(NEW_IMAGE_URL);
+            verifyNoInteractions(s3DeletionQueue);
+            verify(eventPublisher).publishEvent(new PostImageUploadRequestedEvent(
+                    POST_ID, STAGED_FILE, CONTENT_HASH, OBJECT_KEY, NEW_IMAGE_URL, CONTENT_TYPE, OLD_IMAGE_URL));
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
         }
 
         @Test
-        @DisplayName("이미지 업로드 실패 시 게시글 수정 예외 발생")
+        @DisplayName("presigned 업로드 이미지로 교체 시 바로 연결하고 기존 이미지 참조를 해제")
+        void updatePost_withUploadedImageUrl_replacesImage() {
+            // Given
+            User user = mock(User.class);
+            when(user.getId()).thenReturn(USER_ID);
+
+            PostRequest req = mock(PostRequest.class);
+            when(req.title()).thenReturn(NEW_TITLE);
+            when(req.content()).thenReturn(NEW_CONTENT);
+            when(req.image()).thenReturn(NEW_IMAGE_URL);
+
+            Post post = mock(Post.class);
+            when(post.getUser()).thenReturn(user);
+            when(post.getImage()).thenReturn(OLD_IMAGE_URL);
+            when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+            when(presignedUploadService.acquire(NEW_IMAGE_URL)).thenReturn(NEW_IMAGE_URL);
+
+            // When
+            postCommandService.updatePost(POST_ID, req, null, user);
+
+            // Then
+            verify(post).attachImage(NEW_IMAGE_URL);
+            verify(s3DeletionQueue).enqueue(OLD_IMAGE_URL);
+            verifyNoInteractions(postImageUploader);
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
+        }
+
+        @Test
+        @DisplayName("현재 이미지와 같은 URL이면 참조를 다시 얻지 않음")
+        void updatePost_withSameImageUrl_noChange() {
+            // Given
+            User user = mock(User.class);
+            when(user.getId()).thenReturn(USER_ID);
+
+            PostRequest req = mock(PostRequest.class);
+            when(req.image()).thenReturn(IMAGE_URL);
+
+            Post post = mock(Post.class);
+            when(post.getUser()).thenReturn(user);
+            when(post.getImage()).thenReturn(IMAGE_URL);
+            when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+
+            // When
+            postCommandService.updatePost(POST_ID, req, null, user);
+
+            // Then
+            verifyNoInteractions(presignedUploadService, s3DeletionQueue);
+            verify(post, never()).attachImage(anyString());
+        }
+
+        @Test
+        @DisplayName("이미지 임시 저장 실패 시 게시글 수정 예외 발생")
         void updatePost_withImageUploadFailure_exception() throws IOException {
             // Given
             User user = mock(User.class);
@@ -197,16 +327,16 @@ class PostCommandServiceImplTest {
 
             Post post = mock(Post.class);
             when(post.getUser()).thenReturn(user);
-            when(post.getImage()).thenReturn(OLD_IMAGE_URL);
             when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
 
-            when(s3Service.isValidS3Url(OLD_IMAGE_URL)).thenReturn(true);
-            when(s3Service.uploadImage(image)).thenThrow(new IOException("S3 error"));
+            when(postImageUploader.stage(image)).thenThrow(new IOException("disk error"));
 
             // When & Then
             RuntimeException exception = assertThrows(RuntimeException.class,
                     () -> postCommandService.updatePost(POST_ID, req, image, user));
             assertTrue(exception.getMessage().contains("이미지 업로드 중 오류 발생"));
+            verify(post, never()).updateContent(any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -251,8 +381,8 @@ class PostCommandServiceImplTest {
     class DeletePostTest {
 
         @Test
-        @DisplayName("유효한 이미지가 있는 게시글 삭제")
-        void deletePost_withValidImage_success() {
+        @DisplayName("이미지가 있는 게시글 삭제 시 이미지 삭제를 예약")
+        void deletePost_withImage_enqueuesDeletion() {
             // Given
             User user = mock(User.class);
             when(user.getId()).thenReturn(USER_ID);
@@ -262,15 +392,13 @@ class PostCommandServiceImplTest {
             when(post.getImage()).thenReturn(IMAGE_URL);
             when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
 
-            when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
-
             // When
             postCommandService.deletePost(POST_ID, user);
 
-            // Then
-            verify(s3Service).isValidS3Url(IMAGE_URL);
-            verify(s3Service).deleteImage(IMAGE_URL);
+            // Then: S3 호출 없이 outbox에만 기록
+            verify(s3DeletionQueue).enqueue(IMAGE_URL);
             verify(post).delete();
+            verify(eventPublisher).publishEvent(new PostChangedEvent(POST_ID));
         }
 
         @Test
@@ -289,31 +417,7 @@ class PostCommandServiceImplTest {
             postCommandService.deletePost(POST_ID, user);
 
             // Then
-            verify(s3Service, never()).deleteImage(any());
-            verify(post).delete();
-        }
-
-        @Test
-        @DisplayName("게시글 삭제 시 이미지가 유효하지 않으면 삭제")
-        void deletePost_invalidImage_success() {
-            // Given
-            User user = mock(User.class);
-            when(user.getId()).thenReturn(USER_ID);
-
-            String invalidImageUrl = "invalid_url";
-            Post post = mock(Post.class);
-            when(post.getUser()).thenReturn(user);
-            when(post.getImage()).thenReturn(invalidImageUrl);
-            when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-
-            when(s3Service.isValidS3Url(invalidImageUrl)).thenReturn(false);
-
-            // When
-            postCommandService.deletePost(POST_ID, user);
-
-            // Then
-            verify(s3Service).isValidS3Url(invalidImageUrl);
-            verify(s3Service, never()).deleteImage(any());
+            verifyNoInteractions(s3DeletionQueue);
             verify(post).delete();
         }
 
@@ -348,6 +452,7 @@ class PostCommandServiceImplTest {
             CustomException exception = assertThrows(CustomException.class,
                     () -> postCommandService.deletePost(POST_ID, other));
             assertEquals(CustomResponseStatus.UNAUTHORIZED_REQUEST, exception.getStatus());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
 }
\ No newline at end of file
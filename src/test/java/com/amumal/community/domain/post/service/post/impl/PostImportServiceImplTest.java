@@ -0,0 +1,141 @@
+package com.amumal.community.domain.post.service.post.impl;
+
+import com.amumal.community.domain.post.dto.request.PostImportRequest;
+import com.amumal.community.domain.post.dto.response.PostImportResponse;
+import com.amumal.community.domain.post.entity.Comment;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.event.PostChangedEvent;
+import com.amumal.community.domain.post.repository.comment.CommentRepository;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceImplTest {
+
+    private static final int FLUSH_SIZE = 2;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private PostImportServiceImpl postImportService;
+
+    private final AtomicLong nextPostId = new AtomicLong(1L);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postImportService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(postImportService, "flushSize", FLUSH_SIZE);
+        // 저장 시점에 ID가 할당되는 것처럼 순서대로 ID를 채움
+        lenient().when(postRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            posts.forEach(post -> ReflectionTestUtils.setField(post, "id", nextPostId.getAndIncrement()));
+            return posts;
+        });
+    }
+
+    @Test
+    @DisplayName("청크마다 게시글과 댓글을 저장한 뒤 flush/clear하고 등록 건수를 반환")
+    void importPosts_flushesPerChunk() {
+        // Given: 게시글 3건은 flush 크기 2 기준으로 두 청크가 됨
+        User user = mock(User.class);
+        PostImportRequest request = PostImportRequest.builder()
+                .posts(List.of(item("제목1", "댓글1", "댓글2"), item("제목2"), item("제목3", "댓글3")))
+                .build();
+
+        // When
+        PostImportResponse response = postImportService.importPosts(request, user);
+
+        // Then
+        assertEquals(3, response.postCount());
+        assertEquals(3, response.commentCount());
+        verify(postRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+
+        InOrder inOrder = inOrder(postRepository, commentRepository, entityManager);
+        inOrder.verify(postRepository).saveAll(anyList());
+        inOrder.verify(commentRepository).saveAll(anyList());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 수를 미리 채우고 댓글은 해당 게시글과 작성자에 연결")
+    @SuppressWarnings("unchecked")
+    void importPosts_setsCommentCountAndLinksComments() {
+        // Given
+        User user = mock(User.class);
+        PostImportRequest request = PostImportRequest.builder()
+                .posts(List.of(item("제목1", "댓글1", "댓글2")))
+                .build();
+        ArgumentCaptor<List<Post>> postsCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Comment>> commentsCaptor = ArgumentCaptor.forClass(List.class);
+
+        // When
+        postImportService.importPosts(request, user);
+
+        // Then
+        verify(postRepository).saveAll(postsCaptor.capture());
+        verify(commentRepository).saveAll(commentsCaptor.capture());
+        Post post = postsCaptor.getValue().get(0);
+        List<Comment> comments = commentsCaptor.getValue();
+        assertEquals(2, post.getCommentCount());
+        assertEquals(user, post.getUser());
+        assertEquals(2, comments.size());
+        assertTrue(comments.stream().allMatch(comment -> comment.getPost() == post && comment.getUser() == user));
+    }
+
+    @Test
+    @DisplayName("마지막으로 저장한 게시글 ID로 변경 이벤트를 한 번만 발행")
+    void importPosts_publishesEventWithLastPostId() {
+        // Given
+        User user = mock(User.class);
+        PostImportRequest request = PostImportRequest.builder()
+                .posts(List.of(item("제목1"), item("제목2"), item("제목3")))
+                .build();
+
+        // When
+        postImportService.importPosts(request, user);
+
+        // Then
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+        verify(eventPublisher).publishEvent(PostChangedEvent.created(3L));
+    }
+
+    private PostImportRequest.Item item(String title, String... comments) {
+        return PostImportRequest.Item.builder()
+                .title(title)
+                .content("내용")
+                .comments(List.of(comments))
+                .build();
+    }
+}
@@ -1,12 +1,19 @@
 package com.amumal.community.domain.post.service.post.impl;
 
+import com.amumal.community.domain.post.dto.request.FeedCursor;
+import com.amumal.community.domain.post.dto.request.PostSortType;
 import com.amumal.community.domain.post.dto.response.PostDetailResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse;
 import com.amumal.community.domain.post.dto.response.PostResponse.PostSimpleInfo;
 import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.repository.likes.LikesRepository;
 import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.post.service.post.FeedSnapshot;
+import com.amumal.community.domain.post.service.post.PostDetailCache;
+import com.amumal.community.domain.post.service.post.ViewCountBuffer;
 import com.amumal.community.global.enums.CustomResponseStatus;
 import com.amumal.community.global.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,9 +22,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,12 +37,27 @@ class PostQueryServiceImplTest {
 
     // 테스트 상수
     private static final Long POST_ID = 1L;
-    private static final Long CURSOR = 0L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final long CREATED_AT_KEY = PostSortType.toEpochMicros(CREATED_AT);
+    private static final FeedCursor CURSOR = new FeedCursor(PostSortType.NEWEST, CREATED_AT_KEY, 3L);
+    private static final String ENCODED_CURSOR = CURSOR.encode();
     private static final int PAGE_SIZE = 10;
 
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private FeedSnapshot feedSnapshot;
+
+    @Mock
+    private LikesRepository likesRepository;
+
     @InjectMocks
     private PostQueryServiceImpl postQueryService;
 
@@ -45,16 +69,16 @@ class PostQueryServiceImplTest {
         @DisplayName("게시글이 없을 때 단순 정보 조회 시 빈 응답 반환")
         void getSimpleInfo_noPosts_returnsEmptyResponse() {
             // Given
-            when(postRepository.getPostSimpleInfo(CURSOR, PAGE_SIZE)).thenReturn(Collections.emptyList());
+            when(postRepository.getPostSimpleInfo(PostSortType.NEWEST, CURSOR, PAGE_SIZE)).thenReturn(Collections.emptyList());
 
             // When
-            PostResponse response = postQueryService.getPostSimpleInfo(CURSOR, PAGE_SIZE);
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.NEWEST, ENCODED_CURSOR, PAGE_SIZE);
 
             // Then
             assertNotNull(response);
             assertTrue(response.postSimpleInfos().isEmpty());
             assertNull(response.nextCursor());
-            verify(postRepository).getPostSimpleInfo(CURSOR, PAGE_SIZE);
+            verify(postRepository).getPostSimpleInfo(PostSortType.NEWEST, CURSOR, PAGE_SIZE);
         }
 
         @Test
@@ -62,19 +86,149 @@ class PostQueryServiceImplTest {
         void getSimpleInfo_withPosts_returnsResponseWithNextCursor() {
             // Given
             List<PostSimpleInfo> simpleInfos = List.of(
-                    new PostSimpleInfo(1L, "Title1", null, 0, 0, 0, "User1", "Profile1"),
-                    new PostSimpleInfo(2L, "Title2", null, 5, 3, 15, "User2", "Profile2")
+                    new PostSimpleInfo(1L, "Title1", CREATED_AT, 0, 0, 0, "User1", "Profile1"),
+                    new PostSimpleInfo(2L, "Title2", CREATED_AT, 5, 3, 15, "User2", "Profile2")
             );
-            when(postRepository.getPostSimpleInfo(CURSOR, PAGE_SIZE)).thenReturn(simpleInfos);
+            when(postRepository.getPostSimpleInfo(PostSortType.NEWEST, CURSOR, PAGE_SIZE)).thenReturn(simpleInfos);
 
             // When
-            PostResponse response = postQueryService.getPostSimpleInfo(CURSOR, PAGE_SIZE);
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.NEWEST, ENCODED_CURSOR, PAGE_SIZE);
 
             // Then
             assertNotNull(response);
             assertEquals(2, response.postSimpleInfos().size());
-            assertEquals(2L, response.nextCursor());
-            verify(postRepository).getPostSimpleInfo(CURSOR, PAGE_SIZE);
+            assertEquals(new FeedCursor(PostSortType.NEWEST, CREATED_AT_KEY, 2L).encode(), response.nextCursor());
+            verify(postRepository).getPostSimpleInfo(PostSortType.NEWEST, CURSOR, PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("스냅샷 범위 안의 페이지는 DB 조회 없이 반환")
+        void getSimpleInfo_servedFromSnapshot_skipsRepository() {
+            // Given
+            List<PostSimpleInfo> simpleInfos = List.of(
+                    new PostSimpleInfo(2L, "Title2", CREATED_AT, 5, 3, 15, "User2", "Profile2"),
+                    new PostSimpleInfo(1L, "Title1", CREATED_AT, 0, 0, 0, "User1", "Profile1")
+            );
+            when(feedSnapshot.findPage(null, PAGE_SIZE)).thenReturn(Optional.of(simpleInfos));
+
+            // When
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, PAGE_SIZE);
+
+            // Then
+            assertEquals(2, response.postSimpleInfos().size());
+            assertEquals(new FeedCursor(PostSortType.NEWEST, CREATED_AT_KEY, 1L).encode(), response.nextCursor());
+            verify(postRepository, never()).getPostSimpleInfo(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("로그인한 사용자면 페이지의 게시글 ID를 한 번에 조회해 likedByMe를 채우고 스냅샷 행은 그대로 둠")
+        void getSimpleInfo_authenticated_fillsLikedByMeInOneBatch() {
+            // Given
+            Long userId = 10L;
+            List<PostSimpleInfo> simpleInfos = List.of(
+                    new PostSimpleInfo(2L, "Title2", CREATED_AT, 5, 3, 15, "User2", "Profile2"),
+                    new PostSimpleInfo(1L, "Title1", CREATED_AT, 0, 0, 0, "User1", "Profile1")
+            );
+            when(feedSnapshot.findPage(null, PAGE_SIZE)).thenReturn(Optional.of(simpleInfos));
+            when(likesRepository.findLikedPostIds(userId, List.of(2L, 1L))).thenReturn(List.of(2L));
+
+            // When
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, PAGE_SIZE, userId);
+
+            // Then
+            assertEquals(List.of(true, false),
+                    response.postSimpleInfos().stream().map(PostSimpleInfo::likedByMe).toList());
+            assertNull(simpleInfos.get(0).likedByMe());
+            verify(likesRepository, times(1)).findLikedPostIds(eq(userId), anyCollection());
+        }
+
+        @Test
+        @DisplayName("비로그인 요청은 좋아요 상태를 조회하지 않음")
+        void getSimpleInfo_anonymous_skipsLikeStatus() {
+            // Given
+            List<PostSimpleInfo> simpleInfos = List.of(
+                    new PostSimpleInfo(1L, "Title1", CREATED_AT, 0, 0, 0, "User1", "Profile1")
+            );
+            when(feedSnapshot.findPage(null, PAGE_SIZE)).thenReturn(Optional.of(simpleInfos));
+
+            // When
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, PAGE_SIZE, null);
+
+            // Then
+            assertNull(response.postSimpleInfos().get(0).likedByMe());
+            verifyNoInteractions(likesRepository);
+        }
+
+        @Test
+        @DisplayName("이전 버전의 숫자 커서도 최신순에서는 그대로 사용 (작성 시각은 DB에서 찾음)")
+        void getSimpleInfo_legacyNumericCursor_accepted() {
+            // Given
+            FeedCursor legacyCursor = FeedCursor.ofPostId(5L);
+            when(postRepository.getPostSimpleInfo(PostSortType.NEWEST, legacyCursor, PAGE_SIZE))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            postQueryService.getPostSimpleInfo(PostSortType.NEWEST, "5", PAGE_SIZE);
+
+            // Then
+            verify(postRepository).getPostSimpleInfo(PostSortType.NEWEST, legacyCursor, PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("인기순은 스냅샷 없이 (정렬 키, ID) 커서로 조회하고 다음 커서에 정렬 키를 담음")
+        void getSimpleInfo_sortedByLikes_usesCompositeCursor() {
+            // Given
+            FeedCursor cursor = new FeedCursor(PostSortType.LIKES, 7L, 30L);
+            List<PostSimpleInfo> simpleInfos = List.of(
+                    new PostSimpleInfo(12L, "Title12", CREATED_AT, 7, 0, 0, "User1", "Profile1"),
+                    new PostSimpleInfo(40L, "Title40", CREATED_AT, 3, 0, 0, "User2", "Profile2")
+            );
+            when(postRepository.getPostSimpleInfo(PostSortType.LIKES, cursor, PAGE_SIZE)).thenReturn(simpleInfos);
+
+            // When
+            PostResponse response = postQueryService.getPostSimpleInfo(PostSortType.LIKES, cursor.encode(), PAGE_SIZE);
+
+            // Then
+            assertEquals(new FeedCursor(PostSortType.LIKES, 3L, 40L).encode(), response.nextCursor());
+            verifyNoInteractions(feedSnapshot);
+        }
+
+        @Test
+        @DisplayName("다른 정렬의 커서를 보내면 BAD_REQUEST")
+        void getSimpleInfo_cursorOfOtherSort_badRequest() {
+            // Given
+            String viewsCursor = new FeedCursor(PostSortType.VIEWS, 100L, 3L).encode();
+
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> postQueryService.getPostSimpleInfo(PostSortType.LIKES, viewsCursor, PAGE_SIZE));
+            assertEquals(CustomResponseStatus.BAD_REQUEST, exception.getStatus());
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 1~100을 벗어나면 조회 없이 BAD_REQUEST")
+        void getSimpleInfo_pageSizeOutOfRange_badRequest() {
+            // When & Then
+            for (int pageSize : new int[]{0, -1, 101, Integer.MAX_VALUE}) {
+                CustomException exception = assertThrows(CustomException.class,
+                        () -> postQueryService.getPostSimpleInfo(PostSortType.NEWEST, null, pageSize));
+                assertEquals(CustomResponseStatus.BAD_REQUEST, exception.getStatus());
+            }
+            verifyNoInteractions(postRepository, feedSnapshot);
+        }
+
+        @Test
+        @DisplayName("카운트 정렬 커서의 정렬 키가 INT 범위를 벗어나면 BAD_REQUEST")
+        void getSimpleInfo_sortKeyOutOfIntRange_badRequest() {
+            // Given: (int)로 자르면 음수가 되어 엉뚱한 위치부터 조회될 값
+            String overflowCursor = new FeedCursor(PostSortType.LIKES, Integer.MAX_VALUE + 1L, 3L).encode();
+
+            // When & Then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> postQueryService.getPostSimpleInfo(PostSortType.LIKES, overflowCursor, PAGE_SIZE));
+            assertEquals(CustomResponseStatus.BAD_REQUEST, exception.getStatus());
+            verifyNoInteractions(postRepository);
         }
     }
 
@@ -82,23 +236,33 @@ class PostQueryServiceImplTest {
     @DisplayName("게시글 상세 조회 테스트")
     class GetPostDetailTest {
 
+        @BeforeEach
+        void setUp() {
+            // 캐시 미스 상황: 캐시가 전달받은 로더를 그대로 실행
+            lenient().when(postDetailCache.get(eq(POST_ID), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<PostDetailResponse>>getArgument(1).get());
+        }
+
         @Test
-        @DisplayName("게시글 존재, incrementView true 시 조회수 증가 후 상세 정보 반환")
-        void getDetail_postExists_incrementTrue_returnsDetailAfterIncrement() {
+        @DisplayName("게시글 존재, incrementView true 시 버퍼에 조회수 증가 후 대기 중인 증가분 포함해 반환")
+        void getDetail_postExists_incrementTrue_returnsDetailWithPendingViews() {
             // Given
-            Post mockPost = mock(Post.class);
-            PostDetailResponse mockDetailResponse = PostDetailResponse.builder().build();
+            PostDetailResponse mockDetailResponse = PostDetailResponse.builder()
+                    .postId(POST_ID)
+                    .viewCount(10)
+                    .build();
 
-            when(postRepository.findById(POST_ID)).thenReturn(Optional.of(mockPost));
             when(postRepository.getPostDetailInfoById(POST_ID)).thenReturn(mockDetailResponse);
+            when(viewCountBuffer.getPending(POST_ID)).thenReturn(3L);
 
             // When
             PostDetailResponse result = postQueryService.getPostDetailInfoById(POST_ID, true);
 
             // Then
             assertNotNull(result);
-            verify(mockPost).incrementViewCount();
-            verify(postRepository).save(mockPost);
+            assertEquals(13, result.viewCount());
+            verify(viewCountBuffer).increment(POST_ID);
+            verify(postRepository, never()).save(any(Post.class));
             verify(postRepository).getPostDetailInfoById(POST_ID);
         }
 
@@ -106,13 +270,13 @@ class PostQueryServiceImplTest {
         @DisplayName("존재하지 않는 게시글, incrementView true 시 예외 발생")
         void getDetail_postNotExists_incrementTrue_throwsException() {
             // Given
-            when(postRepository.findById(POST_ID)).thenReturn(Optional.empty());
+            when(postRepository.getPostDetailInfoById(POST_ID)).thenReturn(null);
 
             // When & Then
             CustomException exception = assertThrows(CustomException.class,
                     () -> postQueryService.getPostDetailInfoById(POST_ID, true));
             assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
-            verify(postRepository, never()).getPostDetailInfoById(anyLong());
+            verify(viewCountBuffer, never()).increment(anyLong());
         }
 
         @Test
@@ -127,7 +291,7 @@ class PostQueryServiceImplTest {
 
             // Then
             assertNotNull(result);
-            verify(postRepository, never()).findById(anyLong());
+            verify(viewCountBuffer, never()).increment(anyLong());
             verify(postRepository, never()).save(any(Post.class));
             verify(postRepository).getPostDetailInfoById(POST_ID);
         }
@@ -156,7 +320,7 @@ class PostQueryServiceImplTest {
 
             // Then
             assertNotNull(result);
-            verify(postRepository, never()).findById(anyLong());
+            verify(viewCountBuffer, never()).increment(anyLong());
             verify(postRepository, never()).save(any(Post.class));
             verify(postRepository).getPostDetailInfoById(POST_ID);
         }
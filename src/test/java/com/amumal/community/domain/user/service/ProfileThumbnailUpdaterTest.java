@@ -0,0 +1,104 @@
+package com.amumal.community.domain.user.service;
+
+import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.enums.ImageRendition;
+import com.amumal.community.global.s3.service.ImageRenditionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProfileThumbnailUpdaterTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/new.png";
+    private static final String THUMBNAIL_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/renditions/thumb/new.png.jpg";
+
+    @Mock
+    private ImageRenditionService imageRenditionService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private ProfileThumbnailUpdater updater;
+
+    private final ProfileImageChangedEvent event = new ProfileImageChangedEvent(USER_ID, IMAGE_URL);
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("변환본 생성 완료 시 현재 프로필 이미지의 썸네일로 반영")
+    void onProfileImageChanged_AppliesThumbnail() {
+        // Given
+        User user = User.builder().id(USER_ID).profileImage(IMAGE_URL).build();
+        when(imageRenditionService.generate(IMAGE_URL, Set.of(ImageRendition.THUMBNAIL)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(ImageRendition.THUMBNAIL, THUMBNAIL_URL)));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        // When
+        updater.onProfileImageChanged(event);
+
+        // Then
+        assertEquals(THUMBNAIL_URL, user.getProfileThumbnail());
+        verify(imageRenditionService, never()).deleteRenditions(anyString());
+    }
+
+    @Test
+    @DisplayName("변환 중 프로필 이미지가 바뀌었으면 반영하지 않고 변환본을 정리")
+    void onProfileImageChanged_ImageReplaced_DeletesOrphanRenditions() {
+        // Given
+        User user = User.builder().id(USER_ID).profileImage("https://bucket/newer.png").build();
+        when(imageRenditionService.generate(IMAGE_URL, Set.of(ImageRendition.THUMBNAIL)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(ImageRendition.THUMBNAIL, THUMBNAIL_URL)));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        // When
+        updater.onProfileImageChanged(event);
+
+        // Then
+        assertNull(user.getProfileThumbnail());
+        verify(imageRenditionService).deleteRenditions(IMAGE_URL);
+    }
+
+    @Test
+    @DisplayName("변환본 생성 실패 시 사용자 행은 건드리지 않음")
+    void onProfileImageChanged_GenerationFailed_LeavesUserUntouched() {
+        // Given
+        when(imageRenditionService.generate(IMAGE_URL, Set.of(ImageRendition.THUMBNAIL)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("decode failed")));
+
+        // When
+        assertDoesNotThrow(() -> updater.onProfileImageChanged(event));
+
+        // Then
+        verifyNoInteractions(userRepository);
+        verify(imageRenditionService, never()).deleteRenditions(anyString());
+    }
+}
@@ -4,7 +4,9 @@ import com.amumal.community.domain.user.dto.request.LoginRequest;
 import com.amumal.community.domain.user.dto.request.SignupRequest;
 import com.amumal.community.domain.user.dto.response.AuthResponse;
 import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
 import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.s3.service.PresignedUploadService;
 import com.amumal.community.global.s3.service.S3Service;
 import com.amumal.community.global.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,7 +49,11 @@ class AuthServiceImplTest {
     @Mock
     private S3Service s3Service;
     @Mock
+    private PresignedUploadService presignedUploadService;
+    @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -84,6 +91,7 @@ class AuthServiceImplTest {
         void signup_WithImage_Success() throws IOException {
             // Given
             when(s3Service.uploadImage(profileImage)).thenReturn(IMAGE_URL);
+            when(presignedUploadService.acquire(IMAGE_URL)).thenReturn(IMAGE_URL);
             when(userRepository.save(any(User.class))).thenReturn(savedUser);
 
             // When
@@ -92,7 +100,10 @@ class AuthServiceImplTest {
             // Then
             assertEquals(USER_ID, resultID);
             verify(s3Service).uploadImage(profileImage);
+            // 업로드는 참조 없이 등록되므로 사용자 행이 참조를 얻어야 함
+            verify(presignedUploadService).acquire(IMAGE_URL);
             verify(userRepository).save(any(User.class));
+            verify(eventPublisher).publishEvent(new ProfileImageChangedEvent(USER_ID, IMAGE_URL));
         }
 
         @Test
@@ -119,6 +130,7 @@ class AuthServiceImplTest {
             assertEquals(USER_ID, resultID);
             verify(s3Service, never()).uploadImage(any(MultipartFile.class));
             verify(userRepository).save(any(User.class));
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -163,6 +175,7 @@ class AuthServiceImplTest {
 
             assertTrue(exception.getMessage().contains("이미지 업로드 중 오류 발생"));
             verify(s3Service).uploadImage(profileImage);
+            verifyNoInteractions(presignedUploadService);
             verify(userRepository, never()).save(any());
         }
     }
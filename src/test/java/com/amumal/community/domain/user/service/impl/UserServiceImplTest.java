@@ -4,7 +4,12 @@ import com.amumal.community.domain.user.dto.request.PasswordUpdateRequest;
 import com.amumal.community.domain.user.dto.request.UserUpdateRequest;
 import com.amumal.community.domain.user.dto.response.UserInfoResponse;
 import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.ProfileImageChangedEvent;
+import com.amumal.community.domain.user.event.UserDeletedEvent;
 import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.s3.service.ImageRenditionService;
+import com.amumal.community.global.s3.service.PresignedUploadService;
+import com.amumal.community.global.s3.service.S3DeletionQueue;
 import com.amumal.community.global.s3.service.S3Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
@@ -47,6 +53,14 @@ class UserServiceImplTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private S3Service s3Service;
+    @Mock
+    private ImageRenditionService imageRenditionService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+    @Mock
+    private PresignedUploadService presignedUploadService;
     private User testUser;
     private UserUpdateRequest updateRequest;
 
@@ -82,8 +96,9 @@ class UserServiceImplTest {
                     "image/png", "new image content".getBytes());
 
             when(s3Service.isValidS3Url(OLD_IMAGE_URL)).thenReturn(true);
-            doNothing().when(s3Service).deleteImage(OLD_IMAGE_URL);
             when(s3Service.uploadImage(newImage)).thenReturn(NEW_IMAGE_URL);
+            when(presignedUploadService.acquire(NEW_IMAGE_URL)).thenReturn(NEW_IMAGE_URL);
+            when(s3DeletionQueue.enqueue(OLD_IMAGE_URL)).thenReturn(true);
 
             // When
             userService.updateProfile(updateRequest, newImage);
@@ -93,9 +108,68 @@ class UserServiceImplTest {
             assertEquals(NEW_IMAGE_URL, testUser.getProfileImage());
 
             // 적절한 메서드 호출 확인
-            verify(s3Service).deleteImage(OLD_IMAGE_URL);
+            verify(s3DeletionQueue).enqueue(OLD_IMAGE_URL);
             verify(s3Service).uploadImage(newImage);
+            // 업로드는 참조 없이 등록되므로 사용자 행이 참조를 얻어야 함
+            verify(presignedUploadService).acquire(NEW_IMAGE_URL);
             verify(userRepository).findById(USER_ID);
+
+            // 기존 변환본 삭제 및 새 이미지 썸네일 생성 요청
+            verify(imageRenditionService).deleteRenditions(OLD_IMAGE_URL);
+            verify(eventPublisher).publishEvent(new ProfileImageChangedEvent(USER_ID, NEW_IMAGE_URL));
+        }
+
+        @Test
+        @DisplayName("이전 이미지를 다른 곳에서 아직 참조 중이면 변환본은 남겨 둠")
+        void updateProfile_OldImageStillReferenced_KeepsRenditions() throws IOException {
+            // Given
+            MultipartFile newImage = new MockMultipartFile("profileImage", "newImage.png",
+                    "image/png", "new image content".getBytes());
+            when(s3Service.uploadImage(newImage)).thenReturn(NEW_IMAGE_URL);
+            when(presignedUploadService.acquire(NEW_IMAGE_URL)).thenReturn(NEW_IMAGE_URL);
+            when(s3DeletionQueue.enqueue(OLD_IMAGE_URL)).thenReturn(false);
+
+            // When
+            userService.updateProfile(updateRequest, newImage);
+
+            // Then
+            verify(imageRenditionService, never()).deleteRenditions(anyString());
+        }
+
+        @Test
+        @DisplayName("presigned 업로드로 검증된 이미지 URL로 프로필 이미지 변경")
+        void updateProfile_WithUploadedImageUrl_Success() {
+            // Given
+            updateRequest.setProfileImageUrl(NEW_IMAGE_URL);
+            when(presignedUploadService.acquire(NEW_IMAGE_URL)).thenReturn(NEW_IMAGE_URL);
+            when(s3Service.isValidS3Url(OLD_IMAGE_URL)).thenReturn(true);
+            when(s3DeletionQueue.enqueue(OLD_IMAGE_URL)).thenReturn(true);
+
+            // When
+            userService.updateProfile(updateRequest, null);
+
+            // Then
+            assertEquals(NEW_IMAGE_URL, testUser.getProfileImage());
+            verify(imageRenditionService).deleteRenditions(OLD_IMAGE_URL);
+            verify(eventPublisher).publishEvent(new ProfileImageChangedEvent(USER_ID, NEW_IMAGE_URL));
+            verifyNoMoreInteractions(presignedUploadService);
+        }
+
+        @Test
+        @DisplayName("이미지가 바뀌면 이전 썸네일은 초기화")
+        void updateProfile_WithNewImage_ClearsThumbnail() throws IOException {
+            // Given
+            testUser.updateProfileThumbnail("http://s3.amazon.com/bucket/renditions/thumb/oldImage.jpg.jpg");
+            MultipartFile newImage = new MockMultipartFile("profileImage", "newImage.png",
+                    "image/png", "new image content".getBytes());
+            when(s3Service.uploadImage(newImage)).thenReturn(NEW_IMAGE_URL);
+            when(presignedUploadService.acquire(NEW_IMAGE_URL)).thenReturn(NEW_IMAGE_URL);
+
+            // When
+            userService.updateProfile(updateRequest, newImage);
+
+            // Then
+            assertNull(testUser.getProfileThumbnail());
         }
 
         @Test
@@ -114,7 +188,8 @@ class UserServiceImplTest {
 
             // 이미지 처리 메서드 호출 안됨 확인
             verify(s3Service, never()).uploadImage(any(MultipartFile.class));
-            verify(s3Service, never()).deleteImage(anyString());
+            verifyNoInteractions(s3DeletionQueue);
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -133,7 +208,7 @@ class UserServiceImplTest {
             assertEquals("이미 존재하는 닉네임입니다.", ex.getMessage());
 
             // 이미지 처리 메서드 호출 안됨 확인
-            verify(s3Service, never()).deleteImage(anyString());
+            verifyNoInteractions(s3DeletionQueue);
             verify(s3Service, never()).uploadImage(any());
         }
     }
@@ -216,13 +291,33 @@ class UserServiceImplTest {
     class UserDeleteTest {
 
         @Test
-        @DisplayName("사용자 삭제 성공")
+        @DisplayName("사용자 삭제 시 행을 바로 지우지 않고 논리 삭제 후 프로필 이미지 삭제 예약")
         void deleteUser_Success() {
+            // Given
+            when(s3Service.isValidS3Url(OLD_IMAGE_URL)).thenReturn(true);
+            when(s3DeletionQueue.enqueue(OLD_IMAGE_URL)).thenReturn(true);
+
             // When
             userService.deleteUser(USER_ID);
 
-            // Then
-            verify(userRepository).delete(testUser);
+            // Then: 자식 행 정리와 물리 삭제는 SoftDeletePurger가 담당
+            assertNotNull(testUser.getDeletedAt());
+            verify(userRepository, never()).delete(any(User.class));
+            verify(imageRenditionService).deleteRenditions(OLD_IMAGE_URL);
+            // 커밋 이후 인증 principal 캐시에서 제거되도록 이벤트 발행
+            verify(eventPublisher).publishEvent(new UserDeletedEvent(USER_ID));
+        }
+
+        @Test
+        @DisplayName("이미 탈퇴 처리된 사용자 삭제 시 예외 발생")
+        void deleteUser_AlreadyDeleted_ThrowsException() {
+            // Given
+            testUser.delete();
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> userService.deleteUser(USER_ID));
+            verify(s3DeletionQueue, never()).enqueue(anyString());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -0,0 +1,131 @@
+package com.amumal.community.global.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Flyway 마이그레이션을 MySQL 호환 모드 H2에 적용하고, 자주 실행되는 조회가 의도한 인덱스를 타는지 실행 계획으로 확인
+class SchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate jdbcTemplate;
+    private static MigrateResult migrateResult;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        migrateResult = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("빈 DB에 모든 마이그레이션이 순서대로 적용됨")
+    void migrate_appliesAllVersions() {
+        assertThat(migrateResult.success).isTrue();
+        assertThat(migrateResult.migrationsExecuted).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ID 구간 테이블은 테이블별 현재 최대 ID + 1에서 시작")
+    void idSequences_seededPerTable() {
+        // When
+        Long posts = jdbcTemplate.queryForObject("SELECT next_val FROM id_sequences WHERE seq_name = 'posts'", Long.class);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_sequences", Integer.class);
+
+        // Then: 빈 DB에서 적용했으므로 1부터 시작
+        assertThat(posts).isEqualTo(1L);
+        assertThat(rows).isEqualTo(3);
+    }
+
+    @Nested
+    @DisplayName("실행 계획 테스트")
+    class ExplainTest {
+
+        @Test
+        @DisplayName("좋아요 여부 확인은 (post_id, user_id) 유일 인덱스 사용")
+        void likesLookup_usesUniqueIndex() {
+            // When
+            String plan = explain("SELECT like_id FROM likes WHERE post_id = 1 AND user_id = 2 LIMIT 1");
+
+            // Then
+            assertThat(plan).contains("uk_likes_post_user");
+        }
+
+        @Test
+        @DisplayName("게시글 댓글 페이지 조회는 (post_id, deleted_at, id) 인덱스 사용")
+        void commentPage_usesPostDeletedIdIndex() {
+            // When
+            String plan = explain("SELECT id FROM comments WHERE post_id = 1 AND deleted_at IS NULL AND id > 10 "
+                    + "ORDER BY id LIMIT 21");
+
+            // Then
+            assertThat(plan).contains("idx_comments_post_deleted_id");
+        }
+
+        @Test
+        @DisplayName("최신순 게시글 목록은 (deleted_at, created_at, post_id) 인덱스 사용")
+        void newestFeed_usesDeletedCreatedIndex() {
+            // When
+            String plan = explain("SELECT post_id FROM posts WHERE deleted_at IS NULL "
+                    + "AND created_at < TIMESTAMP '2020-01-01 00:00:00' ORDER BY created_at DESC, post_id DESC LIMIT 10");
+
+            // Then
+            assertThat(plan).contains("idx_posts_deleted_created");
+        }
+
+        @Test
+        @DisplayName("보존 기간이 지난 삭제 댓글 조회는 deleted_at 인덱스 사용")
+        void purgeCandidates_useDeletedAtIndex() {
+            // When
+            String plan = explain("SELECT id FROM comments WHERE deleted_at < TIMESTAMP '2020-01-01 00:00:00' "
+                    + "ORDER BY deleted_at, id LIMIT 500");
+
+            // Then
+            assertThat(plan).contains("idx_comments_deleted_at");
+        }
+
+        @Test
+        @DisplayName("연결되지 않은 이미지 정리는 (ref_count, created_at) 인덱스 사용")
+        void unreferencedImages_useRefCountCreatedIndex() {
+            // When
+            String plan = explain("SELECT object_key FROM image_objects WHERE ref_count = 0 "
+                    + "AND created_at < TIMESTAMP '2020-01-01 00:00:00' ORDER BY created_at LIMIT 500");
+
+            // Then
+            assertThat(plan).contains("idx_image_objects_ref_count_created");
+        }
+
+        private String explain(String sql) {
+            return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 게시글에 좋아요를 두 번 저장할 수 없음")
+    void likes_duplicatePair_rejected() {
+        // Given
+        jdbcTemplate.update("INSERT INTO users (user_id, nick_name, email, password, profile_image) "
+                + "VALUES (1, 'tester', 'tester@test.com', 'pw', '')");
+        jdbcTemplate.update("INSERT INTO posts (post_id, user_id, title, contents, view, like_count, comment_count) "
+                + "VALUES (1, 1, 'title', 'content', 0, 0, 0)");
+        jdbcTemplate.update("INSERT INTO likes (post_id, user_id) VALUES (1, 1)");
+
+        // When & Then
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO likes (post_id, user_id) VALUES (1, 1)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.amumal.community.global.config;
+
+import com.amumal.community.domain.post.entity.ImageStatus;
+import com.amumal.community.domain.post.entity.Post;
+import com.amumal.community.domain.post.repository.post.PostRepository;
+import com.amumal.community.domain.user.entity.User;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 도입 전(ddl-auto=update) 스키마와 데이터가 있는 DB에 운영 설정 그대로 마이그레이션을 적용
+// baseline-on-migrate로 V1을 건너뛴 뒤 나머지 버전만으로 엔티티 매핑 검증(ddl-auto=validate)을 통과해야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=" + SchemaUpgradeTest.URL,
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaUpgradeTest {
+
+    static final String URL = "jdbc:h2:mem:upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 컨텍스트(Flyway, Hibernate)가 뜨기 전에 기존 운영 DB 상태를 만들어 둠
+    @BeforeAll
+    static void seedPreFlywaySchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline/pre_flyway_schema.sql")).execute(dataSource);
+    }
+
+    @Test
+    @DisplayName("V1은 기준선으로 기록되고 이후 버전이 모두 적용됨")
+    void migrate_baselinesExistingSchema() {
+        // When
+        MigrationInfo[] applied = flyway.info().applied();
+
+        // Then
+        assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        assertThat(applied[0].getDescription()).isEqualTo("<< Flyway Baseline >>");
+        assertThat(applied.length).isGreaterThan(1);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 게시글의 좋아요/댓글 수와 이미지 상태가 채워짐")
+    void migrate_backfillsExistingPosts() {
+        // When
+        Post first = postRepository.findById(1L).orElseThrow();
+        Post second = postRepository.findById(2L).orElseThrow();
+
+        // Then: 삭제된 댓글은 세지 않음
+        assertThat(first.getLikeCount()).isEqualTo(2);
+        assertThat(first.getCommentCount()).isEqualTo(1);
+        assertThat(first.getImageStatus()).isEqualTo(ImageStatus.READY);
+        assertThat(second.getLikeCount()).isEqualTo(1);
+        assertThat(second.getCommentCount()).isZero();
+        assertThat(second.getImageStatus()).isEqualTo(ImageStatus.NONE);
+    }
+
+    @Test
+    @DisplayName("새 게시글 ID는 기존 최대 ID 다음부터 할당")
+    void migrate_seedsIdSequencesAfterExistingRows() {
+        // Given
+        User writer = entityManager.find(User.class, 1L);
+        Post post = Post.builder()
+                .user(writer)
+                .title("third")
+                .content("content")
+                .build();
+
+        // When
+        entityManager.persistAndFlush(post);
+
+        // Then
+        Long nextPostId = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE seq_name = 'posts'", Long.class);
+        assertThat(post.getId()).isEqualTo(3L);
+        assertThat(nextPostId).isGreaterThan(3L);
+    }
+}
@@ -1,7 +1,10 @@
 package com.amumal.community.global.config.filter;
 
-import com.amumal.community.global.config.security.CustomUserDetailsService;
+import com.amumal.community.global.config.security.JwtUserDetails;
+import com.amumal.community.global.config.security.PrincipalCache;
 import com.amumal.community.global.util.JwtUtil;
+import com.amumal.community.global.util.JwtUtil.JwtClaims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,14 +19,11 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,13 +35,14 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtUtil jwtUtil;
     @Mock
-    private CustomUserDetailsService userDetailsService;
+    private PrincipalCache principalCache;
     @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
     private MockFilterChain filterChain;
-    private UserDetails userDetails;
+    private JwtUserDetails userDetails;
+    private JwtClaims claims;
 
     @BeforeEach
     void setUp() {
@@ -53,8 +54,11 @@ class JwtAuthenticationFilterTest {
         response = new MockHttpServletResponse();
         filterChain = new MockFilterChain();
 
-        // 테스트용 UserDetails 생성
-        userDetails = new User(TEST_EMAIL, "password", Collections.emptyList());
+        // 캐시된 principal
+        userDetails = new JwtUserDetails(TEST_USER_ID, TEST_EMAIL);
+
+        // 검증된 토큰 클레임
+        claims = new JwtClaims(TEST_USER_ID, TEST_EMAIL, new Date(System.currentTimeMillis() + 60_000));
     }
 
     @Test
@@ -65,12 +69,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 
         // JWT 유틸 모의 설정
-        when(jwtUtil.extractUsername(TEST_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.validateToken(TEST_TOKEN, TEST_EMAIL)).thenReturn(true);
-        when(jwtUtil.extractUserId(TEST_TOKEN)).thenReturn(TEST_USER_ID);
-
-        // UserDetailsService 모의 설정
-        when(userDetailsService.loadUserByUsername(TEST_EMAIL)).thenReturn(userDetails);
+        when(jwtUtil.parse(TEST_TOKEN)).thenReturn(claims);
+        when(principalCache.get(TEST_USER_ID)).thenReturn(userDetails);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -81,13 +81,36 @@ class JwtAuthenticationFilterTest {
         assertNotNull(authentication);
         assertEquals(TEST_EMAIL, authentication.getName());
 
+        // 캐시된 principal이 그대로 사용되었는지 확인
+        JwtUserDetails principal = assertInstanceOf(JwtUserDetails.class, authentication.getPrincipal());
+        assertSame(userDetails, principal);
+        assertEquals(TEST_USER_ID, principal.getId());
+
         // userId가 request 속성으로 추가되었는지 확인
         assertEquals(TEST_USER_ID, request.getAttribute("userId"));
 
-        // 필터 체인이 계속 진행되었는지 확인
-        verify(userDetailsService).loadUserByUsername(TEST_EMAIL);
-        verify(jwtUtil).validateToken(TEST_TOKEN, TEST_EMAIL);
-        verify(jwtUtil).extractUserId(TEST_TOKEN);
+        // 토큰은 한 번만 파싱되어야 함
+        verify(jwtUtil, times(1)).parse(TEST_TOKEN);
+        verifyNoMoreInteractions(jwtUtil);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 만료 전이라도 인증하지 않아야 함")
+    void doFilterInternal_WithDeletedUser_ShouldNotAuthenticate() throws ServletException, IOException {
+        // Given: 서명과 만료는 유효하지만 principal 캐시가 탈퇴한 사용자로 판단
+        request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
+
+        when(jwtUtil.parse(TEST_TOKEN)).thenReturn(claims);
+        when(principalCache.get(TEST_USER_ID)).thenReturn(null);
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNull(request.getAttribute("userId"));
+        // 인증 없이 필터 체인은 계속 진행 (보호된 API는 이후 401)
+        assertNotNull(filterChain.getRequest());
     }
 
     @Test
@@ -103,9 +126,9 @@ class JwtAuthenticationFilterTest {
         // SecurityContext에 인증 객체가 설정되지 않았는지 확인
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
-        // UserDetailsService나 JwtUtil이 호출되지 않았는지 확인
-        verify(userDetailsService, never()).loadUserByUsername(anyString());
-        verify(jwtUtil, never()).validateToken(anyString(), anyString());
+        // principal 캐시나 JwtUtil이 호출되지 않았는지 확인
+        verifyNoInteractions(principalCache);
+        verifyNoInteractions(jwtUtil);
     }
 
     @Test
@@ -122,9 +145,9 @@ class JwtAuthenticationFilterTest {
         // SecurityContext에 인증 객체가 설정되지 않았는지 확인
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
-        // UserDetailsService나 JwtUtil이 호출되지 않았는지 확인
-        verify(userDetailsService, never()).loadUserByUsername(anyString());
-        verify(jwtUtil, never()).validateToken(anyString(), anyString());
+        // principal 캐시나 JwtUtil이 호출되지 않았는지 확인
+        verifyNoInteractions(principalCache);
+        verifyNoInteractions(jwtUtil);
     }
 
     @Test
@@ -134,8 +157,8 @@ class JwtAuthenticationFilterTest {
         // Authorization 헤더에 Bearer 토큰 설정
         request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 
-        // JWT 추출 시 예외 발생하도록 설정
-        when(jwtUtil.extractUsername(TEST_TOKEN)).thenThrow(new RuntimeException("토큰 처리 오류"));
+        // JWT 파싱 시 예외 발생하도록 설정
+        when(jwtUtil.parse(TEST_TOKEN)).thenThrow(new RuntimeException("토큰 처리 오류"));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -145,54 +168,45 @@ class JwtAuthenticationFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
         // 예외가 발생했지만 필터 체인은 계속 진행되어야 함
-        verify(jwtUtil).extractUsername(TEST_TOKEN);
-        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(jwtUtil).parse(TEST_TOKEN);
+        verifyNoInteractions(principalCache);
     }
 
     @Test
-    @DisplayName("토큰 검증 실패 시 인증을 설정하지 않아야 함")
-    void doFilterInternal_WithInvalidToken_ShouldNotAuthenticate() throws ServletException, IOException {
+    @DisplayName("만료된 토큰이면 인증을 설정하지 않아야 함")
+    void doFilterInternal_WithExpiredToken_ShouldNotAuthenticate() throws ServletException, IOException {
         // Given
         request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
-
-        // 이메일 추출은 성공하지만 토큰 검증은 실패하도록 설정
-        when(jwtUtil.extractUsername(TEST_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.validateToken(TEST_TOKEN, TEST_EMAIL)).thenReturn(false);
-        when(userDetailsService.loadUserByUsername(TEST_EMAIL)).thenReturn(userDetails);
+        when(jwtUtil.parse(TEST_TOKEN)).thenThrow(new ExpiredJwtException(null, null, "expired"));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
-        // SecurityContext에 인증 객체가 설정되지 않았는지 확인
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-
-        // 토큰은 검증되었지만 인증이 설정되지 않아야 함
-        verify(jwtUtil).extractUsername(TEST_TOKEN);
-        verify(userDetailsService).loadUserByUsername(TEST_EMAIL);
-        verify(jwtUtil).validateToken(TEST_TOKEN, TEST_EMAIL);
-        verify(jwtUtil, never()).extractUserId(anyString());
+        assertNull(request.getAttribute("userId"));
+        verifyNoInteractions(principalCache);
     }
 
     @Test
-    @DisplayName("이미 인증된 상태에서는 토큰 처리를 시도하지 않아야 함")
+    @DisplayName("이미 인증된 상태에서는 principal을 다시 만들지 않아야 함")
     void doFilterInternal_WhenAlreadyAuthenticated_ShouldNotProcessToken() throws ServletException, IOException {
         // Given
         request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 
         // 이미 인증된 상태로 설정
-        SecurityContextHolder.getContext().setAuthentication(
-                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        Authentication existing = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(existing);
 
-        when(jwtUtil.extractUsername(TEST_TOKEN)).thenReturn(TEST_EMAIL);
+        when(jwtUtil.parse(TEST_TOKEN)).thenReturn(claims);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
-        // UserDetailsService가 호출되지 않았는지 확인
-        verify(jwtUtil).extractUsername(TEST_TOKEN);
-        verify(userDetailsService, never()).loadUserByUsername(anyString());
-        verify(jwtUtil, never()).validateToken(anyString(), anyString());
+        // 기존 인증이 유지되고 principal 캐시가 호출되지 않았는지 확인
+        assertSame(existing, SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtUtil).parse(TEST_TOKEN);
+        verifyNoInteractions(principalCache);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.amumal.community.global.config.security;
+
+import com.amumal.community.domain.user.entity.User;
+import com.amumal.community.domain.user.event.UserDeletedEvent;
+import com.amumal.community.domain.user.repository.UserRepository;
+import com.amumal.community.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String USER_EMAIL = "test@test.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new ConcurrentMapCacheManager(CacheConfig.PRINCIPAL_CACHE), userRepository);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않고 같은 불변 principal을 반환")
+    void get_cachedAfterFirstLoad() {
+        // Given
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user()));
+
+        // When
+        JwtUserDetails first = principalCache.get(USER_ID);
+        JwtUserDetails second = principalCache.get(USER_ID);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(USER_ID, second.getId());
+        assertEquals(USER_EMAIL, second.getUsername());
+        assertNull(second.getPassword());
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 null을 반환하고 캐시하지 않음")
+    void get_deletedUser_returnsNullAndNotCached() {
+        // Given
+        User deletedUser = user();
+        deletedUser.delete();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(deletedUser));
+
+        // When
+        JwtUserDetails first = principalCache.get(USER_ID);
+        JwtUserDetails second = principalCache.get(USER_ID);
+
+        // Then
+        assertNull(first);
+        assertNull(second);
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("탈퇴 이벤트를 받으면 캐시에서 제거되어 다음 요청은 인증되지 않음")
+    void onUserDeleted_evictsEntry() {
+        // Given: 캐시된 뒤 탈퇴가 커밋됨
+        User user = user();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        assertNotNull(principalCache.get(USER_ID));
+        user.delete();
+
+        // When
+        principalCache.onUserDeleted(new UserDeletedEvent(USER_ID));
+
+        // Then
+        assertNull(principalCache.get(USER_ID));
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("탈퇴 전 행을 읽은 조회가 무효화 뒤에 끝나도 캐시에 남지 않음")
+    void get_deletionCommittedDuringLoad_notCached() {
+        // Given: 조회가 탈퇴 전 행을 읽은 직후 탈퇴가 커밋되어 무효화됨
+        User deletedUser = user();
+        deletedUser.delete();
+        when(userRepository.findById(USER_ID))
+                .thenAnswer(invocation -> {
+                    principalCache.onUserDeleted(new UserDeletedEvent(USER_ID));
+                    return Optional.of(user());
+                })
+                .thenReturn(Optional.of(deletedUser));
+
+        // When
+        JwtUserDetails racing = principalCache.get(USER_ID);
+        JwtUserDetails next = principalCache.get(USER_ID);
+
+        // Then: 경쟁한 요청만 탈퇴 전 결과를 받고 다음 요청은 인증되지 않음
+        assertNotNull(racing);
+        assertNull(next);
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    private User user() {
+        return User.builder()
+                .id(USER_ID)
+                .nickname("tester")
+                .email(USER_EMAIL)
+                .password("encoded")
+                .build();
+    }
+}
@@ -1,7 +1,12 @@
 package com.amumal.community.global.s3.controller;
 
 import com.amumal.community.global.dto.ApiResponse;
+import com.amumal.community.global.s3.dto.request.PresignedUploadCompleteRequest;
+import com.amumal.community.global.s3.dto.request.PresignedUploadRequest;
+import com.amumal.community.global.s3.dto.response.PresignedUploadResponse;
+import com.amumal.community.global.s3.service.PresignedUploadService;
 import com.amumal.community.global.s3.service.S3Service;
+import com.amumal.community.global.s3.service.S3StreamUploader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,6 +26,9 @@ import java.io.IOException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +37,12 @@ class ImageControllerTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private S3StreamUploader s3StreamUploader;
+
+    @Mock
+    private PresignedUploadService presignedUploadService;
+
     @Mock
     private UserDetails userDetails;
 
@@ -167,4 +182,87 @@ class ImageControllerTest {
         assertNull(response.getBody().getData());
         verify(s3Service, never()).uploadImage(any(MultipartFile.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 업로드 시 요청 본문 스트림을 그대로 S3 업로더에 전달")
+    void uploadImageStream_ShouldPipeRequestBody() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("image/png");
+        request.setContent("png bytes".getBytes());
+        String expectedUrl = "https://s3-bucket.amazonaws.com/stream.png";
+        when(s3StreamUploader.upload(any(), eq("stream.png"), eq("image/png"), anyLong())).thenReturn(expectedUrl);
+
+        // When
+        ResponseEntity<ApiResponse<String>> response =
+                imageController.uploadImageStream(request, "image/png", "stream.png", userDetails);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedUrl, response.getBody().getData());
+        verify(s3StreamUploader).upload(request.getInputStream(), "stream.png", "image/png", 10 * 1024 * 1024);
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("Content-Length가 제한을 넘으면 본문을 읽지 않고 거절")
+    void uploadImageStream_WithLargeContentLength_ShouldReject() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("image/png");
+        request.setContent(new byte[11 * 1024 * 1024]);
+
+        // When
+        ResponseEntity<ApiResponse<String>> response =
+                imageController.uploadImageStream(request, "image/png", "large.png", userDetails);
+
+        // Then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertEquals("image_too_large", response.getBody().getMessage());
+        verify(s3StreamUploader, never()).upload(any(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("presigned URL 발급 요청은 서비스 응답을 그대로 반환")
+    void createPresignedUpload_ShouldReturnPresignedUrl() {
+        // Given
+        PresignedUploadRequest request = PresignedUploadRequest.builder()
+                .contentType("image/png")
+                .contentLength(1024L)
+                .checksumSha256("a".repeat(64))
+                .build();
+        PresignedUploadResponse presigned = PresignedUploadResponse.builder()
+                .objectKey("images/" + "a".repeat(64))
+                .uploadUrl("https://s3-bucket.amazonaws.com/images/aaa?X-Amz-Signature=sig")
+                .build();
+        when(presignedUploadService.presign(request)).thenReturn(presigned);
+
+        // When
+        ResponseEntity<ApiResponse<PresignedUploadResponse>> response =
+                imageController.createPresignedUpload(request, userDetails);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("presign_success", response.getBody().getMessage());
+        assertEquals(presigned, response.getBody().getData());
+        verifyNoInteractions(s3Service, s3StreamUploader);
+    }
+
+    @Test
+    @DisplayName("presigned 업로드 완료 시 검증된 이미지 URL 반환")
+    void completePresignedUpload_ShouldReturnImageUrl() {
+        // Given
+        String objectKey = "images/" + "a".repeat(64);
+        String expectedUrl = "https://s3-bucket.amazonaws.com/" + objectKey;
+        when(presignedUploadService.complete(objectKey)).thenReturn(expectedUrl);
+
+        // When
+        ResponseEntity<ApiResponse<String>> response =
+                imageController.completePresignedUpload(new PresignedUploadCompleteRequest(objectKey), userDetails);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("upload_success", response.getBody().getMessage());
+        assertEquals(expectedUrl, response.getBody().getData());
+    }
+}
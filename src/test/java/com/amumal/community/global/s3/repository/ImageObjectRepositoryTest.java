@@ -0,0 +1,115 @@
+package com.amumal.community.global.s3.repository;
+
+import com.amumal.community.global.s3.entity.ImageObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ImageObjectRepositoryTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String KEY = "images/" + HASH;
+
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 내용 해시가 있으면 참조 수를 늘림")
+    void incrementByContentHash_IncreasesRefCount() {
+        // Given
+        ImageObject object = entityManager.persist(ImageObject.firstReference(HASH, KEY));
+
+        // When
+        int updated = imageObjectRepository.incrementByContentHash(HASH);
+        int missing = imageObjectRepository.incrementByContentHash("b".repeat(64));
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        entityManager.clear();
+        assertThat(entityManager.find(ImageObject.class, object.getId()).getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조가 둘 이상이면 삭제하지 않고 감소만 가능")
+    void deleteLastReference_OnlyWhenSingleReference() {
+        // Given
+        ImageObject object = entityManager.persist(ImageObject.firstReference(HASH, KEY));
+        imageObjectRepository.incrementByContentHash(HASH);
+
+        // When & Then: 참조 2 -> 삭제 불가, 감소 후 1 -> 삭제
+        assertThat(imageObjectRepository.deleteLastReference(KEY)).isZero();
+        assertThat(imageObjectRepository.decrementByObjectKey(KEY)).isEqualTo(1);
+        assertThat(imageObjectRepository.decrementByObjectKey(KEY)).isZero();
+        assertThat(imageObjectRepository.deleteLastReference(KEY)).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(entityManager.find(ImageObject.class, object.getId())).isNull();
+        assertThat(imageObjectRepository.existsByObjectKey(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증만 된 객체(참조 0)는 키로 참조를 얻고, 마지막 참조 해제 시 삭제")
+    void incrementByObjectKey_VerifiedObject() {
+        // Given
+        ImageObject object = entityManager.persist(ImageObject.verified(HASH, KEY));
+
+        // When
+        int updated = imageObjectRepository.incrementByObjectKey(KEY);
+        int missing = imageObjectRepository.incrementByObjectKey("images/" + "b".repeat(64));
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        entityManager.clear();
+        assertThat(entityManager.find(ImageObject.class, object.getId()).getRefCount()).isEqualTo(1);
+        assertThat(imageObjectRepository.deleteLastReference(KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주어진 키 중 인덱스에 남아 있는 키만 조회")
+    void findObjectKeysIn_ReturnsIndexedKeysOnly() {
+        // Given
+        entityManager.persist(ImageObject.firstReference(HASH, KEY));
+
+        // When
+        List<String> keys = imageObjectRepository.findObjectKeysIn(List.of(KEY, "uuid_legacy.png"));
+
+        // Then
+        assertThat(keys).containsExactly(KEY);
+    }
+
+    @Test
+    @DisplayName("기준 시각 전에 등록된 참조 0 행만 조회하고, 그 사이 참조를 얻은 행은 지우지 않음")
+    void findAndDeleteUnreferenced_SkipsReferenced() {
+        // Given
+        String referencedKey = "images/" + "b".repeat(64);
+        entityManager.persist(ImageObject.verified(HASH, KEY));
+        entityManager.persist(ImageObject.firstReference("b".repeat(64), referencedKey));
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        List<String> keys = imageObjectRepository.findUnreferencedKeys(cutoff, PageRequest.of(0, 10));
+        List<String> none = imageObjectRepository.findUnreferencedKeys(cutoff.minusHours(1), PageRequest.of(0, 10));
+        int deleted = imageObjectRepository.deleteUnreferenced(List.of(KEY, referencedKey));
+
+        // Then
+        assertThat(keys).containsExactly(KEY);
+        assertThat(none).isEmpty();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(imageObjectRepository.existsByObjectKey(KEY)).isFalse();
+        assertThat(imageObjectRepository.existsByObjectKey(referencedKey)).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.amumal.community.global.s3.repository;
+
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class S3DeletionOutboxRepositoryTest {
+
+    @Autowired
+    private S3DeletionOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("재시도 시각이 지난 항목만 오래된 순서로 조회")
+    void findDue_ReturnsOnlyDueEntriesInOrder() {
+        // Given
+        S3DeletionOutbox first = entityManager.persist(S3DeletionOutbox.of("a.jpg"));
+        S3DeletionOutbox second = entityManager.persist(S3DeletionOutbox.of("b.jpg"));
+        S3DeletionOutbox postponed = entityManager.persist(S3DeletionOutbox.of("c.jpg"));
+        outboxRepository.postpone(List.of(postponed.getId()), LocalDateTime.now().plusMinutes(10));
+
+        // When
+        List<S3DeletionOutbox> due = outboxRepository.findDue(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(due).extracting(S3DeletionOutbox::getId).containsExactly(first.getId(), second.getId());
+        assertThat(outboxRepository.findById(postponed.getId()))
+                .get()
+                .extracting(S3DeletionOutbox::getAttempts)
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 완료된 항목을 id로 일괄 삭제")
+    void deleteByIds_RemovesEntries() {
+        // Given
+        S3DeletionOutbox entry = entityManager.persist(S3DeletionOutbox.of("a.jpg"));
+        entityManager.persist(S3DeletionOutbox.of("b.jpg"));
+
+        // When
+        int deleted = outboxRepository.deleteByIds(List.of(entry.getId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,253 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.s3.entity.ImageObject;
+import com.amumal.community.global.s3.repository.ImageObjectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageObjectIndexTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String KEY = "images/" + HASH;
+
+    @Mock
+    private ImageObjectRepository imageObjectRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @InjectMocks
+    private ImageObjectIndex imageObjectIndex;
+
+    @Nested
+    @DisplayName("참조 등록")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("이미 있는 내용이면 참조만 늘리고 true")
+        void acquireExisting_Known_ReturnsTrue() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(true);
+            when(imageObjectRepository.incrementByContentHash(HASH)).thenReturn(1);
+
+            // When & Then
+            assertTrue(imageObjectIndex.acquireExisting(HASH));
+        }
+
+        @Test
+        @DisplayName("없는 내용이면 UPDATE 없이 false (갭 락을 남기지 않음)")
+        void acquireExisting_Unknown_SkipsUpdate() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(false);
+
+            // When & Then
+            assertFalse(imageObjectIndex.acquireExisting(HASH));
+            verify(imageObjectRepository, never()).incrementByContentHash(HASH);
+        }
+
+        @Test
+        @DisplayName("처음 올린 내용이면 별도 트랜잭션에서 참조 0으로 등록한 뒤 참조를 늘림")
+        void acquire_New_RegistersInNewTransactionThenIncrements() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(false);
+            when(imageObjectRepository.incrementByContentHash(HASH)).thenReturn(1);
+
+            // When
+            imageObjectIndex.acquire(HASH, KEY);
+
+            // Then
+            ArgumentCaptor<ImageObject> captor = ArgumentCaptor.forClass(ImageObject.class);
+            verify(imageObjectRepository).saveAndFlush(captor.capture());
+            assertEquals(KEY, captor.getValue().getObjectKey());
+            assertEquals(0, captor.getValue().getRefCount());
+            verify(transactionManager).getTransaction(argThat(definition ->
+                    definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+            verify(imageObjectRepository).incrementByContentHash(HASH);
+        }
+
+        @Test
+        @DisplayName("동시에 먼저 등록된 내용이면 unique 위반을 무시하고 참조만 증가")
+        void acquire_ConcurrentFirstUpload_FallsBackToIncrement() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(false);
+            when(imageObjectRepository.saveAndFlush(any(ImageObject.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_image_objects_content_hash"));
+            when(imageObjectRepository.incrementByContentHash(HASH)).thenReturn(1);
+
+            // When & Then
+            assertDoesNotThrow(() -> imageObjectIndex.acquire(HASH, KEY));
+            verify(imageObjectRepository).incrementByContentHash(HASH);
+        }
+
+        @Test
+        @DisplayName("업로드 사이 다른 요청이 먼저 등록했으면 참조만 증가")
+        void acquire_RegisteredMeanwhile_IncrementsOnly() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(true);
+            when(imageObjectRepository.incrementByContentHash(HASH)).thenReturn(1);
+
+            // When
+            imageObjectIndex.acquire(HASH, KEY);
+
+            // Then
+            verify(imageObjectRepository, never()).saveAndFlush(any());
+            verifyNoInteractions(transactionManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("presigned 업로드 등록")
+    class RegisterVerifiedTest {
+
+        @Test
+        @DisplayName("검증된 객체는 참조 수 0으로 등록")
+        void registerVerified_New_SavesWithoutReference() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(false);
+
+            // When
+            imageObjectIndex.registerVerified(HASH, KEY);
+
+            // Then
+            ArgumentCaptor<ImageObject> captor = ArgumentCaptor.forClass(ImageObject.class);
+            verify(imageObjectRepository).saveAndFlush(captor.capture());
+            assertEquals(0, captor.getValue().getRefCount());
+        }
+
+        @Test
+        @DisplayName("확인과 등록 사이 다른 요청이 먼저 등록하면 unique 위반을 성공으로 처리")
+        void registerVerified_ConcurrentRegistration_TreatedAsSuccess() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(false);
+            when(imageObjectRepository.saveAndFlush(any(ImageObject.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_image_objects_content_hash"));
+
+            // When & Then
+            assertDoesNotThrow(() -> imageObjectIndex.registerVerified(HASH, KEY));
+        }
+
+        @Test
+        @DisplayName("이미 등록된 내용이면 그대로 둠")
+        void registerVerified_Existing_Ignored() {
+            // Given
+            when(imageObjectRepository.existsByContentHash(HASH)).thenReturn(true);
+
+            // When
+            imageObjectIndex.registerVerified(HASH, KEY);
+
+            // Then
+            verify(imageObjectRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("인덱스에 없는 키는 참조를 얻을 수 없음")
+        void acquireByObjectKey_Unknown_ReturnsFalse() {
+            // Given
+            when(imageObjectRepository.incrementByObjectKey(KEY)).thenReturn(0);
+
+            // When & Then
+            assertFalse(imageObjectIndex.acquireByObjectKey(KEY));
+        }
+    }
+
+    @Nested
+    @DisplayName("참조 해제")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("마지막 참조면 행을 지우고 true")
+        void release_LastReference_ReturnsTrue() {
+            // Given
+            when(imageObjectRepository.deleteLastReference(KEY)).thenReturn(1);
+
+            // When & Then
+            assertTrue(imageObjectIndex.release(KEY));
+            verify(imageObjectRepository, never()).decrementByObjectKey(KEY);
+        }
+
+        @Test
+        @DisplayName("다른 참조가 남아 있으면 감소만 하고 false")
+        void release_SharedReference_ReturnsFalse() {
+            // Given
+            when(imageObjectRepository.deleteLastReference(KEY)).thenReturn(0);
+            when(imageObjectRepository.decrementByObjectKey(KEY)).thenReturn(1);
+
+            // When & Then
+            assertFalse(imageObjectIndex.release(KEY));
+        }
+
+        @Test
+        @DisplayName("인덱스에 없는 기존 키는 바로 삭제 대상")
+        void release_UnknownKey_ReturnsTrue() {
+            // Given
+            when(imageObjectRepository.deleteLastReference("uuid_legacy.png")).thenReturn(0);
+            when(imageObjectRepository.decrementByObjectKey("uuid_legacy.png")).thenReturn(0);
+            when(imageObjectRepository.existsByObjectKey("uuid_legacy.png")).thenReturn(false);
+
+            // When & Then
+            assertTrue(imageObjectIndex.release("uuid_legacy.png"));
+        }
+
+        @Test
+        @DisplayName("두 쿼리 사이 다른 해제가 끼어들면 다시 시도")
+        void release_ConcurrentRelease_Retries() {
+            // Given: 첫 시도에는 참조 2라 삭제 실패, 감소 직전 다른 해제로 1이 되어 감소도 실패
+            when(imageObjectRepository.deleteLastReference(KEY)).thenReturn(0).thenReturn(1);
+            when(imageObjectRepository.decrementByObjectKey(KEY)).thenReturn(0);
+            when(imageObjectRepository.existsByObjectKey(KEY)).thenReturn(true);
+
+            // When & Then
+            assertTrue(imageObjectIndex.release(KEY));
+            verify(imageObjectRepository, times(2)).deleteLastReference(KEY);
+        }
+    }
+
+    @Test
+    @DisplayName("오래된 참조 0 행을 지우고 그 키를 반환")
+    void removeUnreferenced_DeletesAndReturnsKeys() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(imageObjectRepository.findUnreferencedKeys(eq(cutoff), any())).thenReturn(List.of(KEY));
+
+        // When
+        List<String> removed = imageObjectIndex.removeUnreferenced(cutoff, 10);
+
+        // Then
+        assertEquals(List.of(KEY), removed);
+        verify(imageObjectRepository).deleteUnreferenced(List.of(KEY));
+    }
+
+    @Test
+    @DisplayName("정리할 행이 없으면 삭제하지 않음")
+    void removeUnreferenced_None_SkipsDelete() {
+        // Given
+        when(imageObjectRepository.findUnreferencedKeys(any(), any())).thenReturn(List.of());
+
+        // When & Then
+        assertEquals(List.of(), imageObjectIndex.removeUnreferenced(LocalDateTime.now(), 10));
+        verify(imageObjectRepository, never()).deleteUnreferenced(any());
+    }
+
+    @Test
+    @DisplayName("빈 키 목록이면 조회하지 않음")
+    void findReferencedKeys_Empty_SkipsQuery() {
+        // When & Then
+        assertEquals(Set.of(), imageObjectIndex.findReferencedKeys(List.of()));
+        verifyNoInteractions(imageObjectRepository);
+    }
+}
@@ -0,0 +1,141 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.ImageRendition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionServiceTest {
+
+    private static final String ORIGINAL_KEY = "uuid_avatar.png";
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/" + ORIGINAL_KEY;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    private ImageRenditionService renditionService;
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개, 대기열 1개, 최대 1,000만 픽셀
+        renditionService = new ImageRenditionService(s3Service, s3DeletionQueue, 1, 1, 10_000_000L, 0.8f);
+        when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn(ORIGINAL_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        renditionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본 이미지로 요청한 크기의 JPEG 변환본만 파생 키에 업로드")
+    void generate_UploadsRequestedRenditions() throws IOException {
+        // Given: 2000x1000 PNG 원본
+        when(s3Service.downloadObject(ORIGINAL_KEY)).thenReturn(png(2000, 1000));
+        when(s3Service.uploadBytes(anyString(), any(byte[].class), eq("image/jpeg")))
+                .thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+        // When
+        Map<ImageRendition, String> urls = renditionService.generate(IMAGE_URL,
+                Set.of(ImageRendition.THUMBNAIL, ImageRendition.FULL)).join();
+
+        // Then
+        assertEquals("https://cdn/renditions/thumb/uuid_avatar.png.jpg", urls.get(ImageRendition.THUMBNAIL));
+        assertEquals(2, urls.size());
+        verify(s3Service, never()).uploadBytes(eq("renditions/feed/uuid_avatar.png.jpg"), any(byte[].class), anyString());
+
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadBytes(eq("renditions/thumb/uuid_avatar.png.jpg"), thumbnail.capture(), eq("image/jpeg"));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+        assertEquals(96, decoded.getWidth());
+        assertEquals(48, decoded.getHeight());
+
+        ArgumentCaptor<byte[]> full = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadBytes(eq("renditions/full/uuid_avatar.png.jpg"), full.capture(), eq("image/jpeg"));
+        assertEquals(1280, ImageIO.read(new ByteArrayInputStream(full.getValue())).getWidth());
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 변환본은 확대하지 않음")
+    void generate_DoesNotUpscaleSmallImages() throws IOException {
+        // Given
+        when(s3Service.downloadObject(ORIGINAL_KEY)).thenReturn(png(80, 40));
+        when(s3Service.uploadBytes(anyString(), any(byte[].class), anyString())).thenReturn("url");
+
+        // When
+        renditionService.generate(IMAGE_URL, Set.of(ImageRendition.FEED)).join();
+
+        // Then
+        ArgumentCaptor<byte[]> feed = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadBytes(eq("renditions/feed/uuid_avatar.png.jpg"), feed.capture(), anyString());
+        assertEquals(80, ImageIO.read(new ByteArrayInputStream(feed.getValue())).getWidth());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 원본이면 업로드 없이 실패")
+    void generate_UndecodableSource_Fails() {
+        // Given
+        when(s3Service.downloadObject(ORIGINAL_KEY)).thenReturn("not an image".getBytes());
+
+        // When & Then
+        assertThrows(CompletionException.class, () -> renditionService.generate(IMAGE_URL, Set.of(ImageRendition.THUMBNAIL)).join());
+        verify(s3Service, never()).uploadBytes(anyString(), any(byte[].class), anyString());
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 원본은 디코딩하지 않고 실패")
+    void generate_TooManyPixels_Fails() throws IOException {
+        // Given
+        renditionService.shutdown();
+        renditionService = new ImageRenditionService(s3Service, s3DeletionQueue, 1, 1, 100L, 0.8f);
+        when(s3Service.downloadObject(ORIGINAL_KEY)).thenReturn(png(20, 20));
+
+        // When & Then
+        assertThrows(CompletionException.class, () -> renditionService.generate(IMAGE_URL, Set.of(ImageRendition.THUMBNAIL)).join());
+        verify(s3Service, never()).uploadBytes(anyString(), any(byte[].class), anyString());
+    }
+
+    @Test
+    @DisplayName("변환본 삭제 시 모든 파생 키를 삭제 outbox에 등록")
+    void deleteRenditions_EnqueuesAllDerivedKeys() {
+        // When
+        renditionService.deleteRenditions(IMAGE_URL);
+
+        // Then
+        verify(s3DeletionQueue).enqueueKeys(List.of(
+                "renditions/thumb/uuid_avatar.png.jpg",
+                "renditions/feed/uuid_avatar.png.jpg",
+                "renditions/full/uuid_avatar.png.jpg"));
+        verify(s3Service, never()).deleteObject(anyString());
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,284 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+import com.amumal.community.global.s3.dto.request.PresignedUploadRequest;
+import com.amumal.community.global.s3.dto.response.PresignedUploadResponse;
+import com.amumal.community.global.util.ContentHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresignedUploadServiceTest {
+
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String OBJECT_KEY = "images/" + CONTENT_HASH;
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/" + OBJECT_KEY;
+    private static final long MAX_BYTES = 1024;
+
+    @Mock
+    private S3Presigner s3Presigner;
+    @Mock
+    private S3Client s3Client;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+
+    private PresignedUploadService presignedUploadService;
+
+    @BeforeEach
+    void setUp() {
+        presignedUploadService = new PresignedUploadService(s3Presigner, s3Client, s3Service, s3DeletionQueue,
+                imageObjectIndex, "bucket", MAX_BYTES, 300, 3600);
+    }
+
+    @Nested
+    @DisplayName("presigned URL 발급")
+    class PresignTest {
+
+        private final PresignedUploadRequest request = PresignedUploadRequest.builder()
+                .contentType("image/png")
+                .contentLength(512L)
+                .checksumSha256(CONTENT_HASH)
+                .build();
+
+        @Test
+        @DisplayName("형식/크기/체크섬을 서명한 PUT URL과 클라이언트가 보낼 헤더를 반환")
+        void presign_SignsConstraints() throws Exception {
+            // Given
+            when(s3Service.createContentKey(CONTENT_HASH)).thenReturn(OBJECT_KEY);
+            when(s3Service.getPublicUrl(OBJECT_KEY)).thenReturn(IMAGE_URL);
+            PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+            when(presigned.url()).thenReturn(new URL("https://bucket.s3.amazonaws.com/" + OBJECT_KEY + "?X-Amz-Signature=sig"));
+            when(presigned.expiration()).thenReturn(Instant.parse("2026-01-01T00:05:00Z"));
+            when(presigned.signedHeaders()).thenReturn(Map.of(
+                    "host", List.of("bucket.s3.amazonaws.com"),
+                    "content-type", List.of("image/png")));
+            when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+
+            // When
+            PresignedUploadResponse response = presignedUploadService.presign(request);
+
+            // Then
+            ArgumentCaptor<PutObjectPresignRequest> captor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+            verify(s3Presigner).presignPutObject(captor.capture());
+            assertEquals(OBJECT_KEY, captor.getValue().putObjectRequest().key());
+            assertEquals("image/png", captor.getValue().putObjectRequest().contentType());
+            assertEquals(512L, captor.getValue().putObjectRequest().contentLength());
+            assertEquals(ContentHash.hexToBase64(CONTENT_HASH), captor.getValue().putObjectRequest().checksumSHA256());
+
+            assertFalse(response.alreadyUploaded());
+            assertEquals(IMAGE_URL, response.imageUrl());
+            assertEquals(Map.of("content-type", "image/png"), response.headers());
+
+            // 완료 확인이 오지 않는 경우를 대비해 만료 + 유예 시간 뒤 삭제를 예약
+            ArgumentCaptor<LocalDateTime> notBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(s3DeletionQueue).discardAfter(eq(OBJECT_KEY), notBefore.capture());
+            assertTrue(notBefore.getValue().isAfter(LocalDateTime.now().plusSeconds(3600)));
+        }
+
+        @Test
+        @DisplayName("같은 내용이 이미 저장되어 있으면 URL 없이 기존 이미지 URL 반환")
+        void presign_AlreadyStored_SkipsUpload() {
+            // Given
+            when(s3Service.createContentKey(CONTENT_HASH)).thenReturn(OBJECT_KEY);
+            when(s3Service.getPublicUrl(OBJECT_KEY)).thenReturn(IMAGE_URL);
+            when(imageObjectIndex.isStored(CONTENT_HASH)).thenReturn(true);
+
+            // When
+            PresignedUploadResponse response = presignedUploadService.presign(request);
+
+            // Then
+            assertTrue(response.alreadyUploaded());
+            assertNull(response.uploadUrl());
+            verifyNoInteractions(s3Presigner, s3DeletionQueue);
+        }
+
+        @Test
+        @DisplayName("허용 크기를 넘으면 서명하지 않음")
+        void presign_TooLarge_Rejected() {
+            // Given
+            PresignedUploadRequest large = PresignedUploadRequest.builder()
+                    .contentType("image/png")
+                    .contentLength(MAX_BYTES + 1)
+                    .checksumSha256(CONTENT_HASH)
+                    .build();
+
+            // When
+            CustomException exception = assertThrows(CustomException.class, () -> presignedUploadService.presign(large));
+
+            // Then
+            assertEquals(CustomResponseStatus.PAYLOAD_TOO_LARGE, exception.getStatus());
+            verifyNoInteractions(s3Presigner);
+        }
+    }
+
+    @Nested
+    @DisplayName("업로드 완료 검증")
+    class CompleteTest {
+
+        @BeforeEach
+        void setUp() {
+            when(s3Service.contentHashOf(OBJECT_KEY)).thenReturn(CONTENT_HASH);
+            when(s3Service.getPublicUrl(OBJECT_KEY)).thenReturn(IMAGE_URL);
+        }
+
+        @Test
+        @DisplayName("HEAD 결과가 조건에 맞으면 인덱스에 등록하고 URL 반환")
+        void complete_ValidObject_Registers() {
+            // Given
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(512L, "image/png", CONTENT_HASH));
+
+            // When
+            String imageUrl = presignedUploadService.complete(OBJECT_KEY);
+
+            // Then
+            assertEquals(IMAGE_URL, imageUrl);
+            ArgumentCaptor<HeadObjectRequest> captor = ArgumentCaptor.forClass(HeadObjectRequest.class);
+            verify(s3Client).headObject(captor.capture());
+            assertEquals(ChecksumMode.ENABLED, captor.getValue().checksumMode());
+            verify(imageObjectIndex).registerVerified(CONTENT_HASH, OBJECT_KEY);
+        }
+
+        @Test
+        @DisplayName("크기/형식/체크섬이 맞지 않으면 등록하지 않고 객체 삭제를 예약")
+        void complete_InvalidObject_Discards() {
+            // Given
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(MAX_BYTES + 1, "image/png", CONTENT_HASH));
+
+            // When
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> presignedUploadService.complete(OBJECT_KEY));
+
+            // Then
+            assertEquals(CustomResponseStatus.BAD_REQUEST, exception.getStatus());
+            verify(s3DeletionQueue).discard(IMAGE_URL);
+            verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("체크섬 없이 올라온 객체는 거절")
+        void complete_MissingChecksum_Rejected() {
+            // Given
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(512L, "image/png", null));
+
+            // When & Then
+            assertThrows(CustomException.class, () -> presignedUploadService.complete(OBJECT_KEY));
+            verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("아직 업로드되지 않았으면 NOT_FOUND")
+        void complete_NotUploaded_NotFound() {
+            // Given
+            when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+            // When
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> presignedUploadService.complete(OBJECT_KEY));
+
+            // Then
+            assertEquals(CustomResponseStatus.NOT_FOUND, exception.getStatus());
+            verifyNoInteractions(s3DeletionQueue);
+        }
+
+        @Test
+        @DisplayName("이미 검증된 내용이면 HEAD 없이 URL 반환")
+        void complete_AlreadyStored_SkipsHead() {
+            // Given
+            when(imageObjectIndex.isStored(CONTENT_HASH)).thenReturn(true);
+
+            // When & Then
+            assertEquals(IMAGE_URL, presignedUploadService.complete(OBJECT_KEY));
+            verifyNoInteractions(s3Client);
+        }
+
+        private HeadObjectResponse head(long contentLength, String contentType, String contentHash) {
+            return HeadObjectResponse.builder()
+                    .contentLength(contentLength)
+                    .contentType(contentType)
+                    .checksumSHA256(contentHash == null ? null : ContentHash.hexToBase64(contentHash))
+                    .build();
+        }
+    }
+
+    @Test
+    @DisplayName("내용 주소 키가 아니면 완료 요청을 거절")
+    void complete_ForeignKey_Rejected() {
+        // Given
+        when(s3Service.contentHashOf("uuid_image.png")).thenReturn(null);
+
+        // When & Then
+        assertThrows(CustomException.class, () -> presignedUploadService.complete("uuid_image.png"));
+        verifyNoInteractions(s3Client, imageObjectIndex);
+    }
+
+    @Nested
+    @DisplayName("게시글/프로필 연결")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("검증된 이미지면 참조를 얻고 URL 반환")
+        void acquire_Verified_ReturnsUrl() {
+            // Given
+            when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
+            when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn(OBJECT_KEY);
+            when(imageObjectIndex.acquireByObjectKey(OBJECT_KEY)).thenReturn(true);
+
+            // When & Then
+            assertEquals(IMAGE_URL, presignedUploadService.acquire(IMAGE_URL));
+        }
+
+        @Test
+        @DisplayName("완료 검증을 거치지 않은 URL은 거절")
+        void acquire_Unverified_Rejected() {
+            // Given
+            when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
+            when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn(OBJECT_KEY);
+            when(imageObjectIndex.acquireByObjectKey(OBJECT_KEY)).thenReturn(false);
+
+            // When & Then
+            assertThrows(CustomException.class, () -> presignedUploadService.acquire(IMAGE_URL));
+        }
+
+        @Test
+        @DisplayName("외부 URL은 거절")
+        void acquire_ForeignUrl_Rejected() {
+            // Given
+            when(s3Service.isValidS3Url("https://example.com/a.png")).thenReturn(false);
+
+            // When & Then
+            assertThrows(CustomException.class, () -> presignedUploadService.acquire("https://example.com/a.png"));
+            verifyNoInteractions(imageObjectIndex);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import com.amumal.community.global.s3.repository.S3DeletionOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionQueueTest {
+
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/uuid_image.png";
+
+    @Mock
+    private S3DeletionOutboxRepository outboxRepository;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+    @InjectMocks
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Test
+    @DisplayName("마지막 참조를 해제하면 키로 변환해 outbox에 기록")
+    void enqueue_LastReference_SavesObjectKey() {
+        // Given
+        when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
+        when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn("uuid_image.png");
+        when(imageObjectIndex.release("uuid_image.png")).thenReturn(true);
+
+        // When
+        boolean scheduled = s3DeletionQueue.enqueue(IMAGE_URL);
+
+        // Then
+        assertTrue(scheduled);
+        ArgumentCaptor<S3DeletionOutbox> captor = ArgumentCaptor.forClass(S3DeletionOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals("uuid_image.png", captor.getValue().getObjectKey());
+        assertEquals(0, captor.getValue().getAttempts());
+        assertNotNull(captor.getValue().getNextAttemptAt());
+        verifyNoMoreInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 아직 참조 중이면 참조 수만 줄이고 기록하지 않음")
+    void enqueue_StillReferenced_NotSaved() {
+        // Given
+        when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
+        when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn("uuid_image.png");
+        when(imageObjectIndex.release("uuid_image.png")).thenReturn(false);
+
+        // When
+        boolean scheduled = s3DeletionQueue.enqueue(IMAGE_URL);
+
+        // Then
+        assertFalse(scheduled);
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    @DisplayName("외부 URL은 기록하지 않음")
+    void enqueue_ForeignUrl_Ignored() {
+        // Given
+        when(s3Service.isValidS3Url("invalid_url")).thenReturn(false);
+
+        // When
+        boolean scheduled = s3DeletionQueue.enqueue("invalid_url");
+
+        // Then
+        assertFalse(scheduled);
+        verifyNoInteractions(outboxRepository, imageObjectIndex);
+    }
+
+    @Test
+    @DisplayName("discard는 참조 수를 건드리지 않고 바로 기록")
+    void discard_SavesWithoutReleasing() {
+        // Given
+        when(s3Service.isValidS3Url(IMAGE_URL)).thenReturn(true);
+        when(s3Service.extractKeyFromUrl(IMAGE_URL)).thenReturn("uuid_image.png");
+
+        // When
+        s3DeletionQueue.discard(IMAGE_URL);
+
+        // Then
+        verify(outboxRepository).save(argThat(entry -> entry.getObjectKey().equals("uuid_image.png")));
+        verifyNoInteractions(imageObjectIndex);
+    }
+
+    @Test
+    @DisplayName("discardAfter는 지정한 시각 이후에 처리되도록 기록")
+    void discardAfter_SavesDeferredEntry() {
+        // Given
+        LocalDateTime notBefore = LocalDateTime.now().plusDays(1);
+
+        // When
+        s3DeletionQueue.discardAfter("images/abc", notBefore);
+
+        // Then
+        ArgumentCaptor<S3DeletionOutbox> captor = ArgumentCaptor.forClass(S3DeletionOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals("images/abc", captor.getValue().getObjectKey());
+        assertEquals(notBefore, captor.getValue().getNextAttemptAt());
+        verifyNoInteractions(imageObjectIndex);
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 기록")
+    void enqueueKeys_SavesAll() {
+        // When
+        s3DeletionQueue.enqueueKeys(List.of("a.jpg", "b.jpg"));
+
+        // Then
+        verify(outboxRepository).saveAll(argThat((Iterable<S3DeletionOutbox> entries) -> {
+            List<String> keys = new ArrayList<>();
+            entries.forEach(entry -> keys.add(entry.getObjectKey()));
+            return keys.equals(List.of("a.jpg", "b.jpg"));
+        }));
+    }
+}
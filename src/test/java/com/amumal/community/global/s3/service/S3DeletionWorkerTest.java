@@ -0,0 +1,131 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.s3.entity.S3DeletionOutbox;
+import com.amumal.community.global.s3.repository.S3DeletionOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionWorkerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private S3DeletionOutboxRepository outboxRepository;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+
+    private S3DeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new S3DeletionWorker(outboxRepository, s3Service, imageObjectIndex, BATCH_SIZE, MAX_ATTEMPTS, 1000);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차 있으면 다음 배치까지 이어서 삭제")
+    void drain_DeletesBatchesUntilExhausted() {
+        // Given
+        when(outboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(entry(1L, "a.jpg", 0), entry(2L, "b.jpg", 0)))
+                .thenReturn(List.of(entry(3L, "c.jpg", 0)));
+        when(s3Service.deleteObjects(anyList())).thenReturn(List.of());
+
+        // When
+        worker.drain();
+
+        // Then
+        verify(s3Service).deleteObjects(List.of("a.jpg", "b.jpg"));
+        verify(s3Service).deleteObjects(List.of("c.jpg"));
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+        verify(outboxRepository).deleteByIds(List.of(3L));
+        verify(outboxRepository, never()).postpone(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("일부 키만 실패하면 실패한 항목만 재시도로 미루고 이번 주기는 중단")
+    void drain_PartialFailure_PostponesFailedKeys() {
+        // Given
+        when(outboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(entry(1L, "a.jpg", 0), entry(2L, "b.jpg", 0)));
+        when(s3Service.deleteObjects(List.of("a.jpg", "b.jpg"))).thenReturn(List.of("b.jpg"));
+
+        // When
+        worker.drain();
+
+        // Then
+        verify(outboxRepository).deleteByIds(List.of(1L));
+        verify(outboxRepository).postpone(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(outboxRepository, times(1)).findDue(any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 전체를 미루고, 시도 횟수를 다 쓴 항목은 포기")
+    void drain_RequestFailure_PostponesOrGivesUp() {
+        // Given
+        when(outboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(entry(1L, "a.jpg", 0), entry(2L, "b.jpg", MAX_ATTEMPTS - 1)));
+        when(s3Service.deleteObjects(anyList())).thenThrow(new RuntimeException("S3 unavailable"));
+
+        // When
+        worker.drain();
+
+        // Then
+        verify(outboxRepository).postpone(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxRepository).deleteByIds(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("예약 후 다시 참조된 객체와 그 변환본은 삭제하지 않고 항목만 정리")
+    void drain_ReferencedAgain_SkipsDeletion() {
+        // Given
+        when(outboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(entry(1L, "images/abc", 0), entry(2L, "renditions/thumb/images/abc.jpg", 0)));
+        when(imageObjectIndex.findReferencedKeys(Set.of("images/abc"))).thenReturn(Set.of("images/abc"));
+
+        // When
+        worker.drain();
+
+        // Then
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("처리할 항목이 없으면 S3를 호출하지 않음")
+    void drain_Empty_DoesNothing() {
+        // Given
+        when(outboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        worker.drain();
+
+        // Then
+        verifyNoInteractions(s3Service);
+    }
+
+    private S3DeletionOutbox entry(Long id, String key, int attempts) {
+        return S3DeletionOutbox.builder()
+                .id(id)
+                .objectKey(key)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,24 +1,38 @@
 package com.amumal.community.global.s3.service;
 
+import com.amumal.community.global.util.ContentHash;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +42,10 @@ class S3ServiceTest {
     private final String TEST_REGION = "ap-northeast-2";
     @Mock
     private S3Client s3Client;
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
     @InjectMocks
     private S3Service s3Service;
     private MockMultipartFile testImage;
@@ -66,13 +84,111 @@ class S3ServiceTest {
     void uploadImage_ShouldPropagateIOException() throws IOException {
         // Given
         MultipartFile mockFile = mock(MultipartFile.class);
-        when(mockFile.getOriginalFilename()).thenReturn("test.jpg");
         when(mockFile.getContentType()).thenReturn("image/jpeg");
         when(mockFile.getInputStream()).thenThrow(new IOException("Test IO Exception"));
 
         // Then
         assertThrows(IOException.class, () -> s3Service.uploadImage(mockFile));
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verifyNoInteractions(imageObjectIndex);
+    }
+
+    @Test
+    @DisplayName("처음 올라오는 내용은 해시 키로 업로드하고 참조 없이 등록")
+    void uploadImage_NewContent_ShouldPutWithContentKey() throws IOException {
+        // Given
+        String contentHash = ContentHash.sha256Hex(testImage.getInputStream());
+        when(imageObjectIndex.isStored(contentHash)).thenReturn(false);
+
+        // When
+        String url = s3Service.uploadImage(testImage);
+
+        // Then
+        assertTrue(url.endsWith("/images/" + contentHash));
+        verify(s3Client).putObject(argThat((PutObjectRequest request) ->
+                request.key().equals("images/" + contentHash)), any(RequestBody.class));
+        verify(imageObjectIndex).registerVerified(contentHash, "images/" + contentHash);
+        // 참조는 이미지를 연결하는 쪽이 얻으므로 여기서는 늘리지 않음
+        verify(imageObjectIndex, never()).acquire(anyString(), anyString());
+        verify(imageObjectIndex, never()).acquireExisting(anyString());
+    }
+
+    @Test
+    @DisplayName("본문은 한 번만 읽어 해시와 업로드에 함께 사용")
+    void uploadImage_ReadsBodyOnce() throws IOException {
+        // Given
+        MultipartFile file = spy(testImage);
+
+        // When
+        s3Service.uploadImage(file);
+
+        // Then
+        verify(file, times(1)).getInputStream();
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("이미 올라가 있는 내용이면 PUT 없이 기존 URL 반환")
+    void uploadImage_DuplicateContent_ShouldSkipPut() throws IOException {
+        // Given
+        String contentHash = ContentHash.sha256Hex(testImage.getInputStream());
+        when(imageObjectIndex.isStored(contentHash)).thenReturn(true);
+
+        // When
+        String url = s3Service.uploadImage(testImage);
+
+        // Then
+        assertEquals("https://" + TEST_BUCKET + ".s3." + TEST_REGION + ".amazonaws.com/images/" + contentHash, url);
+        verifyNoInteractions(s3Client);
+        verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("파일 비동기 업로드 완료 시 공개 URL 반환")
+    void uploadFileAsync_ShouldReturnPublicUrlOnCompletion(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path stagedFile = Files.write(tempDir.resolve("staged.upload"), "test image content".getBytes());
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        // When
+        String url = s3Service.uploadFileAsync(stagedFile, "key.jpg", "image/jpeg").join();
+
+        // Then
+        assertEquals("https://" + TEST_BUCKET + ".s3." + TEST_REGION + ".amazonaws.com/key.jpg", url);
+        verify(s3AsyncClient).putObject(argThat((PutObjectRequest request) ->
+                request.bucket().equals(TEST_BUCKET) && request.key().equals("key.jpg")), any(AsyncRequestBody.class));
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    @DisplayName("여러 객체를 DeleteObjects 한 번으로 삭제하고 실패한 키만 반환")
+    void deleteObjects_ShouldSendSingleBatchAndReturnFailedKeys() {
+        // Given
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("b.jpg").code("AccessDenied").build())
+                .build());
+
+        // When
+        List<String> failed = s3Service.deleteObjects(List.of("a.jpg", "b.jpg"));
+
+        // Then
+        assertEquals(List.of("b.jpg"), failed);
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+                request.bucket().equals(TEST_BUCKET)
+                        && request.delete().quiet()
+                        && request.delete().objects().size() == 2));
+    }
+
+    @Test
+    @DisplayName("1000개를 넘는 키는 한 번에 삭제할 수 없음")
+    void deleteObjects_OverBatchLimit_ShouldThrow() {
+        // Given
+        List<String> keys = Collections.nCopies(S3Service.MAX_DELETE_BATCH + 1, "a.jpg");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> s3Service.deleteObjects(keys));
+        verifyNoInteractions(s3Client);
     }
 
     @Test
@@ -191,4 +307,17 @@ class S3ServiceTest {
         // Then
         assertEquals("test-image.jpg", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내용 주소 키에서만 해시를 추출")
+    void contentHashOf_OnlyForContentKeys() {
+        // Given
+        String contentHash = "a".repeat(64);
+
+        // When & Then
+        assertEquals(contentHash, s3Service.contentHashOf("images/" + contentHash));
+        assertNull(s3Service.contentHashOf("uuid_test-image.jpg"));
+        assertNull(s3Service.contentHashOf("images/../" + contentHash));
+        assertNull(s3Service.contentHashOf(null));
+    }
+}
@@ -0,0 +1,242 @@
+package com.amumal.community.global.s3.service;
+
+import com.amumal.community.global.enums.CustomResponseStatus;
+import com.amumal.community.global.exception.CustomException;
+import com.amumal.community.global.util.ContentHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3StreamUploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String STAGING_KEY = "uuid_image.png";
+    private static final String URL_PREFIX = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final String UPLOAD_ID = "upload-1";
+    private static final int PART_SIZE = 8;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+
+    private S3StreamUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        // part 크기 8바이트, 동시 스트림 1개
+        uploader = new S3StreamUploader(s3Client, s3Service, s3DeletionQueue, imageObjectIndex,
+                BUCKET, PART_SIZE, 1, 0, 86400);
+        lenient().when(s3Service.createObjectKey("image.png")).thenReturn(STAGING_KEY);
+        lenient().when(s3Service.createContentKey(anyString())).thenAnswer(inv -> "images/" + inv.getArgument(0));
+        lenient().when(s3Service.getPublicUrl(anyString())).thenAnswer(inv -> URL_PREFIX + inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("첫 part를 채우지 못하는 작은 본문은 내용 주소 키로 단일 PUT 후 참조 없이 등록")
+    void upload_smallBody_singlePut() throws IOException {
+        // Given
+        byte[] body = "small".getBytes();
+        String hash = ContentHash.sha256Hex(new ByteArrayInputStream(body));
+        String key = "images/" + hash;
+
+        // When
+        String url = uploader.upload(new ByteArrayInputStream(body), "image.png", "image/png", 100);
+
+        // Then
+        assertEquals(URL_PREFIX + key, url);
+        ArgumentCaptor<PutObjectRequest> putCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(putCaptor.capture(), any(RequestBody.class));
+        assertEquals(key, putCaptor.getValue().key());
+        verify(s3DeletionQueue).discardAfter(eq(key), any(LocalDateTime.class));
+        verify(imageObjectIndex).registerVerified(hash, key);
+        verify(imageObjectIndex, never()).acquire(anyString(), anyString());
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용이면 PUT 없이 기존 URL 반환")
+    void upload_smallBody_alreadyStored_skipsPut() throws IOException {
+        // Given
+        byte[] body = "small".getBytes();
+        String hash = ContentHash.sha256Hex(new ByteArrayInputStream(body));
+        when(imageObjectIndex.isStored(hash)).thenReturn(true);
+
+        // When
+        String url = uploader.upload(new ByteArrayInputStream(body), "image.png", "image/png", 100);
+
+        // Then
+        assertEquals(URL_PREFIX + "images/" + hash, url);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+        verifyNoInteractions(s3DeletionQueue);
+    }
+
+    @Test
+    @DisplayName("큰 본문은 part 크기 단위로 읽는 즉시 multipart upload로 전송하고 내용 주소 키로 복사")
+    void upload_largeBody_streamsParts() throws IOException {
+        // Given: 20바이트 -> 8 + 8 + 4
+        byte[] body = new byte[20];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        String hash = ContentHash.sha256Hex(new ByteArrayInputStream(body));
+        String key = "images/" + hash;
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        AtomicInteger etag = new AtomicInteger();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder().eTag("etag-" + etag.incrementAndGet()).build());
+
+        // 한 번에 3바이트씩만 도착하는 느린 스트림
+        InputStream slowStream = new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+
+        // When
+        String url = uploader.upload(slowStream, "image.png", "image/png", 100);
+
+        // Then
+        assertEquals(URL_PREFIX + key, url);
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+        List<UploadPartRequest> parts = partCaptor.getAllValues();
+        assertEquals(List.of(8L, 8L, 4L), parts.stream().map(UploadPartRequest::contentLength).toList());
+        assertEquals(List.of(1, 2, 3), parts.stream().map(UploadPartRequest::partNumber).toList());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        assertEquals(3, completeCaptor.getValue().multipartUpload().parts().size());
+        assertEquals(STAGING_KEY, completeCaptor.getValue().key());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+
+        // 전체 본문의 해시로 복사하고 등록한 뒤 임시 키 삭제
+        ArgumentCaptor<CopyObjectRequest> copyCaptor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(s3Client).copyObject(copyCaptor.capture());
+        assertEquals(STAGING_KEY, copyCaptor.getValue().sourceKey());
+        assertEquals(key, copyCaptor.getValue().destinationKey());
+        verify(imageObjectIndex).registerVerified(hash, key);
+        verify(s3Service).deleteObject(STAGING_KEY);
+        verify(s3DeletionQueue).discardAfter(eq(STAGING_KEY), any(LocalDateTime.class));
+        verify(s3DeletionQueue).discardAfter(eq(key), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("multipart로 올린 내용이 이미 저장되어 있으면 복사 없이 임시 키만 삭제")
+    void upload_largeBody_alreadyStored_deletesStaging() throws IOException {
+        // Given
+        when(imageObjectIndex.isStored(anyString())).thenReturn(true);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // When
+        uploader.upload(new ByteArrayInputStream(new byte[20]), "image.png", "image/png", 100);
+
+        // Then
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+        verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+        verify(s3Service).deleteObject(STAGING_KEY);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 진행 중인 multipart upload를 취소")
+    void upload_exceedsMax_aborts() {
+        // Given
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // When
+        CustomException exception = assertThrows(CustomException.class,
+                () -> uploader.upload(new ByteArrayInputStream(new byte[20]), "image.png", "image/png", 12));
+
+        // Then
+        assertEquals(CustomResponseStatus.PAYLOAD_TOO_LARGE, exception.getStatus());
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(imageObjectIndex, never()).registerVerified(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("동시 스트림 수를 넘으면 버퍼를 할당하지 않고 거절")
+    void upload_tooManyStreams_rejected() throws Exception {
+        // Given: 첫 업로드가 본문을 기다리며 스트림 슬롯을 점유
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream waitingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+        Thread first = new Thread(() -> {
+            try {
+                uploader.upload(waitingStream, "image.png", "image/png", 100);
+            } catch (Exception ignored) {
+                // 빈 본문이므로 BAD_REQUEST로 끝남
+            }
+        });
+        first.start();
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        // When
+        CustomException exception = assertThrows(CustomException.class,
+                () -> uploader.upload(new ByteArrayInputStream("small".getBytes()), "image.png", "image/png", 100));
+
+        // Then
+        assertEquals(CustomResponseStatus.TOO_MANY_REQUESTS, exception.getStatus());
+        release.countDown();
+        first.join();
+    }
+}
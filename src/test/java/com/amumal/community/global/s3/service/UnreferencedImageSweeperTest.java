@@ -0,0 +1,75 @@
+package com.amumal.community.global.s3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreferencedImageSweeperTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long GRACE_SECONDS = 3600;
+
+    @Mock
+    private ImageObjectIndex imageObjectIndex;
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UnreferencedImageSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new UnreferencedImageSweeper(imageObjectIndex, s3DeletionQueue, transactionTemplate,
+                GRACE_SECONDS, BATCH_SIZE);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 참조 0 행을 청크 단위로 지우고 S3 삭제를 예약")
+    void sweep_RemovesChunksAndEnqueuesKeys() {
+        // Given
+        when(imageObjectIndex.removeUnreferenced(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(List.of("images/a", "images/b"))
+                .thenReturn(List.of("images/c"));
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(imageObjectIndex, times(2)).removeUnreferenced(cutoff.capture(), eq(BATCH_SIZE));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusSeconds(GRACE_SECONDS - 60)));
+        verify(s3DeletionQueue).enqueueKeys(List.of("images/a", "images/b"));
+        verify(s3DeletionQueue).enqueueKeys(List.of("images/c"));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("정리할 행이 없으면 삭제를 예약하지 않음")
+    void sweep_NothingToRemove_NoEnqueue() {
+        // Given
+        when(imageObjectIndex.removeUnreferenced(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(List.of());
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verifyNoInteractions(s3DeletionQueue);
+    }
+}
@@ -3,6 +3,7 @@ package com.amumal.community.global.util;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -221,4 +222,42 @@ class JwtUtilTest {
         // 만료된 토큰에 대해 extractUsername 호출 시 ExpiredJwtException이 발생해야 함
         assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractUsername(token));
     }
+
+    @Test
+    @DisplayName("parse는 한 번의 검증으로 사용자 ID, 이메일, 만료일을 반환")
+    void parse_ShouldReturnVerifiedClaims() {
+        // Given
+        String token = jwtUtil.generateToken(USER_ID, EMAIL);
+
+        // When
+        JwtUtil.JwtClaims claims = jwtUtil.parse(token);
+
+        // Then
+        assertEquals(USER_ID, claims.userId());
+        assertEquals(EMAIL, claims.email());
+        assertTrue(claims.expiration().after(new Date()));
+    }
+
+    @Test
+    @DisplayName("parse는 만료된 토큰에 대해 예외 발생")
+    void parse_WithExpiredToken_ShouldThrowException() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(jwtUtil, "tokenValidity", 1); // 1ms
+        String token = jwtUtil.generateToken(USER_ID, EMAIL);
+        Thread.sleep(10);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("parse는 다른 키로 서명된 토큰에 대해 예외 발생")
+    void parse_WithForeignSignature_ShouldThrowException() {
+        // Given
+        JwtUtil otherJwtUtil = new JwtUtil(SECRET_KEY + "Other", TOKEN_VALIDITY, REFRESH_TOKEN_VALIDITY);
+        String foreignToken = otherJwtUtil.generateToken(USER_ID, EMAIL);
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtUtil.parse(foreignToken));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+-- Flyway 도입 전 운영 DB 재현: ddl-auto=update(MySQLDialect)가 만들던 스키마와 제약 이름 그대로
+create table users (
+    user_id bigint not null auto_increment,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    updated_at datetime(6),
+    email varchar(255) not null,
+    nick_name varchar(10) not null,
+    password varchar(255) not null,
+    profile_image LONGTEXT not null,
+    primary key (user_id)
+);
+
+create table posts (
+    post_id bigint not null auto_increment,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    updated_at datetime(6),
+    contents longtext not null,
+    img LONGTEXT,
+    title varchar(30) not null,
+    view integer not null,
+    user_id bigint not null,
+    primary key (post_id)
+);
+
+create table comments (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    updated_at datetime(6),
+    content TEXT not null,
+    post_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create table likes (
+    like_id bigint not null auto_increment,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    updated_at datetime(6),
+    post_id bigint not null,
+    user_id bigint not null,
+    primary key (like_id)
+);
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UKppxb8ndr4wy9bn1mqcb3bo2i5 unique (nick_name);
+alter table posts add constraint FK5lidm6cqbc7u4xhqpxm898qme foreign key (user_id) references users (user_id);
+alter table comments add constraint FKh4c7lvsc298whoyd4w9ta25cr foreign key (post_id) references posts (post_id);
+alter table comments add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (user_id);
+alter table likes add constraint FKry8tnr4x2vwemv2bb0h5hyl0x foreign key (post_id) references posts (post_id);
+alter table likes add constraint FKnvx9seeqqyy71bij291pwiwrg foreign key (user_id) references users (user_id);
+
+-- 기존 데이터: 게시글 1은 좋아요 2개, 댓글 2개(1개 삭제됨)와 이미지, 게시글 2는 좋아요 1개
+insert into users (user_id, email, nick_name, password, profile_image, created_at, updated_at)
+values (1, 'writer@test.com', 'writer', 'pw', '', now(), now()),
+       (2, 'reader@test.com', 'reader', 'pw', '', now(), now());
+
+insert into posts (post_id, user_id, title, contents, img, view, created_at, updated_at)
+values (1, 1, 'first', 'content', 'https://bucket.s3.ap-northeast-2.amazonaws.com/uuid_image.png', 5, now(), now()),
+       (2, 2, 'second', 'content', null, 0, now(), now());
+
+insert into comments (id, user_id, post_id, content, created_at, updated_at, deleted_at)
+values (1, 2, 1, 'comment', now(), now(), null),
+       (2, 1, 1, 'deleted comment', now(), now(), now());
+
+insert into likes (like_id, post_id, user_id, created_at, updated_at)
+values (1, 1, 1, now(), now()),
+       (2, 1, 2, now(), now()),
+       (3, 2, 1, now(), now());